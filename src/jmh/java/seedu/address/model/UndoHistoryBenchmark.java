@@ -0,0 +1,141 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures committing an edit of one person, and undoing or redoing a command, in a book of 50k persons, with the
+ * history kept as snapshots or as deltas.
+ * Undo and redo are measured one command at a time, with the history moved back to a state where there is a command
+ * to undo or redo before each, outside of the measurement.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UndoHistoryBenchmark {
+
+    private static final int PERSON_COUNT = 50000;
+    private static final int HISTORY_SIZE = 100;
+
+    /**
+     * A book of {@code PERSON_COUNT} persons with {@code HISTORY_SIZE} committed edits.
+     */
+    @State(Scope.Benchmark)
+    public static class Book {
+
+        @Param({"SNAPSHOT", "DELTA"})
+        public UndoHistoryMode mode;
+
+        VersionedAddressBook addressBook;
+        int edits;
+
+        @Setup
+        public void setUp() {
+            List<Person> persons = new ArrayList<>();
+            for (int i = 0; i < PERSON_COUNT; i++) {
+                persons.add(createPerson(i, "Blk " + i));
+            }
+            AddressBook initialState = new AddressBook();
+            initialState.setPersons(persons);
+            addressBook = new VersionedAddressBook(initialState, mode);
+            addressBook.setHistoryLimits(1000, Long.MAX_VALUE);
+            for (int i = 0; i < HISTORY_SIZE; i++) {
+                editAndCommit();
+            }
+        }
+
+        /**
+         * Replaces one person with a copy at a new address, then commits the change, as {@code EditCommand} does.
+         */
+        void editAndCommit() {
+            int index = edits++ % PERSON_COUNT;
+            Person target = addressBook.getPersonList().get(index);
+            addressBook.setPerson(target, createPerson(index, "Blk " + index + " #" + edits));
+            addressBook.commit("edit " + index);
+        }
+    }
+
+    /**
+     * A book that always has a command to undo, as every undone command is redone once none is left.
+     */
+    public static class UndoableBook extends Book {
+        @Setup(Level.Invocation)
+        public void ensureUndoable() {
+            while (!addressBook.canUndo() && addressBook.canRedo()) {
+                addressBook.redo();
+            }
+        }
+    }
+
+    /**
+     * A book that always has a command to redo, as every command is undone once none is left to redo.
+     */
+    public static class RedoableBook extends Book {
+        @Setup(Level.Invocation)
+        public void ensureRedoable() {
+            while (!addressBook.canRedo() && addressBook.canUndo()) {
+                addressBook.undo();
+            }
+        }
+    }
+
+    @Benchmark
+    public VersionedAddressBook commit(Book book) {
+        book.editAndCommit();
+        return book.addressBook;
+    }
+
+    @Benchmark
+    public VersionedAddressBook undo(UndoableBook book) {
+        book.addressBook.undo();
+        return book.addressBook;
+    }
+
+    @Benchmark
+    public VersionedAddressBook redo(RedoableBook book) {
+        book.addressBook.redo();
+        return book.addressBook;
+    }
+
+    private static Person createPerson(int number, String address) {
+        return new Person(new IdentificationNumber("S", number), new Name("Student " + toLetters(number)),
+                new Role("student"), new Phone(String.valueOf(80000000 + number)),
+                new Email("s" + number + "@example.com"), new Address(address), new HashSet<Tag>());
+    }
+
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+
+}
@@ -0,0 +1,96 @@
+package seedu.address.model.lesson;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures a full roll call, marking every student of a class present for today, one mark at a time as
+ * {@code MarkCommand} does, in a lesson that already holds attendance for many session dates.
+ * Each marked lesson is hashed, as {@code LessonCascadeUpdater} does when it puts the lesson into the lesson set
+ * of every enrolled student.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AttendanceMarkBenchmark {
+
+    private static final int STUDENT_COUNT = 30;
+    private static final int SESSION_COUNT = 200;
+
+    private final LocalDate today = LocalDate.of(2025, 1, 6).plusWeeks(SESSION_COUNT);
+    private final List<IdentificationNumber> students = new ArrayList<>();
+    private Lesson lesson;
+
+    /**
+     * Creates a lesson with {@code SESSION_COUNT} weekly session dates, each with every student present.
+     */
+    @Setup
+    public void setUp() {
+        for (int i = 0; i < STUDENT_COUNT; i++) {
+            students.add(new IdentificationNumber("S", i));
+        }
+        Map<LocalDate, Set<IdentificationNumber>> attendance = new HashMap<>();
+        for (int week = 0; week < SESSION_COUNT; week++) {
+            attendance.put(LocalDate.of(2025, 1, 6).plusWeeks(week), new HashSet<>(students));
+        }
+        lesson = new Lesson(new ClassName("M2a"), new Day("Monday"), new Time("1000-1200"), new Tutor("T0000001"),
+                new HashSet<>(students), attendance, new HashSet<Tag>());
+    }
+
+    /**
+     * Marks each student by deriving today's record from the lesson's current attendance.
+     */
+    @Benchmark
+    public Lesson rollCall_copyOnWrite(Blackhole blackhole) {
+        Lesson current = lesson;
+        for (IdentificationNumber student : students) {
+            current = new Lesson(current.getClassName(), current.getDay(), current.getTime(), current.getTutor(),
+                    current.getStudents(), current.getAttendanceRecord().withPresent(today, student),
+                    current.getTags());
+            blackhole.consume(current.hashCode());
+        }
+        return current;
+    }
+
+    /**
+     * Marks each student by copying every date's record into a new map, as marking was previously done.
+     */
+    @Benchmark
+    public Lesson rollCall_mapCopy(Blackhole blackhole) {
+        Lesson current = lesson;
+        for (IdentificationNumber student : students) {
+            Map<LocalDate, Set<IdentificationNumber>> attendance = new HashMap<>();
+            current.getAttendance().forEach((date, present) -> attendance.put(date, new HashSet<>(present)));
+            attendance.computeIfAbsent(today, unused -> new HashSet<>()).add(student);
+            current = new Lesson(current.getClassName(), current.getDay(), current.getTime(), current.getTutor(),
+                    current.getStudents(), attendance, current.getTags());
+            blackhole.consume(current.hashCode());
+        }
+        return current;
+    }
+
+}
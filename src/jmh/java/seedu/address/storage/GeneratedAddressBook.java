@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.lesson.Day;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.lesson.Tutor;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates address books for the storage benchmarks, with every class full of students and attendance taken at
+ * each of its weekly sessions.
+ */
+final class GeneratedAddressBook {
+
+    private static final int LESSONS_PER_TUTOR = 10;
+    private static final LocalDate FIRST_SESSION = LocalDate.of(2025, 1, 6);
+
+    private GeneratedAddressBook() {}
+
+    /**
+     * Returns an address book of {@code lessonCount} lessons, each with {@code studentsPerLesson} students of its own
+     * who were all present at each of {@code sessionCount} sessions, and one tutor for every ten lessons.
+     */
+    static AddressBook generate(int lessonCount, int studentsPerLesson, int sessionCount) {
+        List<Lesson> lessons = new ArrayList<>();
+        for (int i = 0; i < lessonCount; i++) {
+            Set<IdentificationNumber> students = new HashSet<>();
+            for (int j = 0; j < studentsPerLesson; j++) {
+                students.add(new IdentificationNumber("S", i * studentsPerLesson + j));
+            }
+            Map<LocalDate, Set<IdentificationNumber>> attendance = new HashMap<>();
+            for (int week = 0; week < sessionCount; week++) {
+                attendance.put(FIRST_SESSION.plusWeeks(week), students);
+            }
+            lessons.add(new Lesson(getClassName(i), new Day(DayOfWeek.of(i % 7 + 1).name()),
+                    new Time("1000-1200"), new Tutor(new IdentificationNumber("T", i / LESSONS_PER_TUTOR).getValue()),
+                    students, attendance, new HashSet<Tag>()));
+        }
+
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < lessonCount; i += LESSONS_PER_TUTOR) {
+            Set<Lesson> taught = new HashSet<>(lessons.subList(i, Math.min(i + LESSONS_PER_TUTOR, lessonCount)));
+            persons.add(createPerson(new IdentificationNumber("T", i / LESSONS_PER_TUTOR), "tutor", taught));
+        }
+        for (int i = 0; i < lessonCount * studentsPerLesson; i++) {
+            Set<Lesson> enrolled = Set.of(lessons.get(i / studentsPerLesson));
+            persons.add(createPerson(new IdentificationNumber("S", i), "student", enrolled));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setLessons(lessons);
+        addressBook.setPersons(persons);
+        return addressBook;
+    }
+
+    private static Person createPerson(IdentificationNumber id, String role, Set<Lesson> lessons) {
+        int number = Integer.parseInt(id.getValue().substring(1));
+        return new Person(id, new Name(role + " " + toLetters(number)), new Role(role), lessons,
+                new Phone(String.valueOf(80000000 + number)), new Email(id.getValue().toLowerCase() + "@example.com"),
+                new Address("Blk " + number + " Clementi Road"), new HashSet<Tag>());
+    }
+
+    /**
+     * Returns the {@code index}th class name, from A0a to Z9z.
+     */
+    private static ClassName getClassName(int index) {
+        return new ClassName("" + (char) ('A' + index / 260) + index / 26 % 10 + (char) ('a' + index % 26));
+    }
+
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+
+}
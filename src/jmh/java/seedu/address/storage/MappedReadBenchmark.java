@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Measures reading the data files of a generated address book through {@code FileUtil}, and loading them with
+ * {@code JsonAddressBookStorage} and {@code BinaryAddressBookStorage}, with the mapping threshold set at the size of
+ * each file, so that it is mapped into memory, or just above it, so that it is read onto the heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappedReadBenchmark {
+
+    private static final int LESSON_COUNT = 200;
+    private static final int STUDENTS_PER_LESSON = 30;
+    private static final int SESSION_COUNT = 40;
+
+    /** Whether each file is at the mapping threshold, or below it. */
+    @Param({"MAPPED", "BUFFERED"})
+    public String mode;
+
+    private Path directory;
+    private Path jsonFile;
+    private long jsonThreshold;
+    private JsonAddressBookStorage jsonStorage;
+    private BinaryAddressBookStorage binaryStorage;
+
+    /**
+     * Saves a generated address book in each format, then sets the mapping threshold of each storage from the size
+     * of its file.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("mapped-read-benchmark");
+        ReadOnlyAddressBook addressBook =
+                GeneratedAddressBook.generate(LESSON_COUNT, STUDENTS_PER_LESSON, SESSION_COUNT);
+        jsonFile = directory.resolve("rollcall.json");
+        Path binaryFile = directory.resolve("rollcall.rcab");
+        new JsonAddressBookStorage(jsonFile).saveAddressBook(addressBook);
+        new BinaryAddressBookStorage(binaryFile).saveAddressBook(addressBook);
+
+        jsonThreshold = getThreshold(jsonFile);
+        jsonStorage = new JsonAddressBookStorage(jsonFile, false, jsonThreshold);
+        binaryStorage = new BinaryAddressBookStorage(binaryFile, getThreshold(binaryFile));
+    }
+
+    private long getThreshold(Path file) throws IOException {
+        long size = Files.size(file);
+        return mode.equals("MAPPED") ? size : size + 1;
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Reads the json file into a buffer, then reads every byte of it, as a mapped file is only paged in once read.
+     */
+    @Benchmark
+    public long readToBuffer() throws IOException {
+        ByteBuffer buffer = FileUtil.readToBuffer(jsonFile, jsonThreshold);
+        long sum = 0;
+        while (buffer.remaining() >= Long.BYTES) {
+            sum += buffer.getLong();
+        }
+        while (buffer.hasRemaining()) {
+            sum += buffer.get();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long newInputStream() throws IOException {
+        byte[] chunk = new byte[8192];
+        long total = 0;
+        try (InputStream stream = FileUtil.newInputStream(jsonFile, jsonThreshold)) {
+            for (int read = stream.read(chunk); read >= 0; read = stream.read(chunk)) {
+                total += read;
+            }
+        }
+        return total;
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load_json() throws DataLoadingException {
+        return jsonStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load_binary() throws DataLoadingException {
+        return binaryStorage.readAddressBook().get();
+    }
+
+}
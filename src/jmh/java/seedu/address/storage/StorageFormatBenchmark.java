@@ -0,0 +1,89 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Measures saving and loading the same generated address book with {@code JsonAddressBookStorage} and with
+ * {@code BinaryAddressBookStorage}, as {@code StorageManager} does on every save and at startup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StorageFormatBenchmark {
+
+    private static final int LESSON_COUNT = 200;
+    private static final int STUDENTS_PER_LESSON = 30;
+    private static final int SESSION_COUNT = 40;
+
+    private Path directory;
+    private AddressBook addressBook;
+    private JsonAddressBookStorage jsonStorage;
+    private BinaryAddressBookStorage binaryStorage;
+
+    /**
+     * Generates the address book and saves it once in each format, so that there is data to load.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("storage-format-benchmark");
+        addressBook = GeneratedAddressBook.generate(LESSON_COUNT, STUDENTS_PER_LESSON, SESSION_COUNT);
+        jsonStorage = new JsonAddressBookStorage(directory.resolve("rollcall.json"));
+        binaryStorage = new BinaryAddressBookStorage(directory.resolve("rollcall.rcab"));
+        jsonStorage.saveAddressBook(addressBook);
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.sorted(Comparator.reverseOrder())::iterator) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public void save_json() throws IOException {
+        jsonStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public void save_binary() throws IOException {
+        binaryStorage.saveAddressBook(addressBook);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load_json() throws DataLoadingException {
+        return jsonStorage.readAddressBook().get();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load_binary() throws DataLoadingException {
+        return binaryStorage.readAddressBook().get();
+    }
+
+}
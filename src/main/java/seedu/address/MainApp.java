@@ -15,7 +15,9 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
@@ -24,7 +26,7 @@ import seedu.address.model.UserPrefs;
 import seedu.address.model.util.IdentificationNumberGenerator;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
-import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.AddressBookStorageFactory;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -58,7 +60,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -68,6 +70,23 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the storage of the address book in the format chosen in {@code userPrefs}, converting the data saved
+     * in any other format to it first. If the data cannot be converted, it is left as it is.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        AddressBookFormat format = userPrefs.getAddressBookFormat();
+        Path filePath = userPrefs.getAddressBookFilePath();
+        boolean isCompact = userPrefs.isCompactAddressBook();
+        try {
+            AddressBookStorageFactory.convertToFormat(format, filePath, isCompact);
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file at " + filePath + " could not be converted to " + format + " : "
+                    + StringUtil.getDetails(e));
+        }
+        return AddressBookStorageFactory.create(format, filePath, isCompact);
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -93,7 +112,7 @@ public class MainApp extends Application {
 
         IdentificationNumberGenerator.init(initialData.getPersonList());
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs, storage.getAttendanceArchive());
     }
 
     private void initLogging(Config config) {
@@ -180,6 +199,16 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Rollcall ] =============================");
+        try {
+            logic.flushRollCall();
+        } catch (CommandException e) {
+            logger.severe("Failed to save roll call " + StringUtil.getDetails(e));
+        }
+        try {
+            logic.flushSaves();
+        } catch (CommandException e) {
+            logger.severe("Failed to save data " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -1,18 +1,43 @@
 package seedu.address.commons.util;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 /**
  * Writes and reads files
  */
 public class FileUtil {
 
+    /**
+     * Size in bytes from which files are mapped into memory rather than read onto the heap.
+     * Files are never mapped on Windows, which does not allow a mapped file to be replaced by a save until the
+     * mapping is garbage collected.
+     */
+    public static final long DEFAULT_MAPPING_THRESHOLD = System.getProperty("os.name").startsWith("Windows")
+            ? Long.MAX_VALUE
+            : 64L * 1024 * 1024;
+
     private static final String CHARSET = "UTF-8";
 
+    // Windows does not allow a folder to be opened to force its entries to the disk
+    private static final boolean CAN_SYNC_FOLDERS = !System.getProperty("os.name").startsWith("Windows");
+
+    // Forces the entries of a folder to the disk, which tests may replace to observe when it is done
+    static FolderSyncer folderSyncer = FileUtil::forceFolder;
+
     public static boolean isFileExists(Path file) {
         return Files.exists(file) && Files.isRegularFile(file);
     }
@@ -72,6 +97,46 @@ public class FileUtil {
         return new String(Files.readAllBytes(file), CHARSET);
     }
 
+    /**
+     * Returns the content of {@code file}, mapped into memory if the file is at least {@code mappingThreshold} bytes
+     * long, or read onto the heap otherwise.
+     * A mapped file is paged in by the operating system as it is read instead of being copied onto the heap, which
+     * saves memory for large files but costs more to set up than reading a small one. Some operating systems, such
+     * as Windows, do not allow a mapped file to be replaced until the returned buffer is garbage collected.
+     *
+     * @throws IOException if the file cannot be read, or is larger than a buffer can hold.
+     */
+    public static ByteBuffer readToBuffer(Path file, long mappingThreshold) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE) {
+                throw new IOException("File is too large to be read at once: " + file);
+            }
+            if (size >= mappingThreshold) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocate((int) size);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // Reads until the buffer is full or the file ends
+            }
+            return buffer.flip();
+        }
+    }
+
+    /**
+     * Returns a stream of the content of {@code file}, read from a mapping of the file as by
+     * {@link #readToBuffer(Path, long)} if it is at least {@code mappingThreshold} bytes long, or through a buffer
+     * otherwise. Files too large to be mapped at once are always read through a buffer.
+     */
+    public static InputStream newInputStream(Path file, long mappingThreshold) throws IOException {
+        long size = Files.size(file);
+        if (size >= mappingThreshold && size <= Integer.MAX_VALUE) {
+            return new ByteBufferInputStream(readToBuffer(file, mappingThreshold));
+        }
+        return new BufferedInputStream(Files.newInputStream(file));
+    }
+
     /**
      * Writes given string to a file.
      * Will create the file if it does not exist yet.
@@ -80,4 +145,95 @@ public class FileUtil {
         Files.write(file, content.getBytes(CHARSET));
     }
 
+    /**
+     * Writes a file with the output of {@code writer}, so that the file is either left as it was or holds all of the
+     * output, even if the app or the computer stops while it is written.
+     * The output is written to a temporary file in the same folder, which is forced to the disk and then renamed
+     * over {@code file}. The folder is then forced to the disk too, so that the rename is not undone by a crash once
+     * this returns. Will create the file if it does not exist yet, but not its folder.
+     */
+    public static void writeToFileAtomically(Path file, ContentWriter writer) throws IOException {
+        Path folder = file.toAbsolutePath().getParent();
+        if (!Files.isDirectory(folder)) {
+            // Reported against the file, as writing the file directly would
+            throw new NoSuchFileException(file.toString());
+        }
+
+        Path temporaryFile = Files.createTempFile(folder, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.WRITE);
+                 OutputStream out = new BufferedOutputStream(Channels.newOutputStream(channel))) {
+                writer.writeTo(out);
+                out.flush();
+                channel.force(true);
+            }
+            Files.move(temporaryFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        if (CAN_SYNC_FOLDERS) {
+            folderSyncer.sync(folder);
+        }
+    }
+
+    private static void forceFolder(Path folder) throws IOException {
+        try (FileChannel channel = FileChannel.open(folder, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Forces the entries of a folder to the disk.
+     */
+    @FunctionalInterface
+    interface FolderSyncer {
+        void sync(Path folder) throws IOException;
+    }
+
+    /**
+     * Writes the content of a file to a stream.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        /**
+         * Writes the content to {@code out}, without closing it.
+         */
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * A stream of the remaining bytes of a buffer.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
 }
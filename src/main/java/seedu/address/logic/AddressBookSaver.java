@@ -0,0 +1,146 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.Storage;
+
+/**
+ * Saves the address book behind the commands that change it, on a background thread.
+ * A save is only requested when the model's version has changed since the last request, and requests made while
+ * a save is running are coalesced, so that a burst of changes costs a single write of the latest data.
+ * A failed save is retried on the next request, and is kept until it is reported.
+ */
+public class AddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaver.class);
+
+    private final Storage storage;
+    private final Executor executor;
+    // Held for the whole of each write, so that writes never overlap and happen in the order they were requested
+    private final Object writeLock = new Object();
+
+    // The fields below are guarded by this saver's lock
+    private ReadOnlyAddressBook pendingAddressBook;
+    private boolean isSaveQueued;
+    private long requestedVersion;
+    private boolean hasRequested;
+    private IOException failure;
+    private boolean isFailureReported;
+
+    /**
+     * Creates a saver that writes to {@code storage} on {@code executor}, with nothing saved yet.
+     */
+    public AddressBookSaver(Storage storage, Executor executor) {
+        this.storage = requireNonNull(storage);
+        this.executor = requireNonNull(executor);
+    }
+
+    /**
+     * Creates a saver that writes to {@code storage} on {@code executor}, for a model whose address book at
+     * {@code savedVersion} is already in storage, as it is just after being read. No save is requested until the
+     * model changes.
+     */
+    public AddressBookSaver(Storage storage, Executor executor, long savedVersion) {
+        this(storage, executor);
+        requestedVersion = savedVersion;
+        hasRequested = true;
+    }
+
+    /**
+     * Returns an executor running saves one after another on a daemon thread, which does not keep the app open.
+     */
+    public static ExecutorService createBackgroundExecutor() {
+        return Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Requests a save of the address book in {@code model}, unless it has not changed since the last request that
+     * did not fail. An immutable snapshot of the address book is written, so the model may keep changing while it
+     * is written.
+     */
+    public void requestSave(Model model) {
+        requireNonNull(model);
+        long version = model.getAddressBookVersion();
+        synchronized (this) {
+            if (hasRequested && version == requestedVersion && failure == null) {
+                return;
+            }
+            pendingAddressBook = model.getAddressBookSnapshot();
+            requestedVersion = version;
+            hasRequested = true;
+            if (isSaveQueued) {
+                return;
+            }
+            isSaveQueued = true;
+        }
+        executor.execute(this::saveLatest);
+    }
+
+    /**
+     * Saves the address book in {@code model} if it changed, and waits until it and every earlier request is
+     * written.
+     *
+     * @throws IOException if the data could not be saved.
+     */
+    public void flush(Model model) throws IOException {
+        requestSave(model);
+        saveLatest();
+        synchronized (this) {
+            if (failure != null) {
+                isFailureReported = true;
+                throw failure;
+            }
+        }
+    }
+
+    /**
+     * Returns the failure of the latest save, and marks it as reported, if it failed and has not been reported.
+     */
+    public synchronized IOException takeUnreportedFailure() {
+        if (failure == null || isFailureReported) {
+            return null;
+        }
+        isFailureReported = true;
+        return failure;
+    }
+
+    private void saveLatest() {
+        synchronized (writeLock) {
+            ReadOnlyAddressBook addressBook;
+            synchronized (this) {
+                addressBook = pendingAddressBook;
+                pendingAddressBook = null;
+                isSaveQueued = false;
+            }
+            if (addressBook == null) {
+                return;
+            }
+
+            try {
+                storage.saveAddressBook(addressBook);
+                synchronized (this) {
+                    failure = null;
+                }
+            } catch (IOException ioe) {
+                logger.warning("Could not save data: " + ioe.getMessage());
+                synchronized (this) {
+                    failure = ioe;
+                    isFailureReported = false;
+                }
+            }
+        }
+    }
+}
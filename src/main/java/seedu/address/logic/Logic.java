@@ -8,7 +8,9 @@ import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.ClassName;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.IdentificationNumber;
 import seedu.address.model.person.Person;
 
 /**
@@ -37,6 +39,14 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Lesson> getFilteredLessonList();
 
+    /**
+     * Returns true if the student with {@code studentId} was present for the class named {@code className} this
+     * week.
+     *
+     * @see seedu.address.model.Model#isPresentThisWeek(ClassName, IdentificationNumber)
+     */
+    boolean isPresentThisWeek(ClassName className, IdentificationNumber studentId);
+
     /**
      * Returns the user prefs' address book file path.
      */
@@ -60,7 +70,31 @@ public interface Logic {
     CommandResult processNewCommand(String commandText) throws CommandException, ParseException;
 
     /**
-     * Handles saving of the new state of the AddressBook after the execution of a Command
+     * Handles saving of the new state of the AddressBook after the execution of a Command.
+     * The save runs in the background, and is skipped if the AddressBook has not changed.
+     *
+     * @throws CommandException if an earlier save failed and has not been reported yet.
      */
     void handleSaveResult() throws CommandException;
+
+    /**
+     * Reports a background save that failed and has not been reported yet.
+     */
+    void checkSaveResult() throws CommandException;
+
+    /**
+     * Saves any change to the AddressBook that has not been saved yet, and waits until every save is written.
+     */
+    void flushSaves() throws CommandException;
+
+    /**
+     * Group-commits and saves the marks pending in the current roll call, if any.
+     */
+    void flushRollCall() throws CommandException;
+
+    /**
+     * Group-commits and saves the marks pending in the current roll call, if its batch is full or its oldest
+     * pending mark has waited for the flush interval.
+     */
+    void flushRollCallIfDue() throws CommandException;
 }
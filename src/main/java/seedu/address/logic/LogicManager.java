@@ -3,6 +3,8 @@ package seedu.address.logic;
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.util.concurrent.Executor;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -11,18 +13,25 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ConfirmableCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.RollCallCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.logic.util.CommandDisplayPermissionChecker;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.lesson.ClassName;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.IdentificationNumber;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
 
 /**
  * The main LogicManager of the app.
+ * Changes made by commands are saved in the background by an {@link AddressBookSaver}, so that a command returns
+ * without waiting for the data file to be written.
  */
 public class LogicManager implements Logic {
     public static final String FILE_OPS_ERROR_FORMAT = "Could not save data due to the following error: %s";
@@ -33,18 +42,30 @@ public class LogicManager implements Logic {
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final Clock clock;
+    private final AddressBookSaver saver;
 
     private final ConfirmationManager confirmationManager = new ConfirmationManager();
     private CommandResult.DisplayType currentDisplayType = CommandResult.DisplayType.DEFAULT;
+    private RollCallSession rollCallSession;
 
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, Clock.systemDefaultZone(), AddressBookSaver.createBackgroundExecutor());
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}, which times roll calls
+     * with {@code clock} and saves the data on {@code saveExecutor}.
+     */
+    LogicManager(Model model, Storage storage, Clock clock, Executor saveExecutor) {
         this.model = model;
-        this.storage = storage;
+        this.clock = clock;
+        // The model's data was just read from storage, so it is only saved once it changes
+        this.saver = new AddressBookSaver(storage, saveExecutor, model.getAddressBookVersion());
         addressBookParser = new AddressBookParser();
     }
 
@@ -55,6 +76,11 @@ public class LogicManager implements Logic {
         CommandResult commandResult = null;
 
         try {
+            if (rollCallSession != null) {
+                // Marks are saved when they are group-committed, not after every input
+                return handleRollCallInput(commandText);
+            }
+
             if (model.getPendingCommand() != null) {
                 String commandWord = commandText.trim().split("\\s+")[0];
                 if (CommandDisplayPermissionChecker.isNotAllowed(commandWord, currentDisplayType)) {
@@ -96,6 +122,11 @@ public class LogicManager implements Logic {
         return model.getFilteredLessonList();
     }
 
+    @Override
+    public boolean isPresentThisWeek(ClassName className, IdentificationNumber studentId) {
+        return model.isPresentThisWeek(className, studentId);
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -130,17 +161,88 @@ public class LogicManager implements Logic {
             commandResult = command.execute(model);
         }
 
+        if (command instanceof RollCallCommand rollCall) {
+            ReadOnlyUserPrefs userPrefs = model.getUserPrefs();
+            rollCallSession = new RollCallSession(rollCall.getClassName(), userPrefs.getRollCallBatchSize(),
+                    userPrefs.getRollCallFlushIntervalMillis(), clock);
+        }
+
         return commandResult;
     }
 
     @Override
     public void handleSaveResult() throws CommandException {
+        saver.requestSave(model);
+        checkSaveResult();
+    }
+
+    @Override
+    public void checkSaveResult() throws CommandException {
+        IOException failure = saver.takeUnreportedFailure();
+        if (failure != null) {
+            throw toCommandException(failure);
+        }
+    }
+
+    @Override
+    public void flushSaves() throws CommandException {
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            saver.flush(model);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
+        }
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
         }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    }
+
+    @Override
+    public void flushRollCall() throws CommandException {
+        if (rollCallSession != null && rollCallSession.hasPendingMarks()) {
+            rollCallSession.flush(model);
+            handleSaveResult();
+        }
+    }
+
+    @Override
+    public void flushRollCallIfDue() throws CommandException {
+        if (rollCallSession != null && rollCallSession.isFlushDue()) {
+            flushRollCall();
+        }
+    }
+
+    /**
+     * Handles an input entered during a roll call: either a student ID to be marked present, the word that
+     * ends the roll call, or the exit command, which ends the roll call before exiting.
+     */
+    private CommandResult handleRollCallInput(String input) throws CommandException, ParseException {
+        String trimmedInput = input.trim();
+        if (trimmedInput.equalsIgnoreCase(RollCallCommand.END_WORD)) {
+            return new CommandResult(endRollCall(), CommandResult.DisplayType.RECENT);
+        }
+        if (trimmedInput.equals(ExitCommand.COMMAND_WORD)) {
+            String summary = endRollCall();
+            CommandResult exitResult = new ExitCommand().execute(model);
+            return new CommandResult(summary + "\n" + exitResult.getFeedbackToUser(), exitResult.isShowHelp(),
+                    exitResult.isExit(), exitResult.getDisplayType());
+        }
+
+        CommandResult result = rollCallSession.scan(input, model);
+        flushRollCallIfDue();
+        return result;
+    }
+
+    /**
+     * Group-commits the pending marks of the roll call, ends it and returns its summary.
+     */
+    private String endRollCall() throws CommandException {
+        flushRollCall();
+        String summary = rollCallSession.getSummary();
+        rollCallSession = null;
+        return summary;
     }
 }
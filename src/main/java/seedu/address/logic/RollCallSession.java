@@ -0,0 +1,173 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.MarkCommand;
+import seedu.address.logic.commands.RollCallCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.LessonCascadeUpdater;
+
+/**
+ * A roll call for one class, in which student IDs are entered one after another and marked present for the day
+ * the roll call started.
+ * Marks are held in memory and group-committed: every batch costs a single lesson update, undo history entry and
+ * save, however many students it holds.
+ */
+public class RollCallSession {
+
+    public static final String MESSAGE_SCANNED = "Marked %1$s present. %2$d marked, %3$d awaiting save "
+            + "(%4$.1f scans/s).";
+    public static final String MESSAGE_GROUP_COMMIT = "Roll call for class %1$s: marked %2$d students present.";
+    public static final String MESSAGE_NOT_AN_ID = "%1$s\nA roll call is in progress: enter a student ID, or type '"
+            + RollCallCommand.END_WORD + "' to finish.";
+    public static final String MESSAGE_ENDED = "Roll call for class %1$s ended: %2$d students marked present "
+            + "in %3$d group commits (%4$.1f scans/s).";
+
+    private final ClassName className;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final Clock clock;
+    private final LocalDate date;
+    private final long startMillis;
+
+    private final Set<IdentificationNumber> pendingIds = new LinkedHashSet<>();
+    private long firstPendingMillis;
+    private int markedCount;
+    private int groupCommitCount;
+
+    /**
+     * Creates a roll call for the class named {@code className}, which group-commits its marks once
+     * {@code batchSize} of them are pending, or once the oldest pending mark is {@code flushIntervalMillis} old.
+     */
+    public RollCallSession(ClassName className, int batchSize, long flushIntervalMillis, Clock clock) {
+        requireNonNull(className);
+        requireNonNull(clock);
+        checkArgument(batchSize > 0, "Batch size must be positive.");
+        checkArgument(flushIntervalMillis >= 0, "Flush interval must not be negative.");
+        this.className = className;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.clock = clock;
+        this.date = LocalDate.now(clock);
+        this.startMillis = clock.millis();
+    }
+
+    public ClassName getClassName() {
+        return className;
+    }
+
+    public boolean hasPendingMarks() {
+        return !pendingIds.isEmpty();
+    }
+
+    /**
+     * Returns true if the pending marks should be group-committed now.
+     */
+    public boolean isFlushDue() {
+        return !pendingIds.isEmpty()
+                && (pendingIds.size() >= batchSize || clock.millis() - firstPendingMillis >= flushIntervalMillis);
+    }
+
+    /**
+     * Marks the student whose ID is {@code input} present, pending the next group commit.
+     *
+     * @throws ParseException if {@code input} is not a valid ID.
+     * @throws CommandException if the student cannot be marked present in this roll call.
+     */
+    public CommandResult scan(String input, Model model) throws CommandException, ParseException {
+        requireNonNull(input);
+        requireNonNull(model);
+        IdentificationNumber studentId;
+        try {
+            studentId = ParserUtil.parseIdentificationNumber(input);
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_NOT_AN_ID, pe.getMessage()), pe);
+        }
+        Lesson lesson = findLesson(model);
+
+        Person student = model.findPersonById(studentId).orElseThrow(() -> new CommandException(
+                String.format(MarkCommand.MESSAGE_PERSON_NOT_FOUND, studentId)));
+        if (!lesson.getStudents().contains(studentId)) {
+            throw new CommandException(MarkCommand.MESSAGE_STUDENT_NOT_ENROLLED);
+        }
+        if (pendingIds.contains(studentId) || lesson.getAttendanceRecord().isPresent(date, studentId)) {
+            throw new CommandException(String.format(MarkCommand.MESSAGE_ALREADY_MARKED,
+                    Messages.shortenedFormatPerson(student), Messages.shortenedFormatLesson(lesson)));
+        }
+
+        if (pendingIds.isEmpty()) {
+            firstPendingMillis = clock.millis();
+        }
+        pendingIds.add(studentId);
+        markedCount++;
+        return new CommandResult(String.format(MESSAGE_SCANNED, Messages.shortenedFormatPerson(student),
+                markedCount, pendingIds.size(), getScansPerSecond()), CommandResult.DisplayType.RECENT);
+    }
+
+    /**
+     * Applies every pending mark to the class in a single lesson update, and commits the result as one state of
+     * the address book. Does nothing if no mark is pending.
+     */
+    public void flush(Model model) throws CommandException {
+        requireNonNull(model);
+        if (pendingIds.isEmpty()) {
+            return;
+        }
+
+        Lesson lesson = findLesson(model);
+        AttendanceRecord attendance = lesson.getAttendanceRecord();
+        for (IdentificationNumber studentId : pendingIds) {
+            attendance = attendance.withPresent(date, studentId);
+        }
+        Lesson updatedLesson = new Lesson(
+                lesson.getClassName(),
+                lesson.getDay(),
+                lesson.getTime(),
+                lesson.getTutor(),
+                lesson.getStudents(), attendance, lesson.getTags()
+        );
+
+        model.setLesson(lesson, updatedLesson);
+        LessonCascadeUpdater.updateStudentsWithEditedLesson(model, lesson, updatedLesson);
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        model.commitAddressBook(String.format(MESSAGE_GROUP_COMMIT, className, pendingIds.size()),
+                CommandResult.DisplayType.DEFAULT);
+
+        pendingIds.clear();
+        groupCommitCount++;
+    }
+
+    /**
+     * Returns a summary of the roll call so far, including its throughput.
+     */
+    public String getSummary() {
+        return String.format(MESSAGE_ENDED, className, markedCount, groupCommitCount, getScansPerSecond());
+    }
+
+    private double getScansPerSecond() {
+        long elapsedMillis = Math.max(1, clock.millis() - startMillis);
+        return markedCount * 1000.0 / elapsedMillis;
+    }
+
+    private Lesson findLesson(Model model) throws CommandException {
+        return model.findLessonByClassName(className).orElseThrow(() -> new CommandException(
+                String.format(MarkCommand.MESSAGE_LESSON_NOT_FOUND, className)));
+    }
+
+}
@@ -14,6 +14,7 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.IdentificationNumber;
 import seedu.address.model.person.Person;
 
 /**
@@ -59,17 +60,15 @@ public class AddLessonCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_CLASS);
         }
 
-        // Find the tutor by IdentificationNumber from the full person list
-        Optional<Person> tutorOfLessonOptional = model.getAddressBook().getPersonList().stream()
-                .filter(person -> person.getId().toString().equals(toAdd.getTutor().tutorName))
-                .findFirst();
+        // Find the tutor by IdentificationNumber
+        Optional<Person> tutorOfLessonOptional =
+                model.findPersonById(new IdentificationNumber(toAdd.getTutor().tutorName));
 
         if (tutorOfLessonOptional.isEmpty()) {
             throw new CommandException(MESSAGE_TUTOR_NOT_FOUND);
         }
 
-        boolean hasClash = model.getAddressBook().getLessonList().stream()
-                .filter(existingLesson -> existingLesson.getTutor().equals(toAdd.getTutor()))
+        boolean hasClash = model.getLessonsByTutor(toAdd.getTutor()).stream()
                 .anyMatch(existingLesson -> existingLesson.hasOverlapsWith(toAdd));
 
         if (hasClash) {
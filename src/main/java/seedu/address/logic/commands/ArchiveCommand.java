@@ -0,0 +1,114 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.util.LessonCascadeUpdater;
+
+/**
+ * Moves the attendance of every class taken before a date out of the data file and into the attendance archive.
+ * Archived attendance is still counted by commands that ask for those dates, but is no longer loaded on startup.
+ */
+public class ArchiveCommand extends Command {
+
+    public static final String COMMAND_WORD = "archive";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Archives the attendance of every class taken before the given date.\n"
+            + "Parameters: "
+            + PREFIX_DATE + "DATE\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DATE + "2025-01-01";
+
+    public static final String MESSAGE_SUCCESS = "Archived %1$d sessions of %2$d classes taken before %3$s.";
+    public static final String MESSAGE_NOTHING_TO_ARCHIVE = "No attendance was taken before %1$s.";
+    public static final String MESSAGE_FUTURE_DATE = "Only attendance taken before a date up to today can be archived.";
+    public static final String MESSAGE_ARCHIVE_ERROR = "Could not archive attendance: %1$s";
+
+    private final LocalDate date;
+
+    /**
+     * @param date before which attendance is archived.
+     */
+    public ArchiveCommand(LocalDate date) {
+        this.date = requireNonNull(date);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (date.isAfter(LocalDate.now())) {
+            throw new CommandException(MESSAGE_FUTURE_DATE);
+        }
+
+        Map<ClassName, AttendanceRecord> toArchive = new LinkedHashMap<>();
+        List<Lesson> lessonsToUpdate = new ArrayList<>();
+        int sessionCount = 0;
+        for (Lesson lesson : model.getAddressBook().getLessonList()) {
+            AttendanceRecord closed = lesson.getAttendanceRecord().onDates(LocalDate.MIN, date.minusDays(1));
+            if (closed.getSessionCount() > 0) {
+                toArchive.put(lesson.getClassName(), closed);
+                lessonsToUpdate.add(lesson);
+                sessionCount += closed.getSessionCount();
+            }
+        }
+        if (toArchive.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NOTHING_TO_ARCHIVE, date));
+        }
+
+        // The segment is written first, so that a failed write leaves every lesson as it was
+        try {
+            model.archiveAttendance(toArchive);
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_ERROR, ioe.getMessage()), ioe);
+        }
+
+        for (Lesson lesson : lessonsToUpdate) {
+            Lesson updatedLesson = new Lesson(lesson.getClassName(), lesson.getDay(), lesson.getTime(),
+                    lesson.getTutor(), lesson.getStudents(),
+                    lesson.getAttendanceRecord().onDates(date, LocalDate.MAX), lesson.getTags());
+            model.setLesson(lesson, updatedLesson);
+            LessonCascadeUpdater.updateStudentsWithEditedLesson(model, lesson, updatedLesson);
+        }
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        String output = String.format(MESSAGE_SUCCESS, sessionCount, toArchive.size(), date);
+        model.commitAddressBook(output, CommandResult.DisplayType.DEFAULT);
+        return new CommandResult(output, CommandResult.DisplayType.DEFAULT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ArchiveCommand)) {
+            return false;
+        }
+
+        ArchiveCommand otherCommand = (ArchiveCommand) other;
+        return date.equals(otherCommand.date);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("date", date)
+                .toString();
+    }
+}
@@ -0,0 +1,210 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SESSIONS;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.lesson.AttendanceAnalytics;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.person.Person;
+
+/**
+ * Shows the attendance rate of a class and the students who have missed its latest sessions, or the attendance
+ * rates and absence streaks of a student in every class they are enrolled in.
+ * Attendance is counted over every session held by default, or over the sessions from a given date, including any
+ * archived sessions.
+ */
+public class AttendanceCommand extends Command {
+
+    public static final String COMMAND_WORD = "attendance";
+    public static final int DEFAULT_ABSENT_SESSIONS = 3;
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the attendance of a class, and the students absent for its latest sessions in a row, "
+            + "or the attendance of a student in each of their classes.\n"
+            + "Parameters: "
+            + PREFIX_CLASS + "CLASS_NAME "
+            + "[" + PREFIX_SESSIONS + "SESSIONS] "
+            + "or " + PREFIX_ID + "STUDENT_ID "
+            + "[" + PREFIX_DATE + "FROM_DATE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_CLASS + "M2a "
+            + PREFIX_SESSIONS + "2";
+
+    public static final String MESSAGE_CLASS_ATTENDANCE = "Class %1$s: %2$s attendance over %3$d sessions.";
+    public static final String MESSAGE_ABSENTEES = "\nAbsent for the last %1$d sessions or more: %2$s.";
+    public static final String MESSAGE_NO_ABSENTEES = "\nNo student has been absent for the last %1$d sessions.";
+    public static final String MESSAGE_STUDENT_ATTENDANCE = "%1$s: %2$s attendance over all classes.";
+    public static final String MESSAGE_STUDENT_CLASS_ATTENDANCE =
+            "\n%1$s: %2$s attendance, absent for the last %3$d sessions.";
+    public static final String MESSAGE_SINCE = "Sessions from %1$s:\n";
+    public static final String MESSAGE_ARCHIVE_ERROR = "Could not read archived attendance: %1$s";
+    public static final String NO_RATE = "no";
+
+    private final ClassName className;
+    private final IdentificationNumber studentId;
+    private final int absentSessions;
+    // Null if every session held is counted
+    private final LocalDate from;
+
+    private AttendanceCommand(ClassName className, IdentificationNumber studentId, int absentSessions,
+                              LocalDate from) {
+        this.className = className;
+        this.studentId = studentId;
+        this.absentSessions = absentSessions;
+        this.from = from;
+    }
+
+    /**
+     * Returns a command showing the attendance of the class named {@code className}, and the students absent for
+     * at least its {@code absentSessions} latest sessions.
+     */
+    public static AttendanceCommand ofClass(ClassName className, int absentSessions) {
+        requireNonNull(className);
+        checkArgument(absentSessions > 0, "Number of sessions must be positive.");
+        return new AttendanceCommand(className, null, absentSessions, null);
+    }
+
+    /**
+     * Returns a command showing the attendance of the student with {@code studentId}.
+     */
+    public static AttendanceCommand ofStudent(IdentificationNumber studentId) {
+        return new AttendanceCommand(null, requireNonNull(studentId), DEFAULT_ABSENT_SESSIONS, null);
+    }
+
+    /**
+     * Returns a copy of this command that only counts the sessions held on or after {@code from}, archived or not.
+     */
+    public AttendanceCommand since(LocalDate from) {
+        return new AttendanceCommand(className, studentId, absentSessions, requireNonNull(from));
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        String output;
+        if (from == null) {
+            output = className != null
+                    ? describeClass(model, model.getAttendanceAnalytics())
+                    : describeStudent(model, model.getAttendanceAnalytics());
+        } else if (className != null) {
+            Lesson lesson = findLesson(model, className);
+            output = String.format(MESSAGE_SINCE, from) + describeClass(model, analyticsSince(model, List.of(lesson)));
+        } else {
+            Person student = findStudent(model);
+            output = String.format(MESSAGE_SINCE, from)
+                    + describeStudent(model, analyticsSince(model, new ArrayList<>(student.getLessons())));
+        }
+        return new CommandResult(output, CommandResult.DisplayType.RECENT);
+    }
+
+    /**
+     * Returns analytics over {@code lessons} holding only their attendance from {@code from}, archived or not.
+     * They are built afresh, as the analytics kept by the model only count the attendance held by each class.
+     */
+    private AttendanceAnalytics analyticsSince(Model model, List<Lesson> lessons) throws CommandException {
+        List<Lesson> lessonsSince = new ArrayList<>();
+        try {
+            for (Lesson lesson : lessons) {
+                AttendanceRecord history = model.getAttendanceHistory(lesson.getClassName(), from, LocalDate.MAX);
+                lessonsSince.add(new Lesson(lesson.getClassName(), lesson.getDay(), lesson.getTime(),
+                        lesson.getTutor(), lesson.getStudents(), history, lesson.getTags()));
+            }
+        } catch (DataLoadingException dle) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_ERROR, dle.getMessage()), dle);
+        }
+        return new AttendanceAnalytics(FXCollections.observableArrayList(lessonsSince));
+    }
+
+    private static Lesson findLesson(Model model, ClassName className) throws CommandException {
+        return model.findLessonByClassName(className).orElseThrow(() -> new CommandException(
+                String.format(MarkCommand.MESSAGE_LESSON_NOT_FOUND, className)));
+    }
+
+    private Person findStudent(Model model) throws CommandException {
+        return model.findPersonById(studentId).orElseThrow(() -> new CommandException(
+                String.format(MarkCommand.MESSAGE_PERSON_NOT_FOUND, studentId)));
+    }
+
+    private String describeClass(Model model, AttendanceAnalytics analytics) throws CommandException {
+        Lesson lesson = findLesson(model, className);
+
+        String output = String.format(MESSAGE_CLASS_ATTENDANCE, Messages.shortenedFormatLesson(lesson),
+                formatRate(analytics.getAttendanceRate(className)), analytics.getSessionCount(className));
+        List<IdentificationNumber> absentees = analytics.getStudentsAbsentFor(className, absentSessions);
+        if (absentees.isEmpty()) {
+            return output + String.format(MESSAGE_NO_ABSENTEES, absentSessions);
+        }
+        return output + String.format(MESSAGE_ABSENTEES, absentSessions, absentees.stream()
+                .map(id -> id + " (" + analytics.getAbsenceStreak(className, id).getAsInt() + ")")
+                .collect(Collectors.joining(", ")));
+    }
+
+    private String describeStudent(Model model, AttendanceAnalytics analytics) throws CommandException {
+        Person student = findStudent(model);
+
+        StringBuilder output = new StringBuilder(String.format(MESSAGE_STUDENT_ATTENDANCE,
+                Messages.shortenedFormatPerson(student), formatRate(analytics.getAttendanceRate(studentId))));
+        List<ClassName> classNames = student.getLessons().stream()
+                .map(Lesson::getClassName)
+                .sorted(Comparator.comparing(ClassName::toString))
+                .collect(Collectors.toList());
+        for (ClassName enrolledClass : classNames) {
+            analytics.getAbsenceStreak(enrolledClass, studentId).ifPresent(streak -> output.append(String.format(
+                    MESSAGE_STUDENT_CLASS_ATTENDANCE, enrolledClass,
+                    formatRate(analytics.getAttendanceRate(enrolledClass, studentId)), streak)));
+        }
+        return output.toString();
+    }
+
+    private static String formatRate(OptionalDouble rate) {
+        return rate.isPresent() ? String.format("%.1f%%", rate.getAsDouble() * 100) : NO_RATE;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceCommand)) {
+            return false;
+        }
+
+        AttendanceCommand otherCommand = (AttendanceCommand) other;
+        return Objects.equals(className, otherCommand.className)
+                && Objects.equals(studentId, otherCommand.studentId)
+                && absentSessions == otherCommand.absentSessions
+                && Objects.equals(from, otherCommand.from);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("className", className)
+                .add("studentId", studentId)
+                .add("absentSessions", absentSessions)
+                .add("from", from)
+                .toString();
+    }
+}
@@ -0,0 +1,288 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.util.LessonCascadeUpdater;
+
+/**
+ * Marks students present on past dates from a CSV file of {@code date,class,student ID} rows, such as a register
+ * kept on paper or in another system.
+ * The file is read one row at a time, and valid rows are gathered per class before any class is changed, so that
+ * the whole file is applied as a single change that can be undone at once. Invalid rows are written, with their
+ * line numbers and the reasons they were rejected, to a reject file of {@code line,reason,row} CSV rows next to the
+ * CSV file.
+ */
+public class BackfillCommand extends Command {
+
+    public static final String COMMAND_WORD = "backfill";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Marks past attendance from a CSV file with one DATE,CLASS_NAME,STUDENT_ID row per student present. "
+            + "A header row is optional.\n"
+            + "Parameters: FILE_PATH.csv\n"
+            + "Example: " + COMMAND_WORD + " /Users/user/Desktop/register.csv";
+
+    public static final String MESSAGE_SUCCESS = "Backfilled %1$d marks for %2$d classes from %3$s.";
+    public static final String MESSAGE_ALREADY_MARKED = " %1$d were already marked.";
+    public static final String MESSAGE_REJECTED = " %1$d rows were rejected, see %2$s.";
+    public static final String MESSAGE_NOTHING_TO_BACKFILL = "No new attendance was found in %1$s.";
+    public static final String MESSAGE_FILE_NOT_FOUND = "File not found: %1$s";
+    public static final String MESSAGE_READ_ERROR = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_ARCHIVE_ERROR = "Could not read archived attendance: %1$s";
+
+    public static final String REJECT_FILE_SUFFIX = "-rejected.csv";
+    public static final String REASON_FIELD_COUNT = "expected 3 fields: date, class and student ID";
+    public static final String REASON_INVALID_DATE = "date should be in YYYY-MM-DD format";
+    public static final String REASON_FUTURE_DATE = "date is after today";
+    public static final String REASON_INVALID_CLASS = "invalid class name";
+    public static final String REASON_LESSON_NOT_FOUND = "class not found";
+    public static final String REASON_INVALID_ID = "invalid student ID";
+    public static final String REASON_NOT_ENROLLED = "student is not enrolled in this class";
+    public static final String REASON_ARCHIVED_DATE = "attendance of this class on this date has been archived";
+
+    private static final String HEADER_FIRST_FIELD = "date";
+
+    private final Path filePath;
+
+    /**
+     * @param filePath Path to the CSV file to read attendance from.
+     */
+    public BackfillCommand(Path filePath) {
+        this.filePath = requireNonNull(filePath);
+    }
+
+    /**
+     * Returns the file that rows of {@code csvFile} which cannot be backfilled are written to.
+     */
+    public static Path getRejectFilePath(Path csvFile) {
+        String fileName = csvFile.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String stem = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return csvFile.resolveSibling(stem + REJECT_FILE_SUFFIX);
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        if (!Files.isRegularFile(filePath)) {
+            throw new CommandException(String.format(MESSAGE_FILE_NOT_FOUND, filePath.getFileName()));
+        }
+
+        Backfill backfill = new Backfill(model);
+        Path rejectFilePath = getRejectFilePath(filePath);
+        try {
+            Files.deleteIfExists(rejectFilePath);
+            try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    backfill.addRow(line);
+                }
+            } finally {
+                backfill.closeRejectFile();
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath.getFileName(), ioe.getMessage()),
+                    ioe);
+        } catch (DataLoadingException dle) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_ERROR, dle.getMessage()), dle);
+        }
+
+        String rejected = backfill.rejectedCount == 0 ? ""
+                : String.format(MESSAGE_REJECTED, backfill.rejectedCount, rejectFilePath.getFileName());
+        String alreadyMarked = backfill.alreadyMarkedCount == 0 ? ""
+                : String.format(MESSAGE_ALREADY_MARKED, backfill.alreadyMarkedCount);
+        if (backfill.markCount == 0) {
+            throw new CommandException(String.format(MESSAGE_NOTHING_TO_BACKFILL, filePath.getFileName())
+                    + alreadyMarked + rejected);
+        }
+
+        backfill.apply();
+        String output = String.format(MESSAGE_SUCCESS, backfill.markCount, backfill.marks.size(),
+                filePath.getFileName()) + alreadyMarked + rejected;
+        model.commitAddressBook(output, CommandResult.DisplayType.DEFAULT);
+        return new CommandResult(output, CommandResult.DisplayType.DEFAULT);
+    }
+
+    /**
+     * The marks gathered from the rows read so far, and the rows rejected.
+     */
+    private class Backfill {
+        private final Model model;
+        private final LocalDate today = LocalDate.now();
+        // New marks for each class, by date
+        private final Map<ClassName, Map<LocalDate, Set<IdentificationNumber>>> marks = new LinkedHashMap<>();
+        // Attendance of each class so far, including archived attendance, read once per class
+        private final Map<ClassName, AttendanceRecord> histories = new HashMap<>();
+        private BufferedWriter rejectWriter;
+        private int lineNumber;
+        private int markCount;
+        private int alreadyMarkedCount;
+        private int rejectedCount;
+
+        private Backfill(Model model) {
+            this.model = model;
+        }
+
+        private void addRow(String line) throws IOException, DataLoadingException {
+            lineNumber++;
+            if (line.isBlank()) {
+                return;
+            }
+
+            String[] fields = line.split(",", -1);
+            if (lineNumber == 1 && unquote(fields[0]).equalsIgnoreCase(HEADER_FIRST_FIELD)) {
+                return;
+            }
+            if (fields.length != 3) {
+                reject(line, REASON_FIELD_COUNT);
+                return;
+            }
+
+            LocalDate date;
+            try {
+                date = LocalDate.parse(unquote(fields[0]));
+            } catch (DateTimeParseException e) {
+                reject(line, REASON_INVALID_DATE);
+                return;
+            }
+            String classNameField = unquote(fields[1]);
+            String idField = unquote(fields[2]);
+            if (date.isAfter(today)) {
+                reject(line, REASON_FUTURE_DATE);
+            } else if (!ClassName.isValidClassName(classNameField)) {
+                reject(line, REASON_INVALID_CLASS);
+            } else if (!IdentificationNumber.isValidId(idField)) {
+                reject(line, REASON_INVALID_ID);
+            } else {
+                addMark(line, date, new ClassName(classNameField), new IdentificationNumber(idField));
+            }
+        }
+
+        /**
+         * A date of archived attendance that the lesson no longer holds is rejected, as the lesson's attendance on
+         * a date takes the place of the archived attendance on that date.
+         */
+        private void addMark(String line, LocalDate date, ClassName className, IdentificationNumber studentId)
+                throws IOException, DataLoadingException {
+            Lesson lesson = model.findLessonByClassName(className).orElse(null);
+            if (lesson == null) {
+                reject(line, REASON_LESSON_NOT_FOUND);
+                return;
+            }
+            AttendanceRecord history = histories.get(className);
+            if (history == null) {
+                history = model.getAttendanceHistory(className, LocalDate.MIN, today);
+                histories.put(className, history);
+            }
+
+            if (!lesson.getStudents().contains(studentId)) {
+                reject(line, REASON_NOT_ENROLLED);
+            } else if (history.isPresent(date, studentId)) {
+                alreadyMarkedCount++;
+            } else if (history.hasDate(date) && !lesson.getAttendanceRecord().hasDate(date)) {
+                reject(line, REASON_ARCHIVED_DATE);
+            } else if (!marks.computeIfAbsent(className, unused -> new TreeMap<>())
+                    .computeIfAbsent(date, unused -> new HashSet<>()).add(studentId)) {
+                alreadyMarkedCount++;
+            } else {
+                markCount++;
+            }
+        }
+
+        private void reject(String line, String reason) throws IOException {
+            if (rejectWriter == null) {
+                rejectWriter = Files.newBufferedWriter(getRejectFilePath(filePath), StandardCharsets.UTF_8);
+                rejectWriter.write("line,reason,row");
+                rejectWriter.newLine();
+            }
+            rejectWriter.write(lineNumber + "," + quote(reason) + "," + quote(line));
+            rejectWriter.newLine();
+            rejectedCount++;
+        }
+
+        private void closeRejectFile() throws IOException {
+            if (rejectWriter != null) {
+                rejectWriter.close();
+            }
+        }
+
+        /**
+         * Applies the gathered marks, rebuilding the attendance of each class once.
+         */
+        private void apply() {
+            marks.forEach((className, newMarks) -> {
+                Lesson lesson = model.findLessonByClassName(className).get();
+                Map<LocalDate, Set<IdentificationNumber>> attendance = lesson.getAttendanceRecord().toMap();
+                newMarks.forEach((date, students) ->
+                        attendance.computeIfAbsent(date, unused -> new HashSet<>()).addAll(students));
+                Lesson updatedLesson = new Lesson(lesson.getClassName(), lesson.getDay(), lesson.getTime(),
+                        lesson.getTutor(), lesson.getStudents(), AttendanceRecord.of(attendance), lesson.getTags());
+                model.setLesson(lesson, updatedLesson);
+                LessonCascadeUpdater.updateStudentsWithEditedLesson(model, lesson, updatedLesson);
+            });
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+    }
+
+    /**
+     * Returns {@code field} as a quoted CSV field, with each quote within it doubled, so that it is read back as one
+     * field even if it holds commas or quotes.
+     */
+    private static String quote(String field) {
+        return "\"" + field.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String unquote(String field) {
+        String trimmed = field.trim();
+        if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+            return trimmed.substring(1, trimmed.length() - 1).trim();
+        }
+        return trimmed;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BackfillCommand)) {
+            return false;
+        }
+
+        BackfillCommand otherCommand = (BackfillCommand) other;
+        return filePath.equals(otherCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
@@ -2,9 +2,11 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
+import seedu.address.model.lesson.Lesson;
 
 /**
  * Clears all persons and lessons from the address book.
@@ -14,6 +16,9 @@ public class ClearCommand extends ConfirmableCommand {
     public static final String COMMAND_WORD = "clear";
     public static final String MESSAGE_SUCCESS = "Address book has been cleared!";
     public static final String MESSAGE_CONFIRM_CLEAR = "(Y/N) Are you sure you want to delete ALL people and lessons?";
+    public static final String MESSAGE_ARCHIVED_LESSON = "Class %1$s has archived attendance, so the address book "
+            + "cannot be cleared without losing it or passing it on to a new class of the same name.";
+    public static final String MESSAGE_ARCHIVE_ERROR = "Could not read archived attendance: %1$s";
 
     /**
      * Default constructor
@@ -30,8 +35,14 @@ public class ClearCommand extends ConfirmableCommand {
     }
 
     @Override
-    public CommandResult executeConfirmed(Model model) {
+    public void validate(Model model) throws CommandException {
+        checkNotArchived(model);
+    }
+
+    @Override
+    public CommandResult executeConfirmed(Model model) throws CommandException {
         requireNonNull(model);
+        checkNotArchived(model);
         model.setAddressBook(new AddressBook());
         // Update AddressBook state pointer
         model.commitAddressBook(MESSAGE_SUCCESS, CommandResult.DisplayType.DEFAULT);
@@ -42,4 +53,16 @@ public class ClearCommand extends ConfirmableCommand {
     public String getConfirmationMessage(Model model) throws CommandException {
         return MESSAGE_CONFIRM_CLEAR;
     }
+
+    private static void checkNotArchived(Model model) throws CommandException {
+        try {
+            for (Lesson lesson : model.getAddressBook().getLessonList()) {
+                if (model.hasArchivedAttendance(lesson.getClassName())) {
+                    throw new CommandException(String.format(MESSAGE_ARCHIVED_LESSON, lesson.getClassName()));
+                }
+            }
+        } catch (DataLoadingException dle) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_ERROR, dle.getMessage()), dle);
+        }
+    }
 }
@@ -186,7 +186,7 @@ public class DeleteCommand extends ConfirmableCommand {
                         lesson.getDay(),
                         lesson.getTime(),
                         lesson.getTutor(),
-                        newStudentIdSet, lesson.getAttendance(), lesson.getTags()
+                        newStudentIdSet, lesson.getAttendanceRecord(), lesson.getTags()
                 );
                 // Update the lesson in the model.
                 model.setLesson(lesson, updatedLesson);
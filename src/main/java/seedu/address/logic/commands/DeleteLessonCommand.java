@@ -4,9 +4,11 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -30,6 +32,9 @@ public class DeleteLessonCommand extends ConfirmableCommand {
 
     public static final String MESSAGE_DELETE_LESSON_SUCCESS = "Deleted Class: %1$s";
     public static final String MESSAGE_CONFIRM_DELETE = "(Y/N) Would you like to delete this item? %1$s";
+    public static final String MESSAGE_ARCHIVED_LESSON = "Class %1$s has archived attendance, and cannot be "
+            + "deleted without losing it or passing it on to a new class of the same name.";
+    public static final String MESSAGE_ARCHIVE_ERROR = "Could not read archived attendance: %1$s";
     private static final String MESSAGE_LESSON_NOT_FOUND = "No class found with the given name.";
 
     private final Index targetIndex;
@@ -71,7 +76,7 @@ public class DeleteLessonCommand extends ConfirmableCommand {
     @Override
     public void validate(Model model) throws CommandException {
         // If the lesson to delete cannot be found, the command is invalid and will throw
-        getLessonToDelete(model);
+        checkNotArchived(getLessonToDelete(model), model);
     }
 
     @Override
@@ -92,6 +97,7 @@ public class DeleteLessonCommand extends ConfirmableCommand {
         }
 
         Lesson lessonToDelete = getLessonToDelete(model);
+        checkNotArchived(lessonToDelete, model);
 
         handleAffectedPersons(lessonToDelete, model);
 
@@ -124,6 +130,20 @@ public class DeleteLessonCommand extends ConfirmableCommand {
                 .toString();
     }
 
+    /**
+     * Archived attendance is keyed by class name, so it would be lost with the lesson, or inherited by a new class
+     * given the same name.
+     */
+    private static void checkNotArchived(Lesson lesson, Model model) throws CommandException {
+        try {
+            if (model.hasArchivedAttendance(lesson.getClassName())) {
+                throw new CommandException(String.format(MESSAGE_ARCHIVED_LESSON, lesson.getClassName()));
+            }
+        } catch (DataLoadingException dle) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_ERROR, dle.getMessage()), dle);
+        }
+    }
+
     private Lesson getLessonToDelete(Model model) throws CommandException {
         List<Lesson> lastShownList = model.getFilteredLessonList();
 
@@ -135,14 +155,11 @@ public class DeleteLessonCommand extends ConfirmableCommand {
             return lastShownList.get(targetIndex.getZeroBased());
         }
 
-        // Else search for matching name in list
+        // Else look up the class name, only accepting a lesson that is currently displayed
         if (targetClassName != null) {
-            for (Lesson lesson : lastShownList) {
-                String trimmedName = lesson.getClassName().fullClassName.trim();
-                String trimmedTargetName = targetClassName.fullClassName.trim();
-                if (trimmedName.equals(trimmedTargetName)) {
-                    return lesson;
-                }
+            Optional<Lesson> lesson = model.findLessonByClassName(targetClassName);
+            if (lesson.isPresent() && lastShownList.contains(lesson.get())) {
+                return lesson.get();
             }
         }
 
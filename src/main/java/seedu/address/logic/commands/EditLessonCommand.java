@@ -9,15 +9,15 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_TUTOR;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_LESSONS;
 
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
@@ -29,6 +29,7 @@ import seedu.address.model.lesson.Lesson;
 import seedu.address.model.lesson.Time;
 import seedu.address.model.lesson.Tutor;
 import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.util.LessonCascadeUpdater;
 
@@ -62,6 +63,9 @@ public class EditLessonCommand extends Command {
             "This tutor already has a class that overlaps with the specified time.";
     public static final String MESSAGE_STUDENT_TIME_CLASH_START =
             "Student clash detected for: ";
+    public static final String MESSAGE_ARCHIVED_LESSON = "Class %1$s has archived attendance, and cannot be "
+            + "renamed without leaving it behind.";
+    public static final String MESSAGE_ARCHIVE_ERROR = "Could not read archived attendance: %1$s";
 
     private final Index index;
     private final EditLessonDescriptor editLessonDescriptor;
@@ -93,24 +97,38 @@ public class EditLessonCommand extends Command {
         if (!lessonToEdit.isSameLesson(editedLesson) && model.hasLesson(editedLesson)) {
             throw new CommandException(MESSAGE_DUPLICATE_LESSON);
         }
+        if (!lessonToEdit.isSameLesson(editedLesson)) {
+            checkNotArchived(lessonToEdit, model);
+        }
 
-        boolean tutorHasClash = model.getAddressBook().getLessonList().stream()
+        boolean tutorHasClash = model.getLessonsByTutor(editedLesson.getTutor()).stream()
                 .filter(existing -> !existing.equals(lessonToEdit)) // exclude current lesson being edited
-                .filter(existing -> existing.getTutor().equals(editedLesson.getTutor()))
                 .anyMatch(existing -> existing.hasOverlapsWith(editedLesson));
 
         if (tutorHasClash) {
             throw new CommandException(MESSAGE_TUTOR_TIME_CLASH);
         }
 
+        // Only the enrolled students are visited. A student's lessons never overlap, so removing the slots of the
+        // lesson being edited leaves exactly the slots of their other lessons.
         Set<String> clashingIds = new HashSet<>();
-        for (Lesson existing : model.getAddressBook().getLessonList()) {
-            if (!existing.equals(lessonToEdit) && existing.hasOverlapsWith(editedLesson)) {
-                for (IdentificationNumber id : existing.getStudents()) {
-                    if (editedLesson.getStudents().contains(id)) {
-                        clashingIds.add(id.getValue());
-                    }
+        List<Lesson> overlappingLessons = null;
+        for (IdentificationNumber id : editedLesson.getStudents()) {
+            Optional<Person> student = model.findPersonById(id);
+            boolean hasClash;
+            if (student.isPresent()) {
+                hasClash = student.get().getWeeklyOccupancy()
+                        .minus(lessonToEdit.getOccupancy())
+                        .overlaps(editedLesson.getOccupancy());
+            } else {
+                // Without a person to take the occupancy from, the lessons enrolling the ID are checked instead
+                if (overlappingLessons == null) {
+                    overlappingLessons = getOverlappingLessons(model, lessonToEdit, editedLesson);
                 }
+                hasClash = overlappingLessons.stream().anyMatch(lesson -> lesson.getStudents().contains(id));
+            }
+            if (hasClash) {
+                clashingIds.add(id.getValue());
             }
         }
         if (!clashingIds.isEmpty()) {
@@ -127,6 +145,28 @@ public class EditLessonCommand extends Command {
         return new CommandResult(output, CommandResult.DisplayType.CLASS_LIST);
     }
 
+    /**
+     * Returns the lessons other than {@code lessonToEdit} that overlap with {@code editedLesson}.
+     */
+    private static List<Lesson> getOverlappingLessons(Model model, Lesson lessonToEdit, Lesson editedLesson) {
+        return model.getAddressBook().getLessonList().stream()
+                .filter(existing -> !existing.equals(lessonToEdit) && existing.hasOverlapsWith(editedLesson))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Archived attendance is keyed by class name, so renaming the lesson would leave it behind.
+     */
+    private static void checkNotArchived(Lesson lesson, Model model) throws CommandException {
+        try {
+            if (model.hasArchivedAttendance(lesson.getClassName())) {
+                throw new CommandException(String.format(MESSAGE_ARCHIVED_LESSON, lesson.getClassName()));
+            }
+        } catch (DataLoadingException dle) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_ERROR, dle.getMessage()), dle);
+        }
+    }
+
     /**
      * Creates and returns a {@code Lesson} with the details of {@code lessonToEdit}
      * edited with {@code editLessonDescriptor}.
@@ -144,14 +184,9 @@ public class EditLessonCommand extends Command {
 
         // Defensive copies for immutability
         Set<IdentificationNumber> preservedStudents = new HashSet<>(lessonToEdit.getStudents());
-        Map<java.time.LocalDate, Set<IdentificationNumber>> preservedAttendance = new HashMap<>();
-
-        lessonToEdit.getAttendance().forEach((date, ids) ->
-                preservedAttendance.put(date, new HashSet<>(ids))
-        );
 
         return new Lesson(updatedClassName, updatedDay, updatedTime, updatedTutor,
-                preservedStudents, preservedAttendance, updatedTags);
+                preservedStudents, lessonToEdit.getAttendanceRecord(), updatedTags);
     }
 
     @Override
@@ -5,10 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -62,10 +59,8 @@ public class EnrolCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        // Find the lesson by ClassName from the full lesson list
-        Optional<Lesson> lessonToEnrolInOptional = model.getAddressBook().getLessonList().stream()
-                .filter(lesson -> lesson.getClassName().equals(className))
-                .findFirst();
+        // Find the lesson by ClassName
+        Optional<Lesson> lessonToEnrolInOptional = model.findLessonByClassName(className);
 
         if (lessonToEnrolInOptional.isEmpty()) {
             throw new CommandException(MESSAGE_LESSON_NOT_FOUND);
@@ -73,9 +68,7 @@ public class EnrolCommand extends Command {
         Lesson lessonToEnrolIn = lessonToEnrolInOptional.get();
 
         // Find the student by IdentificationNumber from the full person list
-        Optional<Person> studentToEnrolOptional = model.getAddressBook().getPersonList().stream()
-                .filter(person -> person.getId().equals(studentId))
-                .findFirst();
+        Optional<Person> studentToEnrolOptional = model.findPersonById(studentId);
 
         if (studentToEnrolOptional.isEmpty()) {
             throw new CommandException(MESSAGE_STUDENT_NOT_FOUND);
@@ -93,24 +86,22 @@ public class EnrolCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_STUDENT);
         }
 
-        for (Lesson existingLesson : studentToEnrol.getLessons()) {
-            if (lessonToEnrolIn.hasOverlapsWith(existingLesson)) {
-                throw new CommandException(String.format(MESSAGE_TIMING_CLASH,
-                        Messages.shortenedFormatLesson(existingLesson)));
+        if (studentToEnrol.getWeeklyOccupancy().overlaps(lessonToEnrolIn.getOccupancy())) {
+            // Only look for the clashing lesson once a clash is known, to name it in the message
+            for (Lesson existingLesson : studentToEnrol.getLessons()) {
+                if (lessonToEnrolIn.hasOverlapsWith(existingLesson)) {
+                    throw new CommandException(String.format(MESSAGE_TIMING_CLASH,
+                            Messages.shortenedFormatLesson(existingLesson)));
+                }
             }
         }
 
-        // Create a deep copy of the attendance map with new HashSet copies for each date
-        Map<LocalDate, Set<IdentificationNumber>> newAttendanceMap = new HashMap<>();
-        lessonToEnrolIn.getAttendance().forEach((date, studentSet) ->
-                newAttendanceMap.put(date, new HashSet<>(studentSet)));
-
         Lesson newLesson = new Lesson(
                 lessonToEnrolIn.getClassName(),
                 lessonToEnrolIn.getDay(),
                 lessonToEnrolIn.getTime(),
                 lessonToEnrolIn.getTutor(),
-                newStudentIdSet, newAttendanceMap, lessonToEnrolIn.getTags()
+                newStudentIdSet, lessonToEnrolIn.getAttendanceRecord(), lessonToEnrolIn.getTags()
         );
 
         model.setLesson(lessonToEnrolIn, newLesson);
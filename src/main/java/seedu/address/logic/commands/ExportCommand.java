@@ -5,15 +5,22 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
 
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.Lesson;
 import seedu.address.storage.JsonSerializableAddressBook;
 
 /**
  * Exports the current address book data to a specified JSON file.
+ * Archived attendance is exported along with the attendance still held by each class.
  */
 public class ExportCommand extends Command {
 
@@ -47,11 +54,11 @@ public class ExportCommand extends Command {
             throw new CommandException(String.format(MESSAGE_FILE_ALREADY_EXISTS, filePath.getFileName()));
         }
 
-        ReadOnlyAddressBook addressBook = model.getAddressBook();
-        JsonSerializableAddressBook serializableAddressBook = new JsonSerializableAddressBook(addressBook);
-
         try {
-            JsonUtil.saveJsonFile(serializableAddressBook, filePath);
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(withAttendanceHistory(model)), filePath);
+        } catch (DataLoadingException dle) {
+            throw new CommandException(String.format(MESSAGE_EXPORT_ERROR, filePath.getFileName(), dle.getMessage()),
+                    dle);
         } catch (IOException ioe) {
             throw new CommandException(String.format(MESSAGE_EXPORT_ERROR, filePath.getFileName(), ioe.getMessage()),
                     ioe);
@@ -61,6 +68,22 @@ public class ExportCommand extends Command {
                 CommandResult.DisplayType.RECENT);
     }
 
+    /**
+     * Returns a copy of the address book in {@code model} whose classes hold all of their attendance, archived or not.
+     */
+    private static AddressBook withAttendanceHistory(Model model) throws DataLoadingException {
+        AddressBook addressBook = new AddressBook(model.getAddressBook());
+        List<Lesson> lessons = new ArrayList<>(addressBook.getLessonList());
+        for (Lesson lesson : lessons) {
+            AttendanceRecord history = model.getAttendanceHistory(lesson.getClassName(), LocalDate.MIN, LocalDate.MAX);
+            if (history != lesson.getAttendanceRecord()) {
+                addressBook.setLesson(lesson, new Lesson(lesson.getClassName(), lesson.getDay(), lesson.getTime(),
+                        lesson.getTutor(), lesson.getStudents(), history, lesson.getTags()));
+            }
+        }
+        return addressBook;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
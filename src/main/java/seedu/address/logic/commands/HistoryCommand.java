@@ -0,0 +1,44 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyUserPrefs;
+
+/**
+ * Shows how much undo history is kept and roughly how much memory it uses.
+ */
+public class HistoryCommand extends Command {
+
+    public static final String COMMAND_WORD = "history";
+
+    public static final String MESSAGE_SUCCESS =
+            "Undo history: %1$d of at most %2$d commands kept, using about %3$s of %4$s.";
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        ReadOnlyUserPrefs userPrefs = model.getUserPrefs();
+        String output = String.format(MESSAGE_SUCCESS, model.getUndoHistorySize(),
+                userPrefs.getMaxUndoHistorySize(), formatBytes(model.getUndoHistoryMemoryEstimate()),
+                formatBytes(userPrefs.getMaxUndoHistoryBytes()));
+        return new CommandResult(output, CommandResult.DisplayType.RECENT);
+    }
+
+    /**
+     * Returns {@code bytes} in the largest unit that keeps the value at least 1.
+     */
+    static String formatBytes(long bytes) {
+        if (bytes < 1024) {
+            return bytes + " B";
+        }
+        String[] units = {"KB", "MB", "GB", "TB"};
+        double value = bytes;
+        int unit = -1;
+        while (value >= 1024 && unit < units.length - 1) {
+            value /= 1024;
+            unit++;
+        }
+        return String.format("%.1f %s", value, units[unit]);
+    }
+}
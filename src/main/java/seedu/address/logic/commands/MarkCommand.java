@@ -3,18 +3,19 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.lesson.AttendanceRecord;
 import seedu.address.model.lesson.ClassName;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.IdentificationNumber;
@@ -22,35 +23,53 @@ import seedu.address.model.person.Person;
 import seedu.address.model.util.LessonCascadeUpdater;
 
 /**
- * Marks a student to be present in the specified class.
+ * Marks students present in the specified class: one or more students by ID, the enrolled students with given
+ * tags, or every enrolled student.
+ * All of them are marked in a single update of the class.
  */
 public class MarkCommand extends Command {
 
     public static final String COMMAND_WORD = "mark";
+    public static final String ALL_ENROLLED_WORD = "all";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Marks a student's attendance for a class on the current day.\n"
+            + ": Marks students' attendance for a class on the current day.\n"
             + "Parameters: "
-            + PREFIX_ID + "STUDENT_ID "
+            + "[" + ALL_ENROLLED_WORD + "] "
+            + "[" + PREFIX_ID + "STUDENT_ID]... "
+            + "[" + PREFIX_TAG + "TAG]... "
             + PREFIX_CLASS + "CLASS_NAME\n"
             + "Example: " + COMMAND_WORD + " "
             + PREFIX_ID + "S0000001 "
+            + PREFIX_ID + "S0000002 "
             + PREFIX_CLASS + "M2a";
 
     public static final String MESSAGE_SUCCESS = "Marked %1$s as present for class %2$s.";
+    public static final String MESSAGE_SUCCESS_MULTIPLE = "Marked %1$d students as present for class %2$s.";
+    public static final String MESSAGE_SKIPPED = " %1$d already marked present: %2$s.";
     public static final String MESSAGE_LESSON_NOT_FOUND = "Class %1$s not found.";
-    public static final String MESSAGE_PERSON_NOT_FOUND = "Student %1$s not found.";
+    public static final String MESSAGE_PERSON_NOT_FOUND = StudentSelector.MESSAGE_PERSON_NOT_FOUND;
     public static final String MESSAGE_ALREADY_MARKED = "%1$s has already been marked present for %2$s.";
-    public static final String MESSAGE_STUDENT_NOT_ENROLLED = "This student is not enrolled in this class.";
+    public static final String MESSAGE_ALL_ALREADY_MARKED =
+            "All selected students have already been marked present for %1$s.";
+    public static final String MESSAGE_STUDENT_NOT_ENROLLED = StudentSelector.MESSAGE_STUDENT_NOT_ENROLLED;
 
-    private final IdentificationNumber studentId;
+    private final StudentSelector students;
     private final ClassName className;
 
     /**
-     * @param studentId of the student to be arked present.
-     * @param className of the target student.
+     * @param studentId of the student to be marked present.
+     * @param className of the target class.
      */
     public MarkCommand(IdentificationNumber studentId, ClassName className) {
-        this.studentId = requireNonNull(studentId);
+        this(StudentSelector.of(studentId), className);
+    }
+
+    /**
+     * @param students to be marked present.
+     * @param className of the target class.
+     */
+    public MarkCommand(StudentSelector students, ClassName className) {
+        this.students = requireNonNull(students);
         this.className = requireNonNull(className);
     }
 
@@ -58,56 +77,42 @@ public class MarkCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Optional<Lesson> lessonOptional = model.getAddressBook().getLessonList().stream()
-                .filter(l -> l.getClassName().toString().equalsIgnoreCase(className.toString()))
-                .findFirst();
+        Optional<Lesson> lessonOptional = model.findLessonByClassName(className);
 
         if (lessonOptional.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_LESSON_NOT_FOUND, className.toString()));
         }
 
         Lesson lessonToMark = lessonOptional.get();
+        List<IdentificationNumber> studentIds = students.select(model, lessonToMark);
+        Optional<Person> singleStudent = students.getSingleStudentId().flatMap(model::findPersonById);
 
-        Optional<Person> studentToMarkOptional = model.getAddressBook().getPersonList().stream()
-                .filter(p -> p.getId().equals(studentId))
-                .findFirst();
-
-        if (studentToMarkOptional.isEmpty()) {
-            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, studentId.toString()));
-        }
-        Person studentToMark = studentToMarkOptional.get();
-
-        // Check if the student is enrolled in the lesson
-        if (!lessonToMark.getStudents().contains(studentId)) {
-            throw new CommandException(MESSAGE_STUDENT_NOT_ENROLLED);
-        }
-
-        // --- Logic for HashMap approach ---
+        // Only today's record is copied; every other date is shared with the current lesson
         LocalDate today = LocalDate.now();
-        // Create a deep copy of the attendance map with new HashSet copies for each date
-        Map<LocalDate, Set<IdentificationNumber>> newAttendanceMap = new HashMap<>();
-        lessonToMark.getAttendance().forEach((date, studentSet) ->
-                newAttendanceMap.put(date, new HashSet<>(studentSet)));
-
-        // Get the set of present students for today, or create a new set if it's the first record for today.
-        Set<IdentificationNumber> presentStudentsToday = newAttendanceMap.getOrDefault(today, new HashSet<>());
-
-        // Check for duplicates and add the student if not present
-        if (!presentStudentsToday.add(studentId)) {
-            throw new CommandException(String.format(MESSAGE_ALREADY_MARKED,
-                    Messages.shortenedFormatPerson(studentToMark), Messages.shortenedFormatLesson(lessonToMark)));
+        AttendanceRecord attendance = lessonToMark.getAttendanceRecord();
+        AttendanceRecord updatedAttendance = attendance;
+        List<IdentificationNumber> alreadyMarked = new ArrayList<>();
+        for (IdentificationNumber studentId : studentIds) {
+            if (attendance.isPresent(today, studentId)) {
+                alreadyMarked.add(studentId);
+            } else {
+                updatedAttendance = updatedAttendance.withPresent(today, studentId);
+            }
         }
 
-        // Update the map with the modified set for today's date
-        newAttendanceMap.put(today, presentStudentsToday);
+        if (alreadyMarked.size() == studentIds.size()) {
+            throw new CommandException(singleStudent.isPresent()
+                    ? String.format(MESSAGE_ALREADY_MARKED, Messages.shortenedFormatPerson(singleStudent.get()),
+                            Messages.shortenedFormatLesson(lessonToMark))
+                    : String.format(MESSAGE_ALL_ALREADY_MARKED, Messages.shortenedFormatLesson(lessonToMark)));
+        }
 
-        // Create a new lesson with the updated attendance map
         Lesson updatedLesson = new Lesson(
                 lessonToMark.getClassName(),
                 lessonToMark.getDay(),
                 lessonToMark.getTime(),
                 lessonToMark.getTutor(),
-                lessonToMark.getStudents(), newAttendanceMap, lessonToMark.getTags()
+                lessonToMark.getStudents(), updatedAttendance, lessonToMark.getTags()
         );
 
         model.setLesson(lessonToMark, updatedLesson);
@@ -117,8 +122,18 @@ public class MarkCommand extends Command {
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         // Update AddressBook state pointer
-        String output = String.format(MESSAGE_SUCCESS,
-                Messages.shortenedFormatPerson(studentToMark), Messages.shortenedFormatLesson(lessonToMark));
+        String output;
+        if (singleStudent.isPresent()) {
+            output = String.format(MESSAGE_SUCCESS,
+                    Messages.shortenedFormatPerson(singleStudent.get()), Messages.shortenedFormatLesson(lessonToMark));
+        } else {
+            output = String.format(MESSAGE_SUCCESS_MULTIPLE, studentIds.size() - alreadyMarked.size(),
+                    Messages.shortenedFormatLesson(lessonToMark));
+            if (!alreadyMarked.isEmpty()) {
+                output += String.format(MESSAGE_SKIPPED, alreadyMarked.size(),
+                        alreadyMarked.stream().map(IdentificationNumber::toString).collect(Collectors.joining(", ")));
+            }
+        }
         model.commitAddressBook(output, CommandResult.DisplayType.DEFAULT);
         return new CommandResult(output, CommandResult.DisplayType.DEFAULT);
     }
@@ -133,7 +148,7 @@ public class MarkCommand extends Command {
         }
         MarkCommand otherCommand = (MarkCommand) other;
         return className.equals(otherCommand.className)
-                && studentId.equals(otherCommand.studentId);
+                && students.equals(otherCommand.students);
     }
 }
 
@@ -0,0 +1,144 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.IdentificationNumber;
+
+/**
+ * Reports the attendance of a class over the sessions held between two dates, archived or not: the number of
+ * sessions each enrolled student attended, and the students who missed any of them.
+ */
+public class ReportCommand extends Command {
+
+    public static final String COMMAND_WORD = "report";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the sessions of a class attended by each enrolled student between two dates, "
+            + "and the students who missed any of them.\n"
+            + "Parameters: "
+            + PREFIX_CLASS + "CLASS_NAME "
+            + PREFIX_DATE + "FROM_DATE "
+            + "[" + PREFIX_TO_DATE + "TO_DATE]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_CLASS + "M2a "
+            + PREFIX_DATE + "2026-01-05 "
+            + PREFIX_TO_DATE + "2026-03-01";
+
+    public static final String MESSAGE_REPORT = "Class %1$s from %2$s to %3$s: %4$d sessions.";
+    public static final String MESSAGE_ABSENTEES = "\nMissed at least one session: %1$s.";
+    public static final String MESSAGE_NO_ABSENTEES = "\nNo student missed a session.";
+    public static final String MESSAGE_PRESENT_COUNTS = "\nSessions attended: %1$s.";
+    public static final String MESSAGE_FUTURE_START =
+            "The start date %1$s cannot be after today unless an end date is given with " + PREFIX_TO_DATE + ".";
+    public static final String MESSAGE_ARCHIVE_ERROR = "Could not read archived attendance: %1$s";
+
+    private static final Comparator<IdentificationNumber> BY_ID = Comparator.comparing(IdentificationNumber::getValue);
+
+    private final ClassName className;
+    private final LocalDate from;
+    // Null if the report runs up to the day it is made
+    private final LocalDate to;
+
+    /**
+     * Creates a command reporting the attendance of the class named {@code className} from {@code from} up to the
+     * day it is executed.
+     */
+    public ReportCommand(ClassName className, LocalDate from) {
+        this.className = requireNonNull(className);
+        this.from = requireNonNull(from);
+        this.to = null;
+    }
+
+    /**
+     * Creates a command reporting the attendance of the class named {@code className} from {@code from} to
+     * {@code to}, inclusive.
+     */
+    public ReportCommand(ClassName className, LocalDate from, LocalDate to) {
+        requireNonNull(to);
+        checkArgument(!to.isBefore(from), "The end date cannot be before the start date.");
+        this.className = requireNonNull(className);
+        this.from = requireNonNull(from);
+        this.to = to;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        Lesson lesson = model.findLessonByClassName(className).orElseThrow(() -> new CommandException(
+                String.format(MarkCommand.MESSAGE_LESSON_NOT_FOUND, className)));
+        LocalDate end = to != null ? to : LocalDate.now();
+        if (end.isBefore(from)) {
+            throw new CommandException(String.format(MESSAGE_FUTURE_START, from));
+        }
+
+        AttendanceRecord attendance;
+        try {
+            attendance = model.getAttendanceHistory(className, from, end);
+        } catch (DataLoadingException dle) {
+            throw new CommandException(String.format(MESSAGE_ARCHIVE_ERROR, dle.getMessage()), dle);
+        }
+        int sessions = attendance.getSessionCount(from, end);
+        Map<IdentificationNumber, Integer> presentCounts = attendance.getPresentCounts(from, end);
+
+        List<IdentificationNumber> students = new ArrayList<>(lesson.getStudents());
+        students.sort(BY_ID);
+        StringBuilder output = new StringBuilder(String.format(MESSAGE_REPORT,
+                Messages.shortenedFormatLesson(lesson), from, end, sessions));
+        String absentees = students.stream()
+                .filter(id -> presentCounts.getOrDefault(id, 0) < sessions)
+                .map(id -> id + " (" + (sessions - presentCounts.getOrDefault(id, 0)) + " missed)")
+                .collect(Collectors.joining(", "));
+        output.append(absentees.isEmpty() ? MESSAGE_NO_ABSENTEES : String.format(MESSAGE_ABSENTEES, absentees));
+        if (!students.isEmpty()) {
+            output.append(String.format(MESSAGE_PRESENT_COUNTS, students.stream()
+                    .map(id -> id + " " + presentCounts.getOrDefault(id, 0) + "/" + sessions)
+                    .collect(Collectors.joining(", "))));
+        }
+        return new CommandResult(output.toString(), CommandResult.DisplayType.RECENT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ReportCommand)) {
+            return false;
+        }
+
+        ReportCommand otherCommand = (ReportCommand) other;
+        return className.equals(otherCommand.className)
+                && from.equals(otherCommand.from)
+                && Objects.equals(to, otherCommand.to);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("className", className)
+                .add("from", from)
+                .add("to", to)
+                .toString();
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.lesson.ClassName;
+
+/**
+ * Starts a roll call for the specified class.
+ * The roll call itself is run by {@code LogicManager}, which treats every following input as a student ID to be
+ * marked present until the roll call is ended.
+ */
+public class RollCallCommand extends Command {
+
+    public static final String COMMAND_WORD = "rollcall";
+    public static final String END_WORD = "end";
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Starts a roll call for a class on the current day. "
+            + "Each student ID entered afterwards is marked present, until '" + END_WORD + "' is entered.\n"
+            + "Parameters: "
+            + PREFIX_CLASS + "CLASS_NAME\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_CLASS + "M2a";
+
+    public static final String MESSAGE_SUCCESS = "Roll call started for class %1$s. "
+            + "Enter or scan student IDs, then enter '" + END_WORD + "' to finish.";
+
+    private final ClassName className;
+
+    /**
+     * @param className of the class to take the roll call for.
+     */
+    public RollCallCommand(ClassName className) {
+        this.className = requireNonNull(className);
+    }
+
+    public ClassName getClassName() {
+        return className;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        if (model.findLessonByClassName(className).isEmpty()) {
+            throw new CommandException(String.format(MarkCommand.MESSAGE_LESSON_NOT_FOUND, className));
+        }
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, className), CommandResult.DisplayType.DEFAULT);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof RollCallCommand)) {
+            return false;
+        }
+        RollCallCommand otherCommand = (RollCallCommand) other;
+        return className.equals(otherCommand.className);
+    }
+}
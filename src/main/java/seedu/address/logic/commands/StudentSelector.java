@@ -0,0 +1,157 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Selects the students of a class that an attendance command applies to: the students with the given IDs, the
+ * enrolled students with any of the given tags, or every enrolled student.
+ */
+public class StudentSelector {
+
+    public static final String MESSAGE_PERSON_NOT_FOUND = "Student %1$s not found.";
+    public static final String MESSAGE_STUDENT_NOT_ENROLLED = "This student is not enrolled in this class.";
+    public static final String MESSAGE_NO_STUDENTS_SELECTED = "No student enrolled in this class was selected.";
+
+    private static final Comparator<IdentificationNumber> BY_ID = Comparator.comparing(IdentificationNumber::getValue);
+
+    private final Set<IdentificationNumber> studentIds;
+    private final Set<Tag> tags;
+    private final boolean isAllEnrolled;
+
+    private StudentSelector(Collection<IdentificationNumber> studentIds, Collection<Tag> tags, boolean isAllEnrolled) {
+        this.studentIds = Collections.unmodifiableSet(new LinkedHashSet<>(studentIds));
+        this.tags = Collections.unmodifiableSet(new LinkedHashSet<>(tags));
+        this.isAllEnrolled = isAllEnrolled;
+    }
+
+    /**
+     * Returns a selector for the students with {@code studentIds}, and the enrolled students with any of
+     * {@code tags}. At least one ID or tag must be given.
+     */
+    public static StudentSelector of(Collection<IdentificationNumber> studentIds, Collection<Tag> tags) {
+        requireNonNull(studentIds);
+        requireNonNull(tags);
+        if (studentIds.isEmpty() && tags.isEmpty()) {
+            throw new IllegalArgumentException("At least one student ID or tag must be given.");
+        }
+        return new StudentSelector(studentIds, tags, false);
+    }
+
+    /**
+     * Returns a selector for the single student with {@code studentId}.
+     */
+    public static StudentSelector of(IdentificationNumber studentId) {
+        return of(List.of(requireNonNull(studentId)), List.of());
+    }
+
+    /**
+     * Returns a selector for every student enrolled in the class.
+     */
+    public static StudentSelector allEnrolled() {
+        return new StudentSelector(List.of(), List.of(), true);
+    }
+
+    /**
+     * Returns the ID of the student this selector names, if it selects exactly one student by ID and nothing else.
+     */
+    public Optional<IdentificationNumber> getSingleStudentId() {
+        return studentIds.size() == 1 && tags.isEmpty() && !isAllEnrolled
+                ? Optional.of(studentIds.iterator().next())
+                : Optional.empty();
+    }
+
+    /**
+     * Returns the selected students of {@code lesson}: the students given by ID in the order given, followed by
+     * the other selected students in ID order.
+     *
+     * @throws CommandException if a student given by ID does not exist or is not enrolled in {@code lesson}, or
+     *     if no student is selected.
+     */
+    public List<IdentificationNumber> select(Model model, Lesson lesson) throws CommandException {
+        requireNonNull(model);
+        requireNonNull(lesson);
+        Set<IdentificationNumber> enrolled = lesson.getStudents();
+
+        Set<IdentificationNumber> selected = new LinkedHashSet<>();
+        for (IdentificationNumber studentId : studentIds) {
+            if (model.findPersonById(studentId).isEmpty()) {
+                throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, studentId));
+            }
+            if (!enrolled.contains(studentId)) {
+                throw new CommandException(MESSAGE_STUDENT_NOT_ENROLLED);
+            }
+            selected.add(studentId);
+        }
+
+        List<IdentificationNumber> others = new ArrayList<>();
+        for (IdentificationNumber studentId : enrolled) {
+            if (!selected.contains(studentId) && (isAllEnrolled || hasAnyTag(model, studentId))) {
+                others.add(studentId);
+            }
+        }
+        others.sort(BY_ID);
+        selected.addAll(others);
+
+        if (selected.isEmpty()) {
+            throw new CommandException(MESSAGE_NO_STUDENTS_SELECTED);
+        }
+        return new ArrayList<>(selected);
+    }
+
+    private boolean hasAnyTag(Model model, IdentificationNumber studentId) {
+        if (tags.isEmpty()) {
+            return false;
+        }
+        Optional<Person> student = model.findPersonById(studentId);
+        return student.isPresent() && !Collections.disjoint(student.get().getTags(), tags);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof StudentSelector)) {
+            return false;
+        }
+
+        StudentSelector otherSelector = (StudentSelector) other;
+        return studentIds.equals(otherSelector.studentIds)
+                && tags.equals(otherSelector.tags)
+                && isAllEnrolled == otherSelector.isAllEnrolled;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(studentIds, tags, isAllEnrolled);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("studentIds", studentIds)
+                .add("tags", tags)
+                .add("isAllEnrolled", isAllEnrolled)
+                .toString();
+    }
+}
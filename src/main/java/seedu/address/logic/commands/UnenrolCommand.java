@@ -5,10 +5,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.time.LocalDate;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -61,9 +58,7 @@ public class UnenrolCommand extends Command {
         requireNonNull(model);
 
         // Find the lesson by ClassName
-        Optional<Lesson> lessonToEditOptional = model.getAddressBook().getLessonList().stream()
-                .filter(lesson -> lesson.getClassName().equals(className))
-                .findFirst();
+        Optional<Lesson> lessonToEditOptional = model.findLessonByClassName(className);
 
         if (lessonToEditOptional.isEmpty()) {
             throw new CommandException(MESSAGE_LESSON_NOT_FOUND);
@@ -71,9 +66,7 @@ public class UnenrolCommand extends Command {
         Lesson lessonToEdit = lessonToEditOptional.get();
 
         // Find the student by IdentificationNumber
-        Optional<Person> studentOptional = model.getAddressBook().getPersonList().stream()
-                .filter(person -> person.getId().equals(studentId))
-                .findFirst();
+        Optional<Person> studentOptional = model.findPersonById(studentId);
 
         if (studentOptional.isEmpty()) {
             throw new CommandException(MESSAGE_STUDENT_NOT_FOUND);
@@ -86,18 +79,13 @@ public class UnenrolCommand extends Command {
             throw new CommandException(MESSAGE_STUDENT_NOT_ENROLLED);
         }
 
-        // Create a deep copy of the attendance map with new HashSet copies for each date
-        Map<LocalDate, Set<IdentificationNumber>> newAttendanceMap = new HashMap<>();
-        lessonToEdit.getAttendance().forEach((date, studentSet) ->
-                newAttendanceMap.put(date, new HashSet<>(studentSet)));
-
         Lesson newLesson = new Lesson(
                 lessonToEdit.getClassName(),
                 lessonToEdit.getDay(),
                 lessonToEdit.getTime(),
                 lessonToEdit.getTutor(),
                 newStudentIdSet,
-                newAttendanceMap,
+                lessonToEdit.getAttendanceRecord(),
                 lessonToEdit.getTags()
         );
 
@@ -4,17 +4,18 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.time.LocalDate;
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
+import java.util.stream.Collectors;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.lesson.AttendanceRecord;
 import seedu.address.model.lesson.ClassName;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.IdentificationNumber;
@@ -22,15 +23,19 @@ import seedu.address.model.person.Person;
 import seedu.address.model.util.LessonCascadeUpdater;
 
 /**
- * Unmarks a student's attendance for a specific class on the current day.
+ * Unmarks students' attendance for a specific class on the current day, or on a given date: one or more students by
+ * ID, the enrolled students with given tags, or every enrolled student.
+ * All of them are unmarked in a single update of the class.
  */
 public class UnmarkCommand extends Command {
 
     public static final String COMMAND_WORD = "unmark";
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Unmarks a student's attendance for a class on the current day.\n"
+            + ": Unmarks students' attendance for a class on the current day.\n"
             + "Parameters: "
-            + PREFIX_ID + "STUDENT_ID "
+            + "[" + MarkCommand.ALL_ENROLLED_WORD + "] "
+            + "[" + PREFIX_ID + "STUDENT_ID]... "
+            + "[" + PREFIX_TAG + "TAG]... "
             + PREFIX_CLASS + "CLASS_NAME "
             + "[" + PREFIX_DATE + "DATE]\n"
             + "Example: " + COMMAND_WORD + " "
@@ -39,12 +44,16 @@ public class UnmarkCommand extends Command {
             + PREFIX_DATE + "2023-10-28";
 
     public static final String MESSAGE_SUCCESS = "Unmarked %1$s as present for class %2$s on %3$s.";
+    public static final String MESSAGE_SUCCESS_MULTIPLE = "Unmarked %1$d students as present for class %2$s on %3$s.";
+    public static final String MESSAGE_SKIPPED = " %1$d not marked present: %2$s.";
     public static final String MESSAGE_LESSON_NOT_FOUND = "Class %1$s not found.";
-    public static final String MESSAGE_PERSON_NOT_FOUND = "Student %1$s not found.";
+    public static final String MESSAGE_PERSON_NOT_FOUND = StudentSelector.MESSAGE_PERSON_NOT_FOUND;
     public static final String MESSAGE_NOT_MARKED = "%1$s has not been marked present for %2$s on %3$s.";
-    public static final String MESSAGE_STUDENT_NOT_ENROLLED = "This student is not enrolled in this class.";
+    public static final String MESSAGE_NONE_MARKED =
+            "None of the selected students have been marked present for %1$s on %2$s.";
+    public static final String MESSAGE_STUDENT_NOT_ENROLLED = StudentSelector.MESSAGE_STUDENT_NOT_ENROLLED;
 
-    private final IdentificationNumber studentId;
+    private final StudentSelector students;
     private final ClassName className;
     private final Optional<LocalDate> date;
 
@@ -53,7 +62,15 @@ public class UnmarkCommand extends Command {
      * @param className of the target class.
      */
     public UnmarkCommand(IdentificationNumber studentId, ClassName className, Optional<LocalDate> date) {
-        this.studentId = requireNonNull(studentId);
+        this(StudentSelector.of(studentId), className, date);
+    }
+
+    /**
+     * @param students to be unmarked.
+     * @param className of the target class.
+     */
+    public UnmarkCommand(StudentSelector students, ClassName className, Optional<LocalDate> date) {
+        this.students = requireNonNull(students);
         this.className = requireNonNull(className);
         this.date = requireNonNull(date);
     }
@@ -62,51 +79,41 @@ public class UnmarkCommand extends Command {
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
 
-        Optional<Lesson> lessonOptional = model.getAddressBook().getLessonList().stream()
-                .filter(l -> l.getClassName().toString().equalsIgnoreCase(className.toString()))
-                .findFirst();
+        Optional<Lesson> lessonOptional = model.findLessonByClassName(className);
 
         if (lessonOptional.isEmpty()) {
             throw new CommandException(String.format(MESSAGE_LESSON_NOT_FOUND, className));
         }
         Lesson lessonToUnmark = lessonOptional.get();
+        List<IdentificationNumber> studentIds = students.select(model, lessonToUnmark);
+        Optional<Person> singleStudent = students.getSingleStudentId().flatMap(model::findPersonById);
 
-        Optional<Person> studentToUnmarkOptional = model.getAddressBook().getPersonList().stream()
-                .filter(p -> p.getId().equals(studentId))
-                .findFirst();
-
-        if (studentToUnmarkOptional.isEmpty()) {
-            throw new CommandException(String.format(MESSAGE_PERSON_NOT_FOUND, studentId));
-        }
-        Person studentToUnmark = studentToUnmarkOptional.get();
-
-        if (!lessonToUnmark.getStudents().contains(studentId)) {
-            throw new CommandException(MESSAGE_STUDENT_NOT_ENROLLED);
-        }
-
+        // Only the record for the attendance date is copied; every other date is shared with the current lesson
         LocalDate attendanceDate = date.orElse(LocalDate.now());
-        // Create a deep copy of the attendance map with new HashSet copies for each date
-        Map<LocalDate, Set<IdentificationNumber>> newAttendanceMap = new HashMap<>();
-        lessonToUnmark.getAttendance().forEach((date, studentSet) ->
-                newAttendanceMap.put(date, new HashSet<>(studentSet)));
-
-        Set<IdentificationNumber> presentStudentsToday = newAttendanceMap.getOrDefault(attendanceDate, new HashSet<>());
-
-        if (!presentStudentsToday.remove(studentId)) {
-            throw new CommandException(String.format(MESSAGE_NOT_MARKED,
-                    studentToUnmark.getName().fullName,
-                    className.fullClassName,
-                    attendanceDate));
+        AttendanceRecord attendance = lessonToUnmark.getAttendanceRecord();
+        AttendanceRecord updatedAttendance = attendance;
+        List<IdentificationNumber> notMarked = new ArrayList<>();
+        for (IdentificationNumber studentId : studentIds) {
+            if (attendance.isPresent(attendanceDate, studentId)) {
+                updatedAttendance = updatedAttendance.withAbsent(attendanceDate, studentId);
+            } else {
+                notMarked.add(studentId);
+            }
         }
 
-        newAttendanceMap.put(attendanceDate, presentStudentsToday);
+        if (notMarked.size() == studentIds.size()) {
+            throw new CommandException(singleStudent.isPresent()
+                    ? String.format(MESSAGE_NOT_MARKED, singleStudent.get().getName().fullName,
+                            className.fullClassName, attendanceDate)
+                    : String.format(MESSAGE_NONE_MARKED, className.fullClassName, attendanceDate));
+        }
 
         Lesson updatedLesson = new Lesson(
                 lessonToUnmark.getClassName(),
                 lessonToUnmark.getDay(),
                 lessonToUnmark.getTime(),
                 lessonToUnmark.getTutor(),
-                lessonToUnmark.getStudents(), newAttendanceMap, lessonToUnmark.getTags()
+                lessonToUnmark.getStudents(), updatedAttendance, lessonToUnmark.getTags()
         );
 
         model.setLesson(lessonToUnmark, updatedLesson);
@@ -116,8 +123,18 @@ public class UnmarkCommand extends Command {
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
 
         // Update AddressBook state pointer
-        String output = String.format(MESSAGE_SUCCESS,
-                studentToUnmark.getName().fullName, className.fullClassName, attendanceDate);
+        String output;
+        if (singleStudent.isPresent()) {
+            output = String.format(MESSAGE_SUCCESS,
+                    singleStudent.get().getName().fullName, className.fullClassName, attendanceDate);
+        } else {
+            output = String.format(MESSAGE_SUCCESS_MULTIPLE, studentIds.size() - notMarked.size(),
+                    className.fullClassName, attendanceDate);
+            if (!notMarked.isEmpty()) {
+                output += String.format(MESSAGE_SKIPPED, notMarked.size(),
+                        notMarked.stream().map(IdentificationNumber::toString).collect(Collectors.joining(", ")));
+            }
+        }
         model.commitAddressBook(output, CommandResult.DisplayType.DEFAULT);
         return new CommandResult(output, CommandResult.DisplayType.DEFAULT);
     }
@@ -132,7 +149,7 @@ public class UnmarkCommand extends Command {
         }
         UnmarkCommand otherCommand = (UnmarkCommand) other;
         return className.equals(otherCommand.className)
-                && studentId.equals(otherCommand.studentId)
+                && students.equals(otherCommand.students)
                 && date.equals(otherCommand.date);
     }
 
@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SESSIONS;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.AttendanceCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new AttendanceCommand object
+ */
+public class AttendanceCommandParser implements Parser<AttendanceCommand> {
+
+    public static final String MESSAGE_INVALID_SESSIONS = "Number of sessions should be a positive integer.";
+
+    @Override
+    public AttendanceCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS, PREFIX_SESSIONS, PREFIX_ID,
+                PREFIX_DATE);
+
+        boolean hasClass = argMultimap.getValue(PREFIX_CLASS).isPresent();
+        boolean hasStudent = argMultimap.getValue(PREFIX_ID).isPresent();
+        if (hasClass == hasStudent || (hasStudent && argMultimap.getValue(PREFIX_SESSIONS).isPresent())
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLASS, PREFIX_SESSIONS, PREFIX_ID, PREFIX_DATE);
+
+        AttendanceCommand command = hasStudent ? AttendanceCommand.ofStudent(ParserUtil.parseIdentificationNumber(
+                argMultimap.getValue(PREFIX_ID).get())) : parseClassCommand(argMultimap);
+        if (argMultimap.getValue(PREFIX_DATE).isPresent()) {
+            return command.since(ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get()));
+        }
+        return command;
+    }
+
+    private static AttendanceCommand parseClassCommand(ArgumentMultimap argMultimap) throws ParseException {
+        int sessions = AttendanceCommand.DEFAULT_ABSENT_SESSIONS;
+        if (argMultimap.getValue(PREFIX_SESSIONS).isPresent()) {
+            String trimmedSessions = argMultimap.getValue(PREFIX_SESSIONS).get().trim();
+            if (!StringUtil.isNonZeroUnsignedInteger(trimmedSessions)) {
+                throw new ParseException(MESSAGE_INVALID_SESSIONS);
+            }
+            sessions = Integer.parseInt(trimmedSessions);
+        }
+        return AttendanceCommand.ofClass(ParserUtil.parseClassName(argMultimap.getValue(PREFIX_CLASS).get()),
+                sessions);
+    }
+}
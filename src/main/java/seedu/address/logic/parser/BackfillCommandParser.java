@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.logic.commands.BackfillCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new BackfillCommand object
+ */
+public class BackfillCommandParser implements Parser<BackfillCommand> {
+
+    public static final String MESSAGE_NOT_CSV = "File must be a .csv file.";
+
+    @Override
+    public BackfillCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, BackfillCommand.MESSAGE_USAGE));
+        }
+
+        try {
+            Path filePath = Paths.get(trimmedArgs);
+            if (filePath.getFileName() == null
+                    || !filePath.getFileName().toString().toLowerCase().endsWith(".csv")) {
+                throw new ParseException(MESSAGE_NOT_CSV);
+            }
+            return new BackfillCommand(filePath);
+        } catch (InvalidPathException ipe) {
+            throw new ParseException("Invalid file path provided: " + trimmedArgs, ipe);
+        }
+    }
+}
@@ -23,5 +23,11 @@ public class CliSyntax {
     /* For unmark*/
     public static final Prefix PREFIX_DATE = new Prefix("dt/");
 
+    /* For attendance */
+    public static final Prefix PREFIX_SESSIONS = new Prefix("s/");
+
+    /* For report */
+    public static final Prefix PREFIX_TO_DATE = new Prefix("to/");
+
 
 }
@@ -3,10 +3,13 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.stream.Stream;
+import java.util.ArrayList;
+import java.util.List;
 
 import seedu.address.logic.commands.MarkCommand;
+import seedu.address.logic.commands.StudentSelector;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.lesson.ClassName;
 import seedu.address.model.person.IdentificationNumber;
@@ -19,27 +22,44 @@ public class MarkCommandParser implements Parser<MarkCommand> {
     @Override
     public MarkCommand parse(String args) throws ParseException {
         ArgumentMultimap argMultimap =
-                ArgumentTokenizer.tokenize(args, PREFIX_ID, PREFIX_CLASS);
+                ArgumentTokenizer.tokenize(args, PREFIX_ID, PREFIX_TAG, PREFIX_CLASS);
 
-        if (!arePrefixesPresent(argMultimap, PREFIX_ID, PREFIX_CLASS)
-                || !argMultimap.getPreamble().isEmpty()) {
+        if (argMultimap.getValue(PREFIX_CLASS).isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT,
                     MarkCommand.MESSAGE_USAGE));
         }
 
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_ID, PREFIX_CLASS);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLASS);
 
-        IdentificationNumber studentId = ParserUtil.parseIdentificationNumber(argMultimap.getValue(PREFIX_ID).get());
+        StudentSelector students = parseStudentSelector(argMultimap, MarkCommand.MESSAGE_USAGE);
         ClassName className = ParserUtil.parseClassName(argMultimap.getValue(PREFIX_CLASS).get());
 
-        return new MarkCommand(studentId, className);
+        return new MarkCommand(students, className);
     }
 
     /**
-     * Returns true if none of the prefixes contains empty {@code Optional} values in the given
-     * {@code ArgumentMultimap}.
+     * Parses the students selected in {@code argMultimap}: either the word {@code all} as the preamble, or any
+     * number of student IDs and tags.
+     * @throws ParseException if no student is selected, or {@code all} is given together with IDs or tags
      */
-    private static boolean arePrefixesPresent(ArgumentMultimap argumentMultimap, Prefix... prefixes) {
-        return Stream.of(prefixes).allMatch(prefix -> argumentMultimap.getValue(prefix).isPresent());
+    static StudentSelector parseStudentSelector(ArgumentMultimap argMultimap, String messageUsage)
+            throws ParseException {
+        String preamble = argMultimap.getPreamble();
+        List<String> studentIdValues = argMultimap.getAllValues(PREFIX_ID);
+        List<String> tagValues = argMultimap.getAllValues(PREFIX_TAG);
+        boolean hasIdsOrTags = !studentIdValues.isEmpty() || !tagValues.isEmpty();
+
+        if (preamble.equalsIgnoreCase(MarkCommand.ALL_ENROLLED_WORD) && !hasIdsOrTags) {
+            return StudentSelector.allEnrolled();
+        }
+        if (!preamble.isEmpty() || !hasIdsOrTags) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+        }
+
+        List<IdentificationNumber> studentIds = new ArrayList<>();
+        for (String studentId : studentIdValues) {
+            studentIds.add(ParserUtil.parseIdentificationNumber(studentId));
+        }
+        return StudentSelector.of(studentIds, ParserUtil.parseTags(tagValues));
     }
 }
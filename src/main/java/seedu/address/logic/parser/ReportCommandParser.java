@@ -0,0 +1,49 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
+
+import java.time.LocalDate;
+
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.lesson.ClassName;
+
+/**
+ * Parses input arguments and creates a new ReportCommand object
+ */
+public class ReportCommandParser implements Parser<ReportCommand> {
+
+    public static final String MESSAGE_END_BEFORE_START = "The end date cannot be before the start date.";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ReportCommand
+     * and returns a ReportCommand object for execution.
+     * @throws ParseException if the user input does not conform to the expected format
+     */
+    @Override
+    public ReportCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS, PREFIX_DATE, PREFIX_TO_DATE);
+
+        if (argMultimap.getValue(PREFIX_CLASS).isEmpty() || argMultimap.getValue(PREFIX_DATE).isEmpty()
+                || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLASS, PREFIX_DATE, PREFIX_TO_DATE);
+
+        ClassName className = ParserUtil.parseClassName(argMultimap.getValue(PREFIX_CLASS).get());
+        LocalDate from = ParserUtil.parseDate(argMultimap.getValue(PREFIX_DATE).get());
+        if (argMultimap.getValue(PREFIX_TO_DATE).isEmpty()) {
+            return new ReportCommand(className, from);
+        }
+
+        LocalDate to = ParserUtil.parseDate(argMultimap.getValue(PREFIX_TO_DATE).get());
+        if (to.isBefore(from)) {
+            throw new ParseException(MESSAGE_END_BEFORE_START);
+        }
+        return new ReportCommand(className, from, to);
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
+
+import seedu.address.logic.commands.RollCallCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.lesson.ClassName;
+
+/**
+ * Parses input arguments and creates a new RollCallCommand object
+ */
+public class RollCallCommandParser implements Parser<RollCallCommand> {
+
+    @Override
+    public RollCallCommand parse(String args) throws ParseException {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_CLASS);
+
+        if (argMultimap.getValue(PREFIX_CLASS).isEmpty() || !argMultimap.getPreamble().isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, RollCallCommand.MESSAGE_USAGE));
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_CLASS);
+
+        ClassName className = ParserUtil.parseClassName(argMultimap.getValue(PREFIX_CLASS).get());
+        return new RollCallCommand(className);
+    }
+}
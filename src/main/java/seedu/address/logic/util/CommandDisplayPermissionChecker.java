@@ -50,8 +50,8 @@ public class CommandDisplayPermissionChecker {
 
     private static boolean isNeutralCommand(String cmd) {
         return switch (cmd) {
-        case "help", "exit", "clear", "enrol", "mark", "unmark", "list", "listc", "add", "addc",
-             "find", "findc" -> true;
+        case "help", "exit", "clear", "enrol", "mark", "unmark", "rollcall", "attendance", "report", "list",
+             "listc", "add", "addc", "find", "findc" -> true;
         default -> false;
         };
     }
@@ -2,12 +2,20 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.lesson.ClassName;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Tutor;
 import seedu.address.model.lesson.UniqueLessonList;
+import seedu.address.model.person.IdentificationNumber;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 
@@ -19,6 +27,7 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
     private final UniqueLessonList lessons;
+    private final Map<Tutor, Map<ClassName, Lesson>> lessonsByTutor;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -30,6 +39,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         lessons = new UniqueLessonList();
+        lessonsByTutor = new HashMap<>();
     }
 
     public AddressBook() {}
@@ -58,6 +68,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setLessons(List<Lesson> lessons) {
         this.lessons.setLessons(lessons);
+
+        lessonsByTutor.clear();
+        for (Lesson lesson : lessons) {
+            indexTutor(lesson);
+        }
     }
 
     /**
@@ -77,7 +92,15 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasPerson(Person person) {
         requireNonNull(person);
-        return persons.asUnmodifiableObservableList().stream().anyMatch(person::hasSameIdentity);
+        return persons.contains(person);
+    }
+
+    /**
+     * Returns the person with the given {@code id}, or {@code Optional.empty()} if no such person exists.
+     */
+    public Optional<Person> findPersonById(IdentificationNumber id) {
+        requireNonNull(id);
+        return persons.findById(id);
     }
 
     /**
@@ -88,6 +111,14 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Inserts a person into the address book at {@code index}.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(int index, Person p) {
+        persons.add(index, p);
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -117,12 +148,30 @@ public class AddressBook implements ReadOnlyAddressBook {
         return lessons.contains(lesson);
     }
 
+    /**
+     * Returns the lesson with the given {@code className}, or {@code Optional.empty()} if no such lesson exists.
+     */
+    public Optional<Lesson> findLessonByClassName(ClassName className) {
+        requireNonNull(className);
+        return lessons.findByClassName(className);
+    }
+
     /**
      * Adds a person to the address book.
      * The person must not already exist in the address book.
      */
     public void addLesson(Lesson l) {
         lessons.add(l);
+        indexTutor(l);
+    }
+
+    /**
+     * Inserts a lesson into the address book at {@code index}.
+     * The lesson must not already exist in the address book.
+     */
+    void addLesson(int index, Lesson l) {
+        lessons.add(index, l);
+        indexTutor(l);
     }
 
     /**
@@ -134,6 +183,8 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedLesson);
 
         lessons.setLesson(target, editedLesson);
+        unindexTutor(target);
+        indexTutor(editedLesson);
     }
 
     /**
@@ -142,6 +193,40 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeLesson(Lesson key) {
         lessons.remove(key);
+        unindexTutor(key);
+    }
+
+    /**
+     * Returns the lessons taught by {@code tutor}.
+     * Only the tutor's own lessons are visited, regardless of the total number of lessons.
+     */
+    public List<Lesson> getLessonsByTutor(Tutor tutor) {
+        requireNonNull(tutor);
+        Map<ClassName, Lesson> tutorLessons = lessonsByTutor.get(tutor);
+        return tutorLessons == null ? new ArrayList<>() : new ArrayList<>(tutorLessons.values());
+    }
+
+    /**
+     * Lessons are keyed by class name within each tutor's entry, as class names are unique and cheaper to hash
+     * than whole lessons.
+     */
+    private void indexTutor(Lesson lesson) {
+        if (lesson.getTutor() == null) {
+            return;
+        }
+        lessonsByTutor.computeIfAbsent(lesson.getTutor(), unused -> new LinkedHashMap<>())
+                .put(lesson.getClassName(), lesson);
+    }
+
+    private void unindexTutor(Lesson lesson) {
+        Map<ClassName, Lesson> tutorLessons = lessonsByTutor.get(lesson.getTutor());
+        if (tutorLessons == null) {
+            return;
+        }
+        tutorLessons.remove(lesson.getClassName());
+        if (tutorLessons.isEmpty()) {
+            lessonsByTutor.remove(lesson.getTutor());
+        }
     }
 
     //// util methods
@@ -0,0 +1,13 @@
+package seedu.address.model;
+
+/**
+ * The formats in which the address book can be saved on the hard disk.
+ */
+public enum AddressBookFormat {
+    /** A json file that can be read and edited by hand, with a journal of the changes made since it was written. */
+    JSON,
+    /** A compact binary file that is smaller and faster to read and write, but cannot be edited by hand. */
+    BINARY,
+    /** A directory of json files, one for each lesson and one for the persons, of which saves only rewrite changes. */
+    SHARDED
+}
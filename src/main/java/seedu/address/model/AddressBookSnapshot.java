@@ -0,0 +1,44 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.model.util.PersistentList;
+
+/**
+ * An immutable record of the persons and lessons in an address book at one point in its history.
+ * Snapshots taken from the same {@code VersionedAddressBook} share the parts of their lists that did not change.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Person> persons;
+    private final PersistentList<Lesson> lessons;
+
+    AddressBookSnapshot(PersistentList<Person> persons, PersistentList<Lesson> lessons) {
+        requireAllNonNull(persons, lessons);
+        this.persons = persons;
+        this.lessons = lessons;
+    }
+
+    PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    PersistentList<Lesson> getLessons() {
+        return lessons;
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.toList()));
+    }
+
+    @Override
+    public ObservableList<Lesson> getLessonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(lessons.toList()));
+    }
+
+}
@@ -0,0 +1,101 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javafx.collections.ListChangeListener;
+
+/**
+ * The changes made to one list of an address book between two committed states.
+ * Changes are recorded from list change events, and can be reversed or replayed through an {@link Editor}.
+ */
+class ListDelta<E> {
+
+    private final List<Edit<E>> edits = new ArrayList<>();
+
+    /**
+     * Performs changes on the list a delta was recorded from.
+     */
+    interface Editor<E> {
+        int size();
+
+        void set(E target, E replacement);
+
+        void add(int index, E element);
+
+        void remove(E element);
+
+        void setAll(List<E> elements);
+    }
+
+    boolean isEmpty() {
+        return edits.isEmpty();
+    }
+
+    /**
+     * Records the changes described by {@code change}.
+     */
+    void record(ListChangeListener.Change<? extends E> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<E> before = new ArrayList<>();
+                List<E> after = new ArrayList<>(change.getList().subList(change.getFrom(), change.getTo()));
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    before.add(change.getList().get(change.getPermutation(i)));
+                }
+                edits.add(new Edit<>(change.getFrom(), before, after));
+            } else if (!change.wasUpdated()) {
+                edits.add(new Edit<>(change.getFrom(), new ArrayList<>(change.getRemoved()),
+                        new ArrayList<>(change.getAddedSubList())));
+            }
+        }
+    }
+
+    /**
+     * Reverses the recorded changes, latest first.
+     */
+    void undo(Editor<E> editor) {
+        for (int i = edits.size() - 1; i >= 0; i--) {
+            Edit<E> edit = edits.get(i);
+            apply(editor, edit.index, edit.added, edit.removed);
+        }
+    }
+
+    /**
+     * Replays the recorded changes, earliest first.
+     */
+    void redo(Editor<E> editor) {
+        for (Edit<E> edit : edits) {
+            apply(editor, edit.index, edit.removed, edit.added);
+        }
+    }
+
+    private static <E> void apply(Editor<E> editor, int index, List<E> toRemove, List<E> toAdd) {
+        if (toRemove.size() == 1 && toAdd.size() == 1) {
+            editor.set(toRemove.get(0), toAdd.get(0));
+        } else if (index == 0 && toRemove.size() == editor.size()) {
+            editor.setAll(toAdd);
+        } else {
+            toRemove.forEach(editor::remove);
+            for (int i = 0; i < toAdd.size(); i++) {
+                editor.add(index + i, toAdd.get(i));
+            }
+        }
+    }
+
+    /**
+     * One list change: {@code removed} was replaced by {@code added}, starting at {@code index}.
+     */
+    private static class Edit<E> {
+        private final int index;
+        private final List<E> removed;
+        private final List<E> added;
+
+        Edit(int index, List<E> removed, List<E> added) {
+            this.index = index;
+            this.removed = removed;
+            this.added = added;
+        }
+    }
+
+}
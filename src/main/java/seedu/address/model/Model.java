@@ -1,13 +1,23 @@
 package seedu.address.model;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.ConfirmableCommand;
+import seedu.address.model.lesson.AttendanceAnalytics;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Tutor;
+import seedu.address.model.person.IdentificationNumber;
 import seedu.address.model.person.Person;
 
 /**
@@ -58,11 +68,28 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns an immutable copy of the AddressBook, which later changes to the model do not affect, and which may
+     * be read on another thread.
+     */
+    ReadOnlyAddressBook getAddressBookSnapshot();
+
+    /**
+     * Returns a number that changes whenever a person or lesson in the AddressBook changes, so that callers can
+     * tell whether it changed since they last looked.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
     boolean hasPerson(Person person);
 
+    /**
+     * Returns the person with the given {@code id}, or {@code Optional.empty()} if no such person exists.
+     */
+    Optional<Person> findPersonById(IdentificationNumber id);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -74,6 +101,11 @@ public interface Model {
      */
     List<Lesson> getLessonsAssignedToTutor(Person tutor);
 
+    /**
+     * Returns the lessons taught by {@code tutor}.
+     */
+    List<Lesson> getLessonsByTutor(Tutor tutor);
+
     /**
      * Adds the given person.
      * {@code person} must not already exist in the address book.
@@ -101,6 +133,11 @@ public interface Model {
      */
     boolean hasLesson(Lesson aLesson);
 
+    /**
+     * Returns the lesson with the given {@code className}, or {@code Optional.empty()} if no such lesson exists.
+     */
+    Optional<Lesson> findLessonByClassName(ClassName className);
+
     /**
      * Deletes the given person.
      * The person must exist in the address book.
@@ -129,6 +166,39 @@ public interface Model {
      */
     void updateFilteredLessonList(Predicate<Lesson> predicate);
 
+    /** Returns the attendance rates and absence streaks of the classes, kept up to date as they change */
+    AttendanceAnalytics getAttendanceAnalytics();
+
+    /**
+     * Returns true if the student with {@code studentId} was present for the class named {@code className} on any
+     * day of the current week up to today.
+     */
+    boolean isPresentThisWeek(ClassName className, IdentificationNumber studentId);
+
+    /**
+     * Returns the attendance of the class named {@code className} on the session dates from {@code from} to
+     * {@code to}, inclusive, reading any archived attendance in that range.
+     *
+     * @throws DataLoadingException if archived attendance could not be read.
+     */
+    AttendanceRecord getAttendanceHistory(ClassName className, LocalDate from, LocalDate to)
+            throws DataLoadingException;
+
+    /**
+     * Returns true if attendance of the class named {@code className} has been archived.
+     *
+     * @throws DataLoadingException if archived attendance could not be read.
+     */
+    boolean hasArchivedAttendance(ClassName className) throws DataLoadingException;
+
+    /**
+     * Moves {@code attendance}, the attendance to archive for each class, into the attendance archive.
+     * The lessons themselves are left unchanged.
+     *
+     * @throws IOException if the attendance could not be archived.
+     */
+    void archiveAttendance(Map<ClassName, AttendanceRecord> attendance) throws IOException;
+
     /** Returns the command that is awaiting confirmation */
     public ConfirmableCommand getPendingCommand();
 
@@ -169,4 +239,10 @@ public interface Model {
     /** Returns true if the model has undone AddressBook states to restore. */
     boolean canRedoAddressBook();
 
+    /** Returns the number of commands kept in the undo history, including undone ones. */
+    int getUndoHistorySize();
+
+    /** Returns an estimate, in bytes, of the memory held by the undo history. */
+    long getUndoHistoryMemoryEstimate();
+
 }
@@ -3,18 +3,33 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.logic.commands.ConfirmableCommand;
+import seedu.address.model.lesson.AttendanceAnalytics;
+import seedu.address.model.lesson.AttendanceArchive;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Tutor;
+import seedu.address.model.lesson.WeeklyPresence;
+import seedu.address.model.person.IdentificationNumber;
 import seedu.address.model.person.Person;
 
 /**
@@ -28,21 +43,43 @@ public class ModelManager implements Model {
     private final FilteredList<Person> filteredPersons;
     //private final ObservableList<Lesson> lessons;
     private final FilteredList<Lesson> filteredLessons;
+    private final AttendanceAnalytics attendanceAnalytics;
+    private final WeeklyPresence weeklyPresence;
+    // Null if old attendance cannot be archived
+    private final AttendanceArchive attendanceArchive;
+    private long addressBookVersion;
     private ConfirmableCommand pendingCommand = null;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, which cannot archive attendance.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        this(addressBook, userPrefs, null);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook, userPrefs and the archive holding the attendance
+     * moved out of addressBook.
+     */
+    public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs,
+                        AttendanceArchive attendanceArchive) {
         requireAllNonNull(addressBook, userPrefs);
 
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
-        this.versionedAddressBook = new VersionedAddressBook(addressBook);
+        this.versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getUndoHistoryMode());
         this.userPrefs = new UserPrefs(userPrefs);
+        versionedAddressBook.setHistoryLimits(userPrefs.getMaxUndoHistorySize(), userPrefs.getMaxUndoHistoryBytes());
         filteredPersons = new FilteredList<>(this.versionedAddressBook.getPersonList());
         //this.lessons = FXCollections.observableArrayList();
         this.filteredLessons = new FilteredList<>(this.versionedAddressBook.getLessonList());
+        this.attendanceAnalytics = new AttendanceAnalytics(this.versionedAddressBook.getLessonList());
+        this.weeklyPresence = new WeeklyPresence(this.versionedAddressBook.getLessonList(), Clock.systemDefaultZone());
+        this.attendanceArchive = attendanceArchive;
+        this.versionedAddressBook.getPersonList().addListener((ListChangeListener<Person>) change ->
+                addressBookVersion++);
+        this.versionedAddressBook.getLessonList().addListener((ListChangeListener<Lesson>) change ->
+                addressBookVersion++);
     }
 
     public ModelManager() {
@@ -55,6 +92,7 @@ public class ModelManager implements Model {
     public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
         requireNonNull(userPrefs);
         this.userPrefs.resetData(userPrefs);
+        versionedAddressBook.setHistoryLimits(userPrefs.getMaxUndoHistorySize(), userPrefs.getMaxUndoHistoryBytes());
     }
 
     @Override
@@ -142,6 +180,16 @@ public class ModelManager implements Model {
         return versionedAddressBook.canRedo();
     }
 
+    @Override
+    public int getUndoHistorySize() {
+        return versionedAddressBook.getHistorySize();
+    }
+
+    @Override
+    public long getUndoHistoryMemoryEstimate() {
+        return versionedAddressBook.getEstimatedHistoryBytes();
+    }
+
     //=========== AddressBook ================================================================================
 
     @Override
@@ -154,6 +202,16 @@ public class ModelManager implements Model {
         return versionedAddressBook;
     }
 
+    @Override
+    public ReadOnlyAddressBook getAddressBookSnapshot() {
+        return versionedAddressBook.getSnapshot();
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
     // Person operations
 
     @Override
@@ -162,6 +220,12 @@ public class ModelManager implements Model {
         return versionedAddressBook.hasPerson(person);
     }
 
+    @Override
+    public Optional<Person> findPersonById(IdentificationNumber id) {
+        requireNonNull(id);
+        return versionedAddressBook.findPersonById(id);
+    }
+
     @Override
     public void deletePerson(Person target) {
         versionedAddressBook.removePerson(target);
@@ -171,14 +235,17 @@ public class ModelManager implements Model {
     public List<Lesson> getLessonsAssignedToTutor(Person tutor) {
         requireNonNull(tutor);
 
-        if (!tutor.getRole().isTutor()) {
+        if (!tutor.getRole().isTutor() || !Tutor.isValidTutor(tutor.getId().getValue())) {
             return List.of();
         }
 
-        return versionedAddressBook.getLessonList().stream()
-                .filter(lesson -> lesson.getTutor() != null
-                        && lesson.getTutor().toString().equals(tutor.getId().getValue()))
-                .collect(Collectors.toList());
+        return getLessonsByTutor(new Tutor(tutor.getId().getValue()));
+    }
+
+    @Override
+    public List<Lesson> getLessonsByTutor(Tutor tutor) {
+        requireNonNull(tutor);
+        return versionedAddressBook.getLessonsByTutor(tutor);
     }
 
     @Override
@@ -219,6 +286,12 @@ public class ModelManager implements Model {
         return versionedAddressBook.hasLesson(lesson);
     }
 
+    @Override
+    public Optional<Lesson> findLessonByClassName(ClassName className) {
+        requireNonNull(className);
+        return versionedAddressBook.findLessonByClassName(className);
+    }
+
     @Override
     public void deleteLesson(Lesson target) {
         versionedAddressBook.removeLesson(target);
@@ -248,6 +321,53 @@ public class ModelManager implements Model {
         filteredLessons.setPredicate(predicate);
     }
 
+    @Override
+    public AttendanceAnalytics getAttendanceAnalytics() {
+        return attendanceAnalytics;
+    }
+
+    @Override
+    public boolean isPresentThisWeek(ClassName className, IdentificationNumber studentId) {
+        requireAllNonNull(className, studentId);
+        return weeklyPresence.isPresentThisWeek(className, studentId);
+    }
+
+    @Override
+    public AttendanceRecord getAttendanceHistory(ClassName className, LocalDate from, LocalDate to)
+            throws DataLoadingException {
+        requireAllNonNull(className, from, to);
+        AttendanceRecord current = findLessonByClassName(className)
+                .map(lesson -> lesson.getAttendanceRecord().onDates(from, to))
+                .orElse(AttendanceRecord.EMPTY);
+        if (attendanceArchive == null) {
+            return current;
+        }
+
+        Map<LocalDate, Set<IdentificationNumber>> archived = attendanceArchive.readAttendance(className, from, to);
+        if (archived.isEmpty()) {
+            return current;
+        }
+        // Dates still held by the lesson, such as those restored by undo, take precedence over the archive
+        Map<LocalDate, Set<IdentificationNumber>> attendance = new TreeMap<>(archived);
+        attendance.putAll(current.toMap());
+        return AttendanceRecord.of(attendance);
+    }
+
+    @Override
+    public boolean hasArchivedAttendance(ClassName className) throws DataLoadingException {
+        requireNonNull(className);
+        return attendanceArchive != null && attendanceArchive.hasAttendance(className);
+    }
+
+    @Override
+    public void archiveAttendance(Map<ClassName, AttendanceRecord> attendance) throws IOException {
+        requireNonNull(attendance);
+        if (attendanceArchive == null) {
+            throw new IOException("There is no attendance archive.");
+        }
+        attendanceArchive.writeSegment(attendance);
+    }
+
     @Override
     public ConfirmableCommand getPendingCommand() {
         return pendingCommand;
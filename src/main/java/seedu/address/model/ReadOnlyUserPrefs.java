@@ -13,4 +13,18 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    AddressBookFormat getAddressBookFormat();
+
+    boolean isCompactAddressBook();
+
+    UndoHistoryMode getUndoHistoryMode();
+
+    int getMaxUndoHistorySize();
+
+    long getMaxUndoHistoryBytes();
+
+    int getRollCallBatchSize();
+
+    long getRollCallFlushIntervalMillis();
+
 }
@@ -0,0 +1,11 @@
+package seedu.address.model;
+
+/**
+ * The ways in which a {@code VersionedAddressBook} can record its history.
+ */
+public enum UndoHistoryMode {
+    /** Every committed state is kept as a snapshot sharing unchanged parts with its neighbours. */
+    SNAPSHOT,
+    /** Only the changes made by each command are kept, and are reversed to undo it. */
+    DELTA
+}
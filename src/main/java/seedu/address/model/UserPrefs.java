@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,19 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String MESSAGE_NEGATIVE_LIMIT = "Undo history limits must not be negative.";
+    public static final String MESSAGE_INVALID_ROLL_CALL_BATCH_SIZE = "Roll call batch size must be positive.";
+    public static final String MESSAGE_NEGATIVE_ROLL_CALL_INTERVAL = "Roll call flush interval must not be negative.";
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "rollcall.json");
+    private AddressBookFormat addressBookFormat = AddressBookFormat.JSON;
+    private boolean compactAddressBook = false;
+    private UndoHistoryMode undoHistoryMode = UndoHistoryMode.SNAPSHOT;
+    private int maxUndoHistorySize = 1000;
+    private long maxUndoHistoryBytes = 64L * 1024 * 1024;
+    private int rollCallBatchSize = 50;
+    private long rollCallFlushIntervalMillis = 2000;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +48,13 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookFormat(newUserPrefs.getAddressBookFormat());
+        setCompactAddressBook(newUserPrefs.isCompactAddressBook());
+        setUndoHistoryMode(newUserPrefs.getUndoHistoryMode());
+        setMaxUndoHistorySize(newUserPrefs.getMaxUndoHistorySize());
+        setMaxUndoHistoryBytes(newUserPrefs.getMaxUndoHistoryBytes());
+        setRollCallBatchSize(newUserPrefs.getRollCallBatchSize());
+        setRollCallFlushIntervalMillis(newUserPrefs.getRollCallFlushIntervalMillis());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +75,68 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        requireNonNull(addressBookFormat);
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    public boolean isCompactAddressBook() {
+        return compactAddressBook;
+    }
+
+    public void setCompactAddressBook(boolean compactAddressBook) {
+        this.compactAddressBook = compactAddressBook;
+    }
+
+    public UndoHistoryMode getUndoHistoryMode() {
+        return undoHistoryMode;
+    }
+
+    public void setUndoHistoryMode(UndoHistoryMode undoHistoryMode) {
+        requireNonNull(undoHistoryMode);
+        this.undoHistoryMode = undoHistoryMode;
+    }
+
+    public int getMaxUndoHistorySize() {
+        return maxUndoHistorySize;
+    }
+
+    public void setMaxUndoHistorySize(int maxUndoHistorySize) {
+        checkArgument(maxUndoHistorySize >= 0, MESSAGE_NEGATIVE_LIMIT);
+        this.maxUndoHistorySize = maxUndoHistorySize;
+    }
+
+    public long getMaxUndoHistoryBytes() {
+        return maxUndoHistoryBytes;
+    }
+
+    public void setMaxUndoHistoryBytes(long maxUndoHistoryBytes) {
+        checkArgument(maxUndoHistoryBytes >= 0, MESSAGE_NEGATIVE_LIMIT);
+        this.maxUndoHistoryBytes = maxUndoHistoryBytes;
+    }
+
+    public int getRollCallBatchSize() {
+        return rollCallBatchSize;
+    }
+
+    public void setRollCallBatchSize(int rollCallBatchSize) {
+        checkArgument(rollCallBatchSize > 0, MESSAGE_INVALID_ROLL_CALL_BATCH_SIZE);
+        this.rollCallBatchSize = rollCallBatchSize;
+    }
+
+    public long getRollCallFlushIntervalMillis() {
+        return rollCallFlushIntervalMillis;
+    }
+
+    public void setRollCallFlushIntervalMillis(long rollCallFlushIntervalMillis) {
+        checkArgument(rollCallFlushIntervalMillis >= 0, MESSAGE_NEGATIVE_ROLL_CALL_INTERVAL);
+        this.rollCallFlushIntervalMillis = rollCallFlushIntervalMillis;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +150,20 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookFormat == otherUserPrefs.addressBookFormat
+                && compactAddressBook == otherUserPrefs.compactAddressBook
+                && undoHistoryMode == otherUserPrefs.undoHistoryMode
+                && maxUndoHistorySize == otherUserPrefs.maxUndoHistorySize
+                && maxUndoHistoryBytes == otherUserPrefs.maxUndoHistoryBytes
+                && rollCallBatchSize == otherUserPrefs.rollCallBatchSize
+                && rollCallFlushIntervalMillis == otherUserPrefs.rollCallFlushIntervalMillis;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookFormat, compactAddressBook, undoHistoryMode,
+                maxUndoHistorySize, maxUndoHistoryBytes, rollCallBatchSize, rollCallFlushIntervalMillis);
     }
 
     @Override
@@ -82,6 +171,11 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookFormat + (compactAddressBook ? " (compact)" : ""));
+        sb.append("\nUndo history mode : " + undoHistoryMode);
+        sb.append("\nUndo history limits : " + maxUndoHistorySize + " commands, " + maxUndoHistoryBytes + " bytes");
+        sb.append("\nRoll call group commit : every " + rollCallBatchSize + " marks or "
+                + rollCallFlushIntervalMillis + " ms");
         return sb.toString();
     }
 
@@ -1,25 +1,46 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.BiConsumer;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.exceptions.DuplicateLessonException;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.util.PersistentList;
 
 /**
  * An AddressBook that keeps track of its own history so that it can undo/redo previous states.
+ * The current persons and lessons are mirrored into persistent lists as they change, so committing a state only
+ * records the lists' current versions, and consecutive states share everything a command did not touch.
  */
 public class VersionedAddressBook extends AddressBook {
 
+    /** Rough heap cost of a person or lesson, with the field objects a command typically creates for it. */
+    private static final long ESTIMATED_ELEMENT_BYTES = 256;
+    /** Heap cost of a {@code PersistentList} tree node. */
+    private static final long ESTIMATED_NODE_BYTES = 32;
+    /** Heap cost of a reference to an element held by a delta. */
+    private static final long ESTIMATED_REFERENCE_BYTES = 8;
+
     /**
-     * Stores command description and its display type together.
+     * Stores command description, its display type and the estimated memory its history state holds together.
      */
     private static class CommandEntry {
         private final String description;
         private final CommandResult.DisplayType displayType;
+        private final long estimatedBytes;
 
-        CommandEntry(String description, CommandResult.DisplayType displayType) {
+        CommandEntry(String description, CommandResult.DisplayType displayType, long estimatedBytes) {
             this.description = description;
             this.displayType = displayType;
+            this.estimatedBytes = estimatedBytes;
         }
 
         String getDescription() {
@@ -29,22 +50,196 @@ public class VersionedAddressBook extends AddressBook {
         CommandResult.DisplayType getDisplayType() {
             return displayType;
         }
+
+        long getEstimatedBytes() {
+            return estimatedBytes;
+        }
+    }
+
+    /**
+     * The changes made to both lists by one command.
+     */
+    private static class CommandDelta {
+        private final ListDelta<Person> personDelta = new ListDelta<>();
+        private final ListDelta<Lesson> lessonDelta = new ListDelta<>();
     }
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    private final UndoHistoryMode historyMode;
+    private final List<AddressBookSnapshot> addressBookStateList = new ArrayList<>();
+    private final List<CommandDelta> commandDeltaList = new ArrayList<>();
     private List<CommandEntry> commandHistory = new ArrayList<>();
     private int currentStatePointer;
 
+    // Used in SNAPSHOT mode
+    private PersistentList<Person> currentPersons;
+    private PersistentList<Lesson> currentLessons;
+    // Used in DELTA mode
+    private CommandDelta pendingDelta = new CommandDelta();
+
+    // Number of elements added or removed since the last commit
+    private long pendingChangeCount;
+    private long estimatedHistoryBytes;
+    private int maxHistorySize = Integer.MAX_VALUE;
+    private long maxHistoryBytes = Long.MAX_VALUE;
+
+    private boolean isRestoring;
+    private final ListDelta.Editor<Person> personEditor = new PersonEditor();
+    private final ListDelta.Editor<Lesson> lessonEditor = new LessonEditor();
+
     /**
-     * Creates a VersionedAddressBook with the initial state of the provided {@code initialState}.
+     * Creates a VersionedAddressBook with the initial state of the provided {@code initialState},
+     * recording its history as snapshots.
      */
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, UndoHistoryMode.SNAPSHOT);
+    }
+
+    /**
+     * Creates a VersionedAddressBook with the initial state of the provided {@code initialState},
+     * recording its history as described by {@code historyMode}.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, UndoHistoryMode historyMode) {
         super(initialState);
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
+        requireNonNull(historyMode);
+        this.historyMode = historyMode;
+
+        if (historyMode == UndoHistoryMode.SNAPSHOT) {
+            currentPersons = PersistentList.of(getPersonList());
+            currentLessons = PersistentList.of(getLessonList());
+            addressBookStateList.add(new AddressBookSnapshot(currentPersons, currentLessons));
+        } else {
+            // The initial state has no changes leading to it
+            commandDeltaList.add(new CommandDelta());
+        }
+
+        getPersonList().addListener(this::onPersonListChanged);
+        getLessonList().addListener(this::onLessonListChanged);
         currentStatePointer = 0;
     }
 
+    private void onPersonListChanged(ListChangeListener.Change<? extends Person> change) {
+        if (isRestoring) {
+            return;
+        }
+        pendingChangeCount += countChangedElements(change);
+        change.reset();
+        if (historyMode == UndoHistoryMode.SNAPSHOT) {
+            currentPersons = applyChange(currentPersons, change);
+        } else {
+            pendingDelta.personDelta.record(change);
+        }
+    }
+
+    private void onLessonListChanged(ListChangeListener.Change<? extends Lesson> change) {
+        if (isRestoring) {
+            return;
+        }
+        pendingChangeCount += countChangedElements(change);
+        change.reset();
+        if (historyMode == UndoHistoryMode.SNAPSHOT) {
+            currentLessons = applyChange(currentLessons, change);
+        } else {
+            pendingDelta.lessonDelta.record(change);
+        }
+    }
+
+    private static long countChangedElements(ListChangeListener.Change<?> change) {
+        long count = 0;
+        while (change.next()) {
+            count += change.wasPermutated() ? change.getTo() - change.getFrom()
+                    : change.getRemovedSize() + change.getAddedSize();
+        }
+        return count;
+    }
+
+    /**
+     * Returns {@code list} updated with the changes described by {@code change}.
+     */
+    private static <E> PersistentList<E> applyChange(PersistentList<E> list,
+                                                     ListChangeListener.Change<? extends E> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.getRemovedSize() == list.size()) {
+                // Reordering or replacing everything is cheaper to rebuild from the final list than to replay
+                return PersistentList.of(change.getList());
+            }
+
+            int from = change.getFrom();
+            int replaced = Math.min(change.getRemovedSize(), change.getAddedSize());
+            List<? extends E> added = change.getAddedSubList();
+            for (int i = 0; i < replaced; i++) {
+                list = list.set(from + i, added.get(i));
+            }
+            for (int i = replaced; i < change.getRemovedSize(); i++) {
+                list = list.remove(from + replaced);
+            }
+            for (int i = replaced; i < change.getAddedSize(); i++) {
+                list = list.add(from + i, added.get(i));
+            }
+        }
+        return list;
+    }
+
+    public UndoHistoryMode getHistoryMode() {
+        return historyMode;
+    }
+
+    /**
+     * Limits the history to at most {@code maxSize} commands and about {@code maxBytes} of estimated memory.
+     * The oldest commands are dropped, and can no longer be undone, once either limit is exceeded.
+     */
+    public void setHistoryLimits(int maxSize, long maxBytes) {
+        if (maxSize < 0 || maxBytes < 0) {
+            throw new IllegalArgumentException("History limits must not be negative.");
+        }
+        this.maxHistorySize = maxSize;
+        this.maxHistoryBytes = maxBytes;
+        evictOldestStates();
+    }
+
+    /**
+     * Returns the number of commands in the history, including those that have been undone.
+     */
+    public int getHistorySize() {
+        return getStateCount() - 1;
+    }
+
+    /**
+     * Returns an estimate of the memory held by the history, beyond the current data itself.
+     */
+    public long getEstimatedHistoryBytes() {
+        return estimatedHistoryBytes;
+    }
+
+    /**
+     * Returns the estimated memory held by a state reached from the previous one by the pending changes.
+     * A snapshot holds a new path of tree nodes per changed element, while a delta only refers to the elements.
+     */
+    private long estimatePendingBytes() {
+        if (historyMode == UndoHistoryMode.DELTA) {
+            return pendingChangeCount * (ESTIMATED_ELEMENT_BYTES + ESTIMATED_REFERENCE_BYTES);
+        }
+        int size = Math.max(currentPersons.size(), currentLessons.size());
+        int treeHeight = 33 - Integer.numberOfLeadingZeros(size);
+        return pendingChangeCount * (ESTIMATED_ELEMENT_BYTES + ESTIMATED_NODE_BYTES * treeHeight);
+    }
+
+    /**
+     * Drops the oldest states until the history is within its limits, never dropping the current state.
+     */
+    private void evictOldestStates() {
+        while (currentStatePointer > 0
+                && (getHistorySize() > maxHistorySize || estimatedHistoryBytes > maxHistoryBytes)) {
+            if (historyMode == UndoHistoryMode.SNAPSHOT) {
+                addressBookStateList.remove(0);
+            } else {
+                // The first delta is a placeholder for the initial state, so the oldest command's delta is next
+                commandDeltaList.remove(1);
+            }
+            estimatedHistoryBytes -= commandHistory.remove(0).getEstimatedBytes();
+            currentStatePointer--;
+        }
+    }
+
     /**
      * Saves the current address book state in its history.
      * Removes all states after the current pointer.
@@ -61,6 +256,17 @@ public class VersionedAddressBook extends AddressBook {
         commit("Unknown change", CommandResult.DisplayType.RECENT);
     }
 
+    /**
+     * Returns an immutable copy of the current persons and lessons, which later changes do not affect.
+     * When the history is recorded as snapshots, the lists kept for it are shared, so nothing is copied.
+     */
+    public ReadOnlyAddressBook getSnapshot() {
+        if (historyMode == UndoHistoryMode.SNAPSHOT) {
+            return new AddressBookSnapshot(currentPersons, currentLessons);
+        }
+        return new AddressBookSnapshot(PersistentList.of(getPersonList()), PersistentList.of(getLessonList()));
+    }
+
     /**
      * Saves the current address book state in its history with the specified display type.
      * Removes all states after the current pointer.
@@ -68,23 +274,41 @@ public class VersionedAddressBook extends AddressBook {
     public void commit(String commandDescription, CommandResult.DisplayType displayType) {
         // Remove all states after current pointer (if any)
         removeStatesAfterPointer();
-        // Add a copy of the current state
-        addressBookStateList.add(new AddressBook(this));
+        if (historyMode == UndoHistoryMode.SNAPSHOT) {
+            // Record the current state; its lists are immutable, so no copy is needed
+            addressBookStateList.add(new AddressBookSnapshot(currentPersons, currentLessons));
+        } else {
+            commandDeltaList.add(pendingDelta);
+            pendingDelta = new CommandDelta();
+        }
+        long estimatedBytes = estimatePendingBytes();
         commandHistory.add(new CommandEntry(
                 commandDescription == null ? "Unknown change" : commandDescription,
-                displayType != null ? displayType : CommandResult.DisplayType.RECENT));
+                displayType != null ? displayType : CommandResult.DisplayType.RECENT, estimatedBytes));
+        estimatedHistoryBytes += estimatedBytes;
+        pendingChangeCount = 0;
         currentStatePointer++;
+        evictOldestStates();
+    }
+
+    /**
+     * Returns the number of states in the history.
+     */
+    private int getStateCount() {
+        return historyMode == UndoHistoryMode.SNAPSHOT ? addressBookStateList.size() : commandDeltaList.size();
     }
 
     private void removeStatesAfterPointer() {
-        int statesToRemove = addressBookStateList.size() - (currentStatePointer + 1);
+        int stateCount = getStateCount();
+        int statesToRemove = stateCount - (currentStatePointer + 1);
         if (statesToRemove > 0) {
-            addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
-            if (currentStatePointer + 1 < commandHistory.size()) {
-                commandHistory.subList(currentStatePointer + 1, commandHistory.size()).clear();
+            if (historyMode == UndoHistoryMode.SNAPSHOT) {
+                addressBookStateList.subList(currentStatePointer + 1, stateCount).clear();
+            } else {
+                commandDeltaList.subList(currentStatePointer + 1, stateCount).clear();
             }
-            while (commandHistory.size() > addressBookStateList.size() - 1) {
-                commandHistory.remove(commandHistory.size() - 1);
+            while (commandHistory.size() > getStateCount() - 1) {
+                estimatedHistoryBytes -= commandHistory.remove(commandHistory.size() - 1).getEstimatedBytes();
             }
         }
     }
@@ -96,8 +320,18 @@ public class VersionedAddressBook extends AddressBook {
         if (!canUndo()) {
             throw new IllegalStateException("No more states to undo.");
         }
-        currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        pendingChangeCount = 0;
+        if (historyMode == UndoHistoryMode.SNAPSHOT) {
+            currentStatePointer--;
+            restore(addressBookStateList.get(currentStatePointer));
+        } else {
+            runRestoring(() -> {
+                undoDelta(pendingDelta);
+                undoDelta(commandDeltaList.get(currentStatePointer));
+            });
+            pendingDelta = new CommandDelta();
+            currentStatePointer--;
+        }
     }
 
     /**
@@ -107,8 +341,77 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new IllegalStateException("No more states to redo.");
         }
+        pendingChangeCount = 0;
         currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        if (historyMode == UndoHistoryMode.SNAPSHOT) {
+            restore(addressBookStateList.get(currentStatePointer));
+        } else {
+            runRestoring(() -> {
+                undoDelta(pendingDelta);
+                CommandDelta delta = commandDeltaList.get(currentStatePointer);
+                delta.personDelta.redo(personEditor);
+                delta.lessonDelta.redo(lessonEditor);
+            });
+            pendingDelta = new CommandDelta();
+        }
+    }
+
+    private void undoDelta(CommandDelta delta) {
+        delta.lessonDelta.undo(lessonEditor);
+        delta.personDelta.undo(personEditor);
+    }
+
+    /**
+     * Runs {@code restoreAction} without recording the changes it makes.
+     */
+    private void runRestoring(Runnable restoreAction) {
+        isRestoring = true;
+        try {
+            restoreAction.run();
+        } finally {
+            isRestoring = false;
+        }
+    }
+
+    /**
+     * Replaces the current data with {@code snapshot}, adopting the snapshot's lists as the current versions.
+     * Where possible only the elements that differ from the snapshot are replaced, rather than the whole lists.
+     */
+    private void restore(AddressBookSnapshot snapshot) {
+        runRestoring(() -> {
+            try {
+                if (!replaceDifferences(currentPersons, snapshot.getPersons(), this::setPerson)) {
+                    setPersons(snapshot.getPersons().toList());
+                }
+            } catch (DuplicatePersonException e) {
+                // Replacing one element at a time passed through a state with a repeated identity
+                setPersons(snapshot.getPersons().toList());
+            }
+            try {
+                if (!replaceDifferences(currentLessons, snapshot.getLessons(), this::setLesson)) {
+                    setLessons(snapshot.getLessons().toList());
+                }
+            } catch (DuplicateLessonException e) {
+                setLessons(snapshot.getLessons().toList());
+            }
+        });
+        currentPersons = snapshot.getPersons();
+        currentLessons = snapshot.getLessons();
+    }
+
+    /**
+     * Replaces each element of {@code current} that differs from {@code target} through {@code setter}.
+     * Returns false, without replacing anything, if the lists have different sizes.
+     */
+    private static <E> boolean replaceDifferences(PersistentList<E> current, PersistentList<E> target,
+                                                  BiConsumer<E, E> setter) {
+        if (current.size() != target.size()) {
+            return false;
+        }
+        for (int index : current.differingIndices(target)) {
+            setter.accept(current.get(index), target.get(index));
+        }
+        return true;
     }
 
     /**
@@ -122,15 +425,18 @@ public class VersionedAddressBook extends AddressBook {
      * Returns true if there are states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return currentStatePointer < getStateCount() - 1;
     }
 
     public int getCurrentStatePointer() {
         return this.currentStatePointer;
     }
 
+    /**
+     * Returns the recorded states. The list is empty when history is recorded as deltas.
+     */
     public List<ReadOnlyAddressBook> getAddressBookStateList() {
-        return this.addressBookStateList;
+        return Collections.unmodifiableList(this.addressBookStateList);
     }
 
     /**
@@ -178,6 +484,66 @@ public class VersionedAddressBook extends AddressBook {
         return commandHistory.get(currentStatePointer).getDisplayType();
     }
 
+    /**
+     * Applies delta changes to the person list.
+     */
+    private class PersonEditor implements ListDelta.Editor<Person> {
+        @Override
+        public int size() {
+            return getPersonList().size();
+        }
+
+        @Override
+        public void set(Person target, Person replacement) {
+            setPerson(target, replacement);
+        }
+
+        @Override
+        public void add(int index, Person element) {
+            addPerson(index, element);
+        }
+
+        @Override
+        public void remove(Person element) {
+            removePerson(element);
+        }
+
+        @Override
+        public void setAll(List<Person> elements) {
+            setPersons(elements);
+        }
+    }
+
+    /**
+     * Applies delta changes to the lesson list.
+     */
+    private class LessonEditor implements ListDelta.Editor<Lesson> {
+        @Override
+        public int size() {
+            return getLessonList().size();
+        }
+
+        @Override
+        public void set(Lesson target, Lesson replacement) {
+            setLesson(target, replacement);
+        }
+
+        @Override
+        public void add(int index, Lesson element) {
+            addLesson(index, element);
+        }
+
+        @Override
+        public void remove(Lesson element) {
+            removeLesson(element);
+        }
+
+        @Override
+        public void setAll(List<Lesson> elements) {
+            setLessons(elements);
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         // Ignore history; compare current AddressBook state only
@@ -0,0 +1,318 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.IdentificationNumber;
+
+/**
+ * Attendance rates and absence streaks of every class and student, kept up to date as lessons change.
+ * Only the difference between a lesson and the lesson replacing it is applied, so marking a student costs about as
+ * much as the mark itself, and every rate and streak is read in constant time.
+ * Rates and streaks only count the students currently enrolled in a class.
+ */
+public class AttendanceAnalytics {
+
+    private static final Comparator<IdentificationNumber> BY_ID = Comparator.comparing(IdentificationNumber::getValue);
+
+    private final Map<ClassName, ClassAttendance> classes = new HashMap<>();
+    // Attendance of each student over every class they are enrolled in
+    private final Map<IdentificationNumber, Tally> studentTallies = new HashMap<>();
+
+    /**
+     * Creates analytics for {@code lessons}, which are followed as they change.
+     */
+    public AttendanceAnalytics(ObservableList<Lesson> lessons) {
+        requireNonNull(lessons);
+        lessons.forEach(this::addLesson);
+        lessons.addListener(this::onLessonsChanged);
+    }
+
+    /**
+     * Returns the number of sessions recorded for the class named {@code className}, or 0 if there is no such class.
+     */
+    public int getSessionCount(ClassName className) {
+        requireNonNull(className);
+        ClassAttendance attendance = classes.get(className);
+        return attendance == null ? 0 : attendance.sessionCount;
+    }
+
+    /**
+     * Returns the fraction of sessions attended by the students enrolled in the class named {@code className},
+     * or an empty value if the class does not exist, has no students or has no sessions.
+     */
+    public OptionalDouble getAttendanceRate(ClassName className) {
+        requireNonNull(className);
+        ClassAttendance attendance = classes.get(className);
+        if (attendance == null || attendance.sessionCount == 0 || attendance.streaks.isEmpty()) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of((double) attendance.enrolledPresentCount
+                / ((long) attendance.sessionCount * attendance.streaks.size()));
+    }
+
+    /**
+     * Returns the fraction of sessions of the class named {@code className} attended by the student with
+     * {@code studentId}, or an empty value if the student is not enrolled in the class or it has no sessions.
+     */
+    public OptionalDouble getAttendanceRate(ClassName className, IdentificationNumber studentId) {
+        requireNonNull(className);
+        requireNonNull(studentId);
+        ClassAttendance attendance = classes.get(className);
+        if (attendance == null || attendance.sessionCount == 0 || !attendance.streaks.containsKey(studentId)) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of((double) attendance.presentCount(studentId) / attendance.sessionCount);
+    }
+
+    /**
+     * Returns the fraction of sessions attended by the student with {@code studentId} over every class they are
+     * enrolled in, or an empty value if those classes have no sessions.
+     */
+    public OptionalDouble getAttendanceRate(IdentificationNumber studentId) {
+        requireNonNull(studentId);
+        Tally tally = studentTallies.get(studentId);
+        if (tally == null || tally.sessions == 0) {
+            return OptionalDouble.empty();
+        }
+        return OptionalDouble.of((double) tally.present / tally.sessions);
+    }
+
+    /**
+     * Returns the number of most recent sessions in a row of the class named {@code className} that the student
+     * with {@code studentId} missed, or an empty value if the student is not enrolled in the class.
+     */
+    public OptionalInt getAbsenceStreak(ClassName className, IdentificationNumber studentId) {
+        requireNonNull(className);
+        requireNonNull(studentId);
+        ClassAttendance attendance = classes.get(className);
+        Integer streak = attendance == null ? null : attendance.streaks.get(studentId);
+        return streak == null ? OptionalInt.empty() : OptionalInt.of(streak);
+    }
+
+    /**
+     * Returns the students enrolled in the class named {@code className} who missed at least the {@code sessions}
+     * most recent sessions in a row, longest absence first, then in ID order.
+     */
+    public List<IdentificationNumber> getStudentsAbsentFor(ClassName className, int sessions) {
+        requireNonNull(className);
+        checkArgument(sessions > 0, "Number of sessions must be positive.");
+        ClassAttendance attendance = classes.get(className);
+        List<IdentificationNumber> absentees = new ArrayList<>();
+        if (attendance != null) {
+            attendance.studentsByStreak.tailMap(sessions, true).descendingMap().values().forEach(absentees::addAll);
+        }
+        return absentees;
+    }
+
+    private void onLessonsChanged(ListChangeListener.Change<? extends Lesson> change) {
+        Map<ClassName, Lesson> removed = new HashMap<>();
+        List<Lesson> added = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(lesson -> removed.put(lesson.getClassName(), lesson));
+            added.addAll(change.getAddedSubList());
+        }
+
+        // A lesson replaced by one with the same class name is updated from their difference
+        for (Lesson lesson : added) {
+            Lesson previous = removed.remove(lesson.getClassName());
+            if (previous == null) {
+                addLesson(lesson);
+            } else {
+                updateLesson(previous, lesson);
+            }
+        }
+        removed.values().forEach(this::removeLesson);
+    }
+
+    private void addLesson(Lesson lesson) {
+        ClassAttendance attendance = new ClassAttendance(lesson);
+        classes.put(lesson.getClassName(), attendance);
+        lesson.getStudents().forEach(attendance::enrol);
+    }
+
+    private void removeLesson(Lesson lesson) {
+        ClassAttendance attendance = classes.remove(lesson.getClassName());
+        new ArrayList<>(attendance.streaks.keySet()).forEach(attendance::unenrol);
+    }
+
+    private void updateLesson(Lesson previous, Lesson lesson) {
+        ClassAttendance attendance = classes.get(lesson.getClassName());
+        if (previous == lesson) {
+            return;
+        }
+
+        Set<IdentificationNumber> students = lesson.getStudents();
+        Set<IdentificationNumber> previousStudents = previous.getStudents();
+        boolean isSameEnrolment = students.equals(previousStudents);
+        if (!isSameEnrolment) {
+            previousStudents.stream().filter(id -> !students.contains(id)).forEach(attendance::unenrol);
+        }
+
+        attendance.lesson = lesson;
+        if (lesson.getAttendanceRecord() != previous.getAttendanceRecord()) {
+            attendance.applyChanges(previous.getAttendanceRecord());
+        }
+
+        if (!isSameEnrolment) {
+            students.stream().filter(id -> !previousStudents.contains(id)).forEach(attendance::enrol);
+        }
+    }
+
+    private Tally tallyOf(IdentificationNumber studentId) {
+        return studentTallies.computeIfAbsent(studentId, unused -> new Tally());
+    }
+
+    /**
+     * Counts of sessions attended out of sessions held.
+     */
+    private static class Tally {
+        private int present;
+        private int sessions;
+
+        private boolean isEmpty() {
+            return present == 0 && sessions == 0;
+        }
+    }
+
+    /**
+     * The attendance aggregates of one class.
+     */
+    private class ClassAttendance implements AttendanceRecord.ChangeListener {
+        private Lesson lesson;
+        private int sessionCount;
+        // Sessions attended by every student in the record, enrolled or not
+        private final Map<IdentificationNumber, Integer> presentCounts = new HashMap<>();
+        // Sessions attended, summed over the enrolled students
+        private long enrolledPresentCount;
+        // Absence streak of each enrolled student, and the enrolled students with each streak
+        private final Map<IdentificationNumber, Integer> streaks = new HashMap<>();
+        private final NavigableMap<Integer, Set<IdentificationNumber>> studentsByStreak = new TreeMap<>();
+
+        // Students whose streak must be recomputed once the current changes are applied
+        private final Set<IdentificationNumber> staleStreaks = new HashSet<>();
+        private boolean areAllStreaksStale;
+
+        private ClassAttendance(Lesson lesson) {
+            this.lesson = lesson;
+            AttendanceRecord record = lesson.getAttendanceRecord();
+            this.sessionCount = record.getSessionCount();
+            record.toMap().values().forEach(present -> present.forEach(id -> addPresence(id, 1)));
+        }
+
+        private int presentCount(IdentificationNumber studentId) {
+            return presentCounts.getOrDefault(studentId, 0);
+        }
+
+        private void enrol(IdentificationNumber studentId) {
+            Tally tally = tallyOf(studentId);
+            tally.present += presentCount(studentId);
+            tally.sessions += sessionCount;
+            enrolledPresentCount += presentCount(studentId);
+            setStreak(studentId, lesson.getAttendanceRecord().getAbsenceStreak(studentId));
+        }
+
+        private void unenrol(IdentificationNumber studentId) {
+            Tally tally = tallyOf(studentId);
+            tally.present -= presentCount(studentId);
+            tally.sessions -= sessionCount;
+            if (tally.isEmpty()) {
+                studentTallies.remove(studentId);
+            }
+            enrolledPresentCount -= presentCount(studentId);
+            removeStreak(studentId);
+        }
+
+        /**
+         * Applies the difference between {@code previous} and the attendance of the current lesson.
+         */
+        private void applyChanges(AttendanceRecord previous) {
+            lesson.getAttendanceRecord().forEachChangeSince(previous, this);
+            if (areAllStreaksStale) {
+                staleStreaks.addAll(streaks.keySet());
+            }
+            AttendanceRecord record = lesson.getAttendanceRecord();
+            for (IdentificationNumber studentId : staleStreaks) {
+                if (streaks.containsKey(studentId)) {
+                    setStreak(studentId, record.getAbsenceStreak(studentId));
+                }
+            }
+            staleStreaks.clear();
+            areAllStreaksStale = false;
+        }
+
+        @Override
+        public void sessionAdded(LocalDate date, Set<IdentificationNumber> presentStudents) {
+            addSessions(1);
+            presentStudents.forEach(id -> addPresence(id, 1));
+        }
+
+        @Override
+        public void sessionRemoved(LocalDate date, Set<IdentificationNumber> presentStudents) {
+            addSessions(-1);
+            presentStudents.forEach(id -> addPresence(id, -1));
+        }
+
+        @Override
+        public void presenceChanged(LocalDate date, IdentificationNumber id, boolean isPresent) {
+            addPresence(id, isPresent ? 1 : -1);
+            staleStreaks.add(id);
+        }
+
+        private void addSessions(int delta) {
+            sessionCount += delta;
+            streaks.keySet().forEach(id -> tallyOf(id).sessions += delta);
+            areAllStreaksStale = true;
+        }
+
+        private void addPresence(IdentificationNumber studentId, int delta) {
+            presentCounts.merge(studentId, delta, Integer::sum);
+            if (streaks.containsKey(studentId)) {
+                tallyOf(studentId).present += delta;
+                enrolledPresentCount += delta;
+            }
+        }
+
+        private void setStreak(IdentificationNumber studentId, int streak) {
+            Integer previousStreak = streaks.get(studentId);
+            if (previousStreak != null && previousStreak == streak) {
+                return;
+            }
+            removeStreak(studentId);
+            streaks.put(studentId, streak);
+            studentsByStreak.computeIfAbsent(streak, unused -> new TreeSet<>(BY_ID)).add(studentId);
+        }
+
+        private void removeStreak(IdentificationNumber studentId) {
+            Integer streak = streaks.remove(studentId);
+            if (streak == null) {
+                return;
+            }
+            Collection<IdentificationNumber> sameStreak = studentsByStreak.get(streak);
+            sameStreak.remove(studentId);
+            if (sameStreak.isEmpty()) {
+                studentsByStreak.remove(streak);
+            }
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package seedu.address.model.lesson;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.person.IdentificationNumber;
+
+/**
+ * Attendance moved out of the lessons into immutable segments, which are only read when old dates are asked for.
+ */
+public interface AttendanceArchive {
+
+    /**
+     * Returns the archived attendance of the class named {@code className} on the session dates from {@code from}
+     * to {@code to}, inclusive, as a map from each date to the students present on it. A date archived more than
+     * once is taken from the latest segment. Only the segments holding dates in that range are read.
+     *
+     * @throws DataLoadingException if a segment could not be read.
+     */
+    Map<LocalDate, Set<IdentificationNumber>> readAttendance(ClassName className, LocalDate from, LocalDate to)
+            throws DataLoadingException;
+
+    /**
+     * Returns true if any segment holds attendance of the class named {@code className}.
+     *
+     * @throws DataLoadingException if a segment could not be read.
+     */
+    boolean hasAttendance(ClassName className) throws DataLoadingException;
+
+    /**
+     * Stores {@code attendance}, the attendance to archive for each class, as a new segment.
+     *
+     * @throws IOException if the segment could not be written, in which case nothing is archived.
+     */
+    void writeSegment(Map<ClassName, AttendanceRecord> attendance) throws IOException;
+}
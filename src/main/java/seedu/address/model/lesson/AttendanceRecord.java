@@ -0,0 +1,620 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.IdentificationNumber;
+
+/**
+ * Represents the attendance taken for a Lesson.
+ * Every student who appears in the record is given a slot in a roster, and each session date, kept as an epoch day
+ * in a sorted array, holds a bitset with one bit per slot. A date may be recorded with no students present.
+ * The bitsets are grouped into fixed-size chunks of consecutive dates, so that an update copies only the changed
+ * date's bitset and its chunk, and shares every other date with the record it was derived from.
+ * Guarantees: immutable.
+ */
+public class AttendanceRecord {
+
+    public static final AttendanceRecord EMPTY =
+            new AttendanceRecord(new IdentificationNumber[0], new int[0], new int[0], new long[0][][]);
+
+    private static final int CHUNK_SHIFT = 5;
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    // Slot to student, in the order the students were first recorded
+    private final IdentificationNumber[] roster;
+    // Slots ordered by their student's identification number, for binary search
+    private final int[] slotsById;
+    // Session dates as epoch days, in ascending order
+    private final int[] epochDays;
+    // Bitset of present slots for each session date, in chunks of CHUNK_SIZE dates of which only the last may be
+    // shorter. A bitset may be shorter than the roster needs, missing words being zero
+    private final long[][][] presence;
+
+    // Zero until computed or carried forward
+    private int hashCode;
+
+    private AttendanceRecord(IdentificationNumber[] roster, int[] slotsById, int[] epochDays, long[][][] presence) {
+        this.roster = roster;
+        this.slotsById = slotsById;
+        this.epochDays = epochDays;
+        this.presence = presence;
+    }
+
+    /**
+     * Creates a record whose hash code, carried forward from the record it was derived from, is already known.
+     */
+    private AttendanceRecord(IdentificationNumber[] roster, int[] slotsById, int[] epochDays, long[][][] presence,
+                             int hashCode) {
+        this(roster, slotsById, epochDays, presence);
+        this.hashCode = hashCode;
+    }
+
+    /**
+     * Returns a record holding the same attendance as {@code attendance}, a map from each session date to the
+     * students present on it.
+     */
+    public static AttendanceRecord of(Map<LocalDate, ? extends Collection<IdentificationNumber>> attendance) {
+        requireNonNull(attendance);
+        if (attendance.isEmpty()) {
+            return EMPTY;
+        }
+
+        Set<IdentificationNumber> students = new HashSet<>();
+        attendance.values().forEach(students::addAll);
+        IdentificationNumber[] roster = students.toArray(new IdentificationNumber[0]);
+        Arrays.sort(roster, (first, second) -> first.getValue().compareTo(second.getValue()));
+        Map<IdentificationNumber, Integer> slots = new HashMap<>();
+        int[] slotsById = new int[roster.length];
+        for (int slot = 0; slot < roster.length; slot++) {
+            slots.put(roster[slot], slot);
+            slotsById[slot] = slot;
+        }
+
+        List<LocalDate> dates = new ArrayList<>(attendance.keySet());
+        Collections.sort(dates);
+        int[] epochDays = new int[dates.size()];
+        long[][] presence = new long[dates.size()][];
+        for (int i = 0; i < dates.size(); i++) {
+            epochDays[i] = Math.toIntExact(dates.get(i).toEpochDay());
+            presence[i] = new long[wordsFor(roster.length)];
+            for (IdentificationNumber id : attendance.get(dates.get(i))) {
+                int slot = slots.get(requireNonNull(id));
+                presence[i][slot >>> 6] |= 1L << slot;
+            }
+        }
+        return new AttendanceRecord(roster, slotsById, epochDays, toChunks(presence));
+    }
+
+    /**
+     * Returns a record with the student with {@code id} present on {@code date}, recording the date if needed.
+     * Returns this record if the student was already present.
+     */
+    public AttendanceRecord withPresent(LocalDate date, IdentificationNumber id) {
+        requireNonNull(date);
+        requireNonNull(id);
+        int position = searchById(id.getValue());
+        IdentificationNumber[] newRoster = roster;
+        int[] newSlotsById = slotsById;
+        int slot;
+        if (position >= 0) {
+            slot = slotsById[position];
+        } else {
+            slot = roster.length;
+            newRoster = Arrays.copyOf(roster, slot + 1);
+            newRoster[slot] = id;
+            newSlotsById = insert(slotsById, -position - 1, slot);
+        }
+
+        int dateIndex = indexOfDate(date);
+        if (dateIndex < 0) {
+            long[] bits = new long[(slot >>> 6) + 1];
+            bits[slot >>> 6] = 1L << slot;
+            int insertionPoint = -dateIndex - 1;
+            int epochDay = Math.toIntExact(date.toEpochDay());
+            return new AttendanceRecord(newRoster, newSlotsById, insert(epochDays, insertionPoint, epochDay),
+                    insertBits(insertionPoint, bits), hashCode() + entryHash(epochDay, id.hashCode()));
+        }
+
+        long[] bits = bitsAt(dateIndex);
+        if (isSet(bits, slot)) {
+            return this;
+        }
+        long[] newBits = Arrays.copyOf(bits, Math.max(bits.length, (slot >>> 6) + 1));
+        newBits[slot >>> 6] |= 1L << slot;
+        int previousHash = studentsHash(bits);
+        return new AttendanceRecord(newRoster, newSlotsById, epochDays, replaceBits(dateIndex, newBits),
+                hashCode() - entryHash(epochDays[dateIndex], previousHash)
+                        + entryHash(epochDays[dateIndex], previousHash + id.hashCode()));
+    }
+
+    /**
+     * Returns a record with the student with {@code id} absent on {@code date}. The date stays recorded even if
+     * no student remains present on it. Returns this record if the student was not present.
+     */
+    public AttendanceRecord withAbsent(LocalDate date, IdentificationNumber id) {
+        requireNonNull(date);
+        requireNonNull(id);
+        int dateIndex = indexOfDate(date);
+        int slot = slotOf(id);
+        if (dateIndex < 0 || slot < 0 || !isSet(bitsAt(dateIndex), slot)) {
+            return this;
+        }
+
+        long[] newBits = bitsAt(dateIndex).clone();
+        newBits[slot >>> 6] &= ~(1L << slot);
+        int previousHash = studentsHash(newBits) + id.hashCode();
+        return new AttendanceRecord(roster, slotsById, epochDays, replaceBits(dateIndex, newBits),
+                hashCode() - entryHash(epochDays[dateIndex], previousHash)
+                        + entryHash(epochDays[dateIndex], previousHash - id.hashCode()));
+    }
+
+    /**
+     * Returns a record holding only the session dates from {@code from} to {@code to}, inclusive, sharing their
+     * bitsets with this record.
+     */
+    public AttendanceRecord onDates(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        int start = countDatesBefore(from.toEpochDay());
+        int end = countDatesBefore(to.toEpochDay() + 1);
+        if (start == 0 && end == epochDays.length) {
+            return this;
+        }
+        if (start >= end) {
+            return EMPTY;
+        }
+
+        long[][] bitsets = new long[end - start][];
+        for (int i = start; i < end; i++) {
+            bitsets[i - start] = bitsAt(i);
+        }
+        return new AttendanceRecord(roster, slotsById, Arrays.copyOfRange(epochDays, start, end), toChunks(bitsets));
+    }
+
+    /**
+     * Receives the differences between two attendance records.
+     */
+    interface ChangeListener {
+        /**
+         * Called for a session date recorded only in the newer record, with the students present on it.
+         */
+        void sessionAdded(LocalDate date, Set<IdentificationNumber> presentStudents);
+
+        /**
+         * Called for a session date recorded only in the older record, with the students who were present on it.
+         */
+        void sessionRemoved(LocalDate date, Set<IdentificationNumber> presentStudents);
+
+        /**
+         * Called for a student whose presence on a session date recorded in both records changed.
+         */
+        void presenceChanged(LocalDate date, IdentificationNumber id, boolean isPresent);
+    }
+
+    /**
+     * Reports to {@code listener} every difference between {@code previous} and this record, in date order.
+     * When this record was derived from {@code previous}, dates whose bitset is shared are skipped without
+     * being read, so a single mark costs one comparison per date plus one bitset scan.
+     */
+    void forEachChangeSince(AttendanceRecord previous, ChangeListener listener) {
+        requireNonNull(previous);
+        requireNonNull(listener);
+        boolean isSameLayout = previous.roster.length <= roster.length
+                && Arrays.equals(previous.roster, 0, previous.roster.length, roster, 0, previous.roster.length);
+
+        int i = 0;
+        int j = 0;
+        while (i < previous.epochDays.length || j < epochDays.length) {
+            if (j == epochDays.length || (i < previous.epochDays.length && previous.epochDays[i] < epochDays[j])) {
+                listener.sessionRemoved(LocalDate.ofEpochDay(previous.epochDays[i]),
+                        previous.studentsIn(previous.bitsAt(i)));
+                i++;
+            } else if (i == previous.epochDays.length || epochDays[j] < previous.epochDays[i]) {
+                listener.sessionAdded(LocalDate.ofEpochDay(epochDays[j]), studentsIn(bitsAt(j)));
+                j++;
+            } else {
+                LocalDate date = LocalDate.ofEpochDay(epochDays[j]);
+                if (isSameLayout) {
+                    reportChangedSlots(date, previous.bitsAt(i), bitsAt(j), listener);
+                } else {
+                    reportChangedStudents(date, previous.studentsIn(previous.bitsAt(i)), studentsIn(bitsAt(j)),
+                            listener);
+                }
+                i++;
+                j++;
+            }
+        }
+    }
+
+    private void reportChangedSlots(LocalDate date, long[] previousBits, long[] bits, ChangeListener listener) {
+        if (previousBits == bits) {
+            return;
+        }
+        int length = Math.max(previousBits.length, bits.length);
+        for (int word = 0; word < length; word++) {
+            long previousWord = word < previousBits.length ? previousBits[word] : 0;
+            long currentWord = word < bits.length ? bits[word] : 0;
+            long changed = previousWord ^ currentWord;
+            while (changed != 0) {
+                int bit = Long.numberOfTrailingZeros(changed);
+                listener.presenceChanged(date, roster[(word << 6) + bit], (currentWord & (1L << bit)) != 0);
+                changed &= changed - 1;
+            }
+        }
+    }
+
+    private static void reportChangedStudents(LocalDate date, Set<IdentificationNumber> previousStudents,
+                                              Set<IdentificationNumber> students, ChangeListener listener) {
+        for (IdentificationNumber id : previousStudents) {
+            if (!students.contains(id)) {
+                listener.presenceChanged(date, id, false);
+            }
+        }
+        for (IdentificationNumber id : students) {
+            if (!previousStudents.contains(id)) {
+                listener.presenceChanged(date, id, true);
+            }
+        }
+    }
+
+    /**
+     * Returns true if no session date has been recorded.
+     */
+    public boolean isEmpty() {
+        return epochDays.length == 0;
+    }
+
+    /**
+     * Returns true if attendance has been recorded for {@code date}, even if no student was present.
+     */
+    public boolean hasDate(LocalDate date) {
+        requireNonNull(date);
+        return indexOfDate(date) >= 0;
+    }
+
+    /**
+     * Returns true if the student with {@code id} was present on {@code date}.
+     */
+    public boolean isPresent(LocalDate date, IdentificationNumber id) {
+        requireNonNull(date);
+        requireNonNull(id);
+        int dateIndex = indexOfDate(date);
+        int slot = slotOf(id);
+        return dateIndex >= 0 && slot >= 0 && isSet(bitsAt(dateIndex), slot);
+    }
+
+    /**
+     * Returns the number of session dates recorded.
+     */
+    public int getSessionCount() {
+        return epochDays.length;
+    }
+
+    /**
+     * Returns the number of session dates recorded from {@code from} to {@code to}, inclusive.
+     */
+    public int getSessionCount(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        return Math.max(0, countDatesBefore(to.toEpochDay() + 1) - countDatesBefore(from.toEpochDay()));
+    }
+
+    /**
+     * Returns the number of session dates from {@code from} to {@code to}, inclusive, that each student was present
+     * for. Students present for none of them are left out.
+     * The dates are found by binary search, so only the bitsets of the dates in range are read.
+     */
+    public Map<IdentificationNumber, Integer> getPresentCounts(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        int[] counts = new int[roster.length];
+        for (int i = countDatesBefore(from.toEpochDay()); i < countDatesBefore(to.toEpochDay() + 1); i++) {
+            long[] bits = bitsAt(i);
+            for (int word = 0; word < bits.length; word++) {
+                long remaining = bits[word];
+                while (remaining != 0) {
+                    counts[(word << 6) + Long.numberOfTrailingZeros(remaining)]++;
+                    remaining &= remaining - 1;
+                }
+            }
+        }
+
+        Map<IdentificationNumber, Integer> presentCounts = new HashMap<>();
+        for (int slot = 0; slot < counts.length; slot++) {
+            if (counts[slot] > 0) {
+                presentCounts.put(roster[slot], counts[slot]);
+            }
+        }
+        return presentCounts;
+    }
+
+    /**
+     * Returns the number of most recent sessions in a row that the student with {@code id} was not present for.
+     */
+    public int getAbsenceStreak(IdentificationNumber id) {
+        requireNonNull(id);
+        int slot = slotOf(id);
+        int streak = 0;
+        while (streak < epochDays.length && (slot < 0 || !isSet(bitsAt(epochDays.length - 1 - streak), slot))) {
+            streak++;
+        }
+        return streak;
+    }
+
+    /**
+     * Returns the recorded session dates, in ascending order.
+     */
+    public List<LocalDate> getDates() {
+        List<LocalDate> dates = new ArrayList<>(epochDays.length);
+        for (int epochDay : epochDays) {
+            dates.add(LocalDate.ofEpochDay(epochDay));
+        }
+        return dates;
+    }
+
+    /**
+     * Returns the students present on {@code date}, or an empty set if no attendance was recorded for it.
+     */
+    public Set<IdentificationNumber> getPresentStudents(LocalDate date) {
+        requireNonNull(date);
+        int dateIndex = indexOfDate(date);
+        return dateIndex < 0 ? new HashSet<>() : studentsIn(bitsAt(dateIndex));
+    }
+
+    /**
+     * Returns the students present on any session date from {@code from} to {@code to}, inclusive.
+     */
+    public Set<IdentificationNumber> getPresentStudents(LocalDate from, LocalDate to) {
+        requireNonNull(from);
+        requireNonNull(to);
+        long[] union = new long[wordsFor(roster.length)];
+        for (int i = countDatesBefore(from.toEpochDay()); i < countDatesBefore(to.toEpochDay() + 1); i++) {
+            long[] bits = bitsAt(i);
+            for (int word = 0; word < bits.length; word++) {
+                union[word] |= bits[word];
+            }
+        }
+        return studentsIn(union);
+    }
+
+    /**
+     * Returns the record as a map from each session date, in ascending order, to the students present on it.
+     */
+    public Map<LocalDate, Set<IdentificationNumber>> toMap() {
+        Map<LocalDate, Set<IdentificationNumber>> attendance = new LinkedHashMap<>();
+        for (int i = 0; i < epochDays.length; i++) {
+            attendance.put(LocalDate.ofEpochDay(epochDays[i]), studentsIn(bitsAt(i)));
+        }
+        return attendance;
+    }
+
+    private int indexOfDate(LocalDate date) {
+        long epochDay = date.toEpochDay();
+        if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+            return -1;
+        }
+        return Arrays.binarySearch(epochDays, (int) epochDay);
+    }
+
+    private int countDatesBefore(long epochDay) {
+        if (epochDay <= Integer.MIN_VALUE) {
+            return 0;
+        }
+        if (epochDay > Integer.MAX_VALUE) {
+            return epochDays.length;
+        }
+        int index = Arrays.binarySearch(epochDays, (int) epochDay);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private int slotOf(IdentificationNumber id) {
+        int position = searchById(id.getValue());
+        return position < 0 ? -1 : slotsById[position];
+    }
+
+    /**
+     * Returns the position in {@code slotsById} of the student with identification number {@code value}, or
+     * {@code -(insertion point) - 1} if the student has no slot, as {@link Arrays#binarySearch} does.
+     */
+    private int searchById(String value) {
+        int low = 0;
+        int high = slotsById.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int comparison = roster[slotsById[mid]].getValue().compareTo(value);
+            if (comparison < 0) {
+                low = mid + 1;
+            } else if (comparison > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private long[] bitsAt(int dateIndex) {
+        return presence[dateIndex >>> CHUNK_SHIFT][dateIndex & (CHUNK_SIZE - 1)];
+    }
+
+    /**
+     * Returns the chunks of this record with the bitset of the date at {@code dateIndex} replaced by {@code bits}.
+     * Only the chunk holding that date is copied.
+     */
+    private long[][][] replaceBits(int dateIndex, long[] bits) {
+        long[][][] newPresence = presence.clone();
+        int chunk = dateIndex >>> CHUNK_SHIFT;
+        newPresence[chunk] = newPresence[chunk].clone();
+        newPresence[chunk][dateIndex & (CHUNK_SIZE - 1)] = bits;
+        return newPresence;
+    }
+
+    /**
+     * Returns the chunks of this record with {@code bits} inserted as the bitset of a new date at
+     * {@code dateIndex}. Appending a date copies only the last chunk; inserting before other dates rebuilds the
+     * chunks, still sharing every bitset.
+     */
+    private long[][][] insertBits(int dateIndex, long[] bits) {
+        int dateCount = epochDays.length;
+        if (dateIndex == dateCount && dateCount % CHUNK_SIZE != 0) {
+            long[][][] newPresence = presence.clone();
+            int lastChunk = newPresence.length - 1;
+            newPresence[lastChunk] = Arrays.copyOf(newPresence[lastChunk], newPresence[lastChunk].length + 1);
+            newPresence[lastChunk][newPresence[lastChunk].length - 1] = bits;
+            return newPresence;
+        }
+        if (dateIndex == dateCount) {
+            long[][][] newPresence = Arrays.copyOf(presence, presence.length + 1);
+            newPresence[presence.length] = new long[][] {bits};
+            return newPresence;
+        }
+
+        long[][] bitsets = new long[dateCount + 1][];
+        for (int i = 0, j = 0; i <= dateCount; i++) {
+            bitsets[i] = i == dateIndex ? bits : bitsAt(j++);
+        }
+        return toChunks(bitsets);
+    }
+
+    private static long[][][] toChunks(long[][] bitsets) {
+        long[][][] chunks = new long[(bitsets.length + CHUNK_SIZE - 1) >>> CHUNK_SHIFT][][];
+        for (int chunk = 0; chunk < chunks.length; chunk++) {
+            int from = chunk << CHUNK_SHIFT;
+            chunks[chunk] = Arrays.copyOfRange(bitsets, from, Math.min(from + CHUNK_SIZE, bitsets.length));
+        }
+        return chunks;
+    }
+
+    private static int[] insert(int[] values, int index, int value) {
+        int[] inserted = new int[values.length + 1];
+        System.arraycopy(values, 0, inserted, 0, index);
+        inserted[index] = value;
+        System.arraycopy(values, index, inserted, index + 1, values.length - index);
+        return inserted;
+    }
+
+    private Set<IdentificationNumber> studentsIn(long[] bits) {
+        Set<IdentificationNumber> students = new HashSet<>();
+        for (int word = 0; word < bits.length; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                students.add(roster[(word << 6) + Long.numberOfTrailingZeros(remaining)]);
+                remaining &= remaining - 1;
+            }
+        }
+        return students;
+    }
+
+    /**
+     * Returns the hash code of the set of students present in {@code bits}, without building the set.
+     */
+    private int studentsHash(long[] bits) {
+        int hash = 0;
+        for (int word = 0; word < bits.length; word++) {
+            long remaining = bits[word];
+            while (remaining != 0) {
+                hash += roster[(word << 6) + Long.numberOfTrailingZeros(remaining)].hashCode();
+                remaining &= remaining - 1;
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Returns the hash code of the map entry from the date {@code epochDay} to a set of students with hash code
+     * {@code studentsHash}.
+     */
+    private static int entryHash(int epochDay, int studentsHash) {
+        return LocalDate.ofEpochDay(epochDay).hashCode() ^ studentsHash;
+    }
+
+    private static boolean isSet(long[] bits, int slot) {
+        int word = slot >>> 6;
+        return word < bits.length && (bits[word] & (1L << slot)) != 0;
+    }
+
+    private static int wordsFor(int slots) {
+        return (slots + 63) >>> 6;
+    }
+
+    /**
+     * Returns true if both bitsets hold the same bits, treating missing words as zero.
+     */
+    private static boolean sameBits(long[] first, long[] second) {
+        int length = Math.max(first.length, second.length);
+        for (int word = 0; word < length; word++) {
+            long firstWord = word < first.length ? first[word] : 0;
+            long secondWord = word < second.length ? second[word] : 0;
+            if (firstWord != secondWord) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if both records hold the same students on the same dates, however their rosters are laid out.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof AttendanceRecord)) {
+            return false;
+        }
+
+        AttendanceRecord otherRecord = (AttendanceRecord) other;
+        if (!Arrays.equals(epochDays, otherRecord.epochDays)) {
+            return false;
+        }
+
+        boolean hasSameRoster = Arrays.equals(roster, otherRecord.roster);
+        for (int i = 0; i < epochDays.length; i++) {
+            boolean isSameDay = hasSameRoster
+                    ? sameBits(bitsAt(i), otherRecord.bitsAt(i))
+                    : studentsIn(bitsAt(i)).equals(otherRecord.studentsIn(otherRecord.bitsAt(i)));
+            if (!isSameDay) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the same hash code as {@link #toMap()}, so that it is independent of the roster layout.
+     * A record derived by {@link #withPresent} or {@link #withAbsent} carries the hash code forward, adjusting only
+     * the entry of the changed date, so hashing a lesson after a mark does not visit its other dates.
+     */
+    @Override
+    public int hashCode() {
+        if (hashCode == 0 && !isEmpty()) {
+            int hash = 0;
+            for (int i = 0; i < epochDays.length; i++) {
+                hash += entryHash(epochDays[i], studentsHash(bitsAt(i)));
+            }
+            hashCode = hash;
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toMap().toString();
+    }
+
+}
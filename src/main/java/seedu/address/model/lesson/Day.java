@@ -3,6 +3,8 @@ package seedu.address.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.DayOfWeek;
+
 /**
  * Represents a Lesson's day in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidDay(String)}
@@ -39,6 +41,12 @@ public class Day {
         return test.matches(VALIDATION_REGEX);
     }
 
+    /**
+     * Returns the {@code DayOfWeek} this day refers to, regardless of how it was capitalised.
+     */
+    public DayOfWeek toDayOfWeek() {
+        return DayOfWeek.valueOf(fullDay.toUpperCase());
+    }
 
     @Override
     public String toString() {
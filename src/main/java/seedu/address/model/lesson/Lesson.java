@@ -3,9 +3,7 @@ package seedu.address.model.lesson;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.time.LocalDate;
-import java.time.LocalTime;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
@@ -31,7 +29,12 @@ public class Lesson {
     private final Tutor tutor;
     private final Set<Tag> tags = new HashSet<>();
     private final Set<IdentificationNumber> studentIds = new HashSet<>();
-    private final Map<LocalDate, Set<IdentificationNumber>> attendance = new HashMap<>();
+    private final AttendanceRecord attendance;
+
+    // Derived from day and time on first use
+    private WeeklyOccupancy occupancy;
+    // Computed on first use, as persons hash every lesson they are enrolled in
+    private int hashCode;
 
     /**
      * Every field must be present and not null.
@@ -43,6 +46,7 @@ public class Lesson {
         this.time = time;
         this.tutor = tutor;
         this.tags.addAll(tags);
+        this.attendance = AttendanceRecord.EMPTY;
     }
 
     /**
@@ -50,14 +54,22 @@ public class Lesson {
      */
     public Lesson(ClassName className, Day day, Time time, Tutor tutor, Set<IdentificationNumber> studentIds,
                   Map<LocalDate, Set<IdentificationNumber>> attendance, Set<Tag> tags) {
-        requireAllNonNull(className, day, time, tutor, tags, studentIds);
+        this(className, day, time, tutor, studentIds, AttendanceRecord.of(attendance), tags);
+    }
+
+    /**
+     * Every field must be present and not null.
+     */
+    public Lesson(ClassName className, Day day, Time time, Tutor tutor, Set<IdentificationNumber> studentIds,
+                  AttendanceRecord attendance, Set<Tag> tags) {
+        requireAllNonNull(className, day, time, tutor, tags, studentIds, attendance);
         this.className = className;
         this.day = day;
         this.time = time;
         this.tutor = tutor;
         this.tags.addAll(tags);
         this.studentIds.addAll(studentIds);
-        this.attendance.putAll(attendance);
+        this.attendance = attendance;
     }
 
     /**
@@ -68,6 +80,7 @@ public class Lesson {
         this.day = null;
         this.time = null;
         this.tutor = null;
+        this.attendance = AttendanceRecord.EMPTY;
     }
 
     public static Lesson makeLessonTest(String string) {
@@ -103,10 +116,15 @@ public class Lesson {
     }
 
     /**
-     * Returns an immutable map of attendance records.
+     * Returns an immutable map of attendance records, built from the lesson's {@code AttendanceRecord}.
+     * Prefer {@link #getAttendanceRecord()} where the whole map is not needed.
      */
     public Map<LocalDate, Set<IdentificationNumber>> getAttendance() {
-        return Collections.unmodifiableMap(attendance);
+        return Collections.unmodifiableMap(attendance.toMap());
+    }
+
+    public AttendanceRecord getAttendanceRecord() {
+        return attendance;
     }
 
 
@@ -124,20 +142,20 @@ public class Lesson {
     }
 
     /**
-     * Returns true if the lesson overlaps with another lesson.
+     * Returns the minutes of the week taken up by this lesson.
      */
-    public boolean hasOverlapsWith(Lesson other) {
-        if (!this.day.equals(other.day)) {
-            return false; // Different days — no conflict
+    public WeeklyOccupancy getOccupancy() {
+        if (occupancy == null) {
+            occupancy = WeeklyOccupancy.of(this);
         }
+        return occupancy;
+    }
 
-        LocalTime thisStart = this.time.getStartTime();
-        LocalTime thisEnd = this.time.getEndTime();
-        LocalTime otherStart = other.time.getStartTime();
-        LocalTime otherEnd = other.time.getEndTime();
-
-        // Overlap condition: start < otherEnd && otherStart < end
-        return thisStart.isBefore(otherEnd) && otherStart.isBefore(thisEnd);
+    /**
+     * Returns true if the lesson overlaps with another lesson.
+     */
+    public boolean hasOverlapsWith(Lesson other) {
+        return getOccupancy().overlaps(other.getOccupancy());
     }
 
     /**
@@ -167,8 +185,11 @@ public class Lesson {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(className, day, time, tutor, studentIds, attendance, tags);
+        if (hashCode == 0) {
+            // use this method for custom fields hashing instead of implementing your own
+            hashCode = Objects.hash(className, day, time, tutor, studentIds, attendance, tags);
+        }
+        return hashCode;
     }
 
     @Override
@@ -3,8 +3,11 @@ package seedu.address.model.lesson;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +21,9 @@ import seedu.address.model.lesson.exceptions.LessonNotFoundException;
  * unique in terms of identity in the UniqueLessonList. However, the removal of a lesson uses Lesson#equals(Object) so
  * as to ensure that the lesson with exactly the same fields will be removed.
  *
+ * Lessons are additionally indexed by their {@code ClassName}, mapping each class name to the lesson's position in
+ * the list, so that lookups, containment checks and bulk validation do not need to compare lessons pairwise.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Lesson#isSameLesson(Lesson)
@@ -27,13 +33,14 @@ public class UniqueLessonList implements Iterable<Lesson> {
     private final ObservableList<Lesson> internalList = FXCollections.observableArrayList();
     private final ObservableList<Lesson> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<ClassName, Integer> classNameIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent lesson as the given argument.
      */
     public boolean contains(Lesson toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameLesson);
+        return classNameIndex.containsKey(toCheck.getClassName());
     }
 
     /**
@@ -46,6 +53,22 @@ public class UniqueLessonList implements Iterable<Lesson> {
             throw new DuplicateLessonException();
         }
         internalList.add(toAdd);
+        classNameIndex.put(toAdd.getClassName(), internalList.size() - 1);
+    }
+
+    /**
+     * Inserts a lesson into the list at {@code index}.
+     * The lesson must not already exist in the list.
+     */
+    public void add(int index, Lesson toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicateLessonException();
+        }
+        internalList.add(index, toAdd);
+        for (int i = index; i < internalList.size(); i++) {
+            classNameIndex.put(internalList.get(i).getClassName(), i);
+        }
     }
 
     /**
@@ -56,7 +79,7 @@ public class UniqueLessonList implements Iterable<Lesson> {
     public void setLesson(Lesson target, Lesson editedLesson) {
         requireAllNonNull(target, editedLesson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new LessonNotFoundException();
         }
@@ -66,6 +89,8 @@ public class UniqueLessonList implements Iterable<Lesson> {
         }
 
         internalList.set(index, editedLesson);
+        classNameIndex.remove(target.getClassName());
+        classNameIndex.put(editedLesson.getClassName(), index);
     }
 
     /**
@@ -74,14 +99,22 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void remove(Lesson toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new LessonNotFoundException();
         }
+        internalList.remove(index);
+        classNameIndex.remove(toRemove.getClassName());
+        for (int i = index; i < internalList.size(); i++) {
+            classNameIndex.put(internalList.get(i).getClassName(), i);
+        }
     }
 
     public void setLessons(UniqueLessonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        classNameIndex.clear();
+        classNameIndex.putAll(replacement.classNameIndex);
     }
 
     /**
@@ -90,11 +123,25 @@ public class UniqueLessonList implements Iterable<Lesson> {
      */
     public void setLessons(List<Lesson> lessons) {
         requireAllNonNull(lessons);
-        if (!lessonsAreUnique(lessons)) {
-            throw new DuplicateLessonException();
+        Map<ClassName, Integer> replacementIndex = new HashMap<>();
+        for (int i = 0; i < lessons.size(); i++) {
+            if (replacementIndex.put(lessons.get(i).getClassName(), i) != null) {
+                throw new DuplicateLessonException();
+            }
         }
 
         internalList.setAll(lessons);
+        classNameIndex.clear();
+        classNameIndex.putAll(replacementIndex);
+    }
+
+    /**
+     * Returns the lesson with the given {@code className}, or {@code Optional.empty()} if there is none.
+     */
+    public Optional<Lesson> findByClassName(ClassName className) {
+        requireNonNull(className);
+        Integer position = classNameIndex.get(className);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
     }
 
     /**
@@ -135,16 +182,14 @@ public class UniqueLessonList implements Iterable<Lesson> {
     }
 
     /**
-     * Returns true if {@code lessons} contains only unique lessons.
+     * Returns the position of the lesson equal to {@code lesson}, or -1 if there is none.
      */
-    private boolean lessonsAreUnique(List<Lesson> lessons) {
-        for (int i = 0; i < lessons.size() - 1; i++) {
-            for (int j = i + 1; j < lessons.size(); j++) {
-                if (lessons.get(i).isSameLesson(lessons.get(j))) {
-                    return false;
-                }
-            }
+    private int indexOf(Lesson lesson) {
+        Integer position = classNameIndex.get(lesson.getClassName());
+        if (position == null || !internalList.get(position).equals(lesson)) {
+            return -1;
         }
-        return true;
+        return position;
     }
+
 }
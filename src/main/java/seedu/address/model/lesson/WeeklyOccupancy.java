@@ -0,0 +1,195 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Represents the minutes of the week occupied by one or more lessons.
+ * The week is divided into 7 x 1440 one-minute slots, starting from Monday 00:00, and stored as a sparse bitmap:
+ * only the 64-slot words that contain an occupied minute are kept, together with their word positions.
+ * Checking two occupancies for a clash therefore takes a handful of word-ANDs.
+ * Guarantees: immutable.
+ */
+public class WeeklyOccupancy {
+
+    public static final int MINUTES_PER_DAY = 24 * 60;
+    public static final int SLOTS_PER_WEEK = 7 * MINUTES_PER_DAY;
+
+    public static final WeeklyOccupancy EMPTY = new WeeklyOccupancy(new int[0], new long[0]);
+
+    // Positions of the non-empty words, in ascending order
+    private final int[] wordIndices;
+    private final long[] words;
+
+    private WeeklyOccupancy(int[] wordIndices, long[] words) {
+        this.wordIndices = wordIndices;
+        this.words = words;
+    }
+
+    /**
+     * Returns the occupancy of the half-open slot range {@code [startSlot, endSlot)}.
+     */
+    public static WeeklyOccupancy ofSlots(int startSlot, int endSlot) {
+        if (startSlot < 0 || endSlot > SLOTS_PER_WEEK || startSlot > endSlot) {
+            throw new IllegalArgumentException("Invalid slot range: " + startSlot + "-" + endSlot);
+        }
+        if (startSlot == endSlot) {
+            return EMPTY;
+        }
+
+        int firstWord = startSlot >>> 6;
+        int lastWord = (endSlot - 1) >>> 6;
+        int[] indices = new int[lastWord - firstWord + 1];
+        long[] bits = new long[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = firstWord + i;
+            bits[i] = -1L;
+        }
+        bits[0] &= -1L << (startSlot & 63);
+        bits[bits.length - 1] &= -1L >>> (63 - ((endSlot - 1) & 63));
+        return new WeeklyOccupancy(indices, bits);
+    }
+
+    /**
+     * Returns the occupancy of a single lesson.
+     * A lesson without a day or time (as created for tests) occupies no slots.
+     */
+    public static WeeklyOccupancy of(Lesson lesson) {
+        requireNonNull(lesson);
+        if (lesson.getDay() == null || lesson.getTime() == null) {
+            return EMPTY;
+        }
+
+        int dayOffset = (lesson.getDay().toDayOfWeek().getValue() - 1) * MINUTES_PER_DAY;
+        int start = lesson.getTime().getStartTime().getHour() * 60 + lesson.getTime().getStartTime().getMinute();
+        int end = lesson.getTime().getEndTime().getHour() * 60 + lesson.getTime().getEndTime().getMinute();
+        return ofSlots(dayOffset + start, dayOffset + end);
+    }
+
+    /**
+     * Returns the combined occupancy of all {@code lessons}.
+     */
+    public static WeeklyOccupancy of(Collection<Lesson> lessons) {
+        requireNonNull(lessons);
+        WeeklyOccupancy occupancy = EMPTY;
+        for (Lesson lesson : lessons) {
+            occupancy = occupancy.union(lesson.getOccupancy());
+        }
+        return occupancy;
+    }
+
+    /**
+     * Returns true if no slot is occupied.
+     */
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    /**
+     * Returns true if this occupancy and {@code other} share at least one occupied slot.
+     */
+    public boolean overlaps(WeeklyOccupancy other) {
+        requireNonNull(other);
+        int i = 0;
+        int j = 0;
+        while (i < wordIndices.length && j < other.wordIndices.length) {
+            if (wordIndices[i] < other.wordIndices[j]) {
+                i++;
+            } else if (wordIndices[i] > other.wordIndices[j]) {
+                j++;
+            } else {
+                if ((words[i] & other.words[j]) != 0) {
+                    return true;
+                }
+                i++;
+                j++;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns a new occupancy containing the slots occupied by either this occupancy or {@code other}.
+     */
+    public WeeklyOccupancy union(WeeklyOccupancy other) {
+        requireNonNull(other);
+        if (other.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return other;
+        }
+
+        int[] indices = new int[wordIndices.length + other.wordIndices.length];
+        long[] bits = new long[indices.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < wordIndices.length || j < other.wordIndices.length) {
+            if (j == other.wordIndices.length
+                    || (i < wordIndices.length && wordIndices[i] < other.wordIndices[j])) {
+                indices[size] = wordIndices[i];
+                bits[size++] = words[i++];
+            } else if (i == wordIndices.length || wordIndices[i] > other.wordIndices[j]) {
+                indices[size] = other.wordIndices[j];
+                bits[size++] = other.words[j++];
+            } else {
+                indices[size] = wordIndices[i];
+                bits[size++] = words[i++] | other.words[j++];
+            }
+        }
+        return new WeeklyOccupancy(Arrays.copyOf(indices, size), Arrays.copyOf(bits, size));
+    }
+
+    /**
+     * Returns a new occupancy containing the slots occupied by this occupancy but not by {@code other}.
+     */
+    public WeeklyOccupancy minus(WeeklyOccupancy other) {
+        requireNonNull(other);
+        if (isEmpty() || other.isEmpty()) {
+            return this;
+        }
+
+        int[] indices = new int[wordIndices.length];
+        long[] bits = new long[indices.length];
+        int j = 0;
+        int size = 0;
+        for (int i = 0; i < wordIndices.length; i++) {
+            while (j < other.wordIndices.length && other.wordIndices[j] < wordIndices[i]) {
+                j++;
+            }
+            long remaining = j < other.wordIndices.length && other.wordIndices[j] == wordIndices[i]
+                    ? words[i] & ~other.words[j]
+                    : words[i];
+            if (remaining != 0) {
+                indices[size] = wordIndices[i];
+                bits[size++] = remaining;
+            }
+        }
+        return new WeeklyOccupancy(Arrays.copyOf(indices, size), Arrays.copyOf(bits, size));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof WeeklyOccupancy)) {
+            return false;
+        }
+
+        WeeklyOccupancy otherOccupancy = (WeeklyOccupancy) other;
+        return Arrays.equals(wordIndices, otherOccupancy.wordIndices)
+                && Arrays.equals(words, otherOccupancy.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(wordIndices) + Arrays.hashCode(words);
+    }
+
+}
@@ -0,0 +1,88 @@
+package seedu.address.model.lesson;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.IdentificationNumber;
+
+/**
+ * The students present for each class in the current week, from Monday up to today.
+ * A class's presence is computed on the first lookup after its attendance changes, and every class is computed
+ * afresh once the day changes, so that the week resets on Monday. Lookups in between cost a single hash lookup.
+ */
+public class WeeklyPresence {
+
+    private final Clock clock;
+    private final Map<ClassName, AttendanceRecord> records = new HashMap<>();
+    private final Map<ClassName, Set<IdentificationNumber>> presentByClass = new HashMap<>();
+    // The day the cached presence was computed on
+    private LocalDate cachedDate;
+
+    /**
+     * Creates the weekly presence of {@code lessons}, which are followed as they change, with the current day
+     * given by {@code clock}.
+     */
+    public WeeklyPresence(ObservableList<Lesson> lessons, Clock clock) {
+        requireNonNull(lessons);
+        requireNonNull(clock);
+        this.clock = clock;
+        lessons.forEach(lesson -> records.put(lesson.getClassName(), lesson.getAttendanceRecord()));
+        lessons.addListener(this::onLessonsChanged);
+    }
+
+    /**
+     * Returns true if the student with {@code studentId} was present for the class named {@code className} on any
+     * day of the current week up to today.
+     */
+    public boolean isPresentThisWeek(ClassName className, IdentificationNumber studentId) {
+        requireNonNull(className);
+        requireNonNull(studentId);
+        LocalDate today = LocalDate.now(clock);
+        if (!today.equals(cachedDate)) {
+            presentByClass.clear();
+            cachedDate = today;
+        }
+
+        AttendanceRecord record = records.get(className);
+        if (record == null) {
+            return false;
+        }
+        return presentByClass.computeIfAbsent(className, unused ->
+                record.getPresentStudents(today.with(DayOfWeek.MONDAY), today)).contains(studentId);
+    }
+
+    private void onLessonsChanged(ListChangeListener.Change<? extends Lesson> change) {
+        Map<ClassName, Lesson> removed = new HashMap<>();
+        List<Lesson> added = new ArrayList<>();
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(lesson -> removed.put(lesson.getClassName(), lesson));
+            added.addAll(change.getAddedSubList());
+        }
+
+        // Presence is kept for a lesson replaced by one with the same attendance, as on undo
+        for (Lesson lesson : added) {
+            Lesson previous = removed.remove(lesson.getClassName());
+            if (previous == null || previous.getAttendanceRecord() != lesson.getAttendanceRecord()) {
+                presentByClass.remove(lesson.getClassName());
+            }
+            records.put(lesson.getClassName(), lesson.getAttendanceRecord());
+        }
+        for (ClassName className : removed.keySet()) {
+            records.remove(className);
+            presentByClass.remove(className);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Set;
 
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.WeeklyOccupancy;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -29,6 +30,9 @@ public class Person {
     private final Set<Lesson> lessons = new HashSet<>();
     private final Set<Tag> tags = new HashSet<>();
 
+    // Union of the lessons' occupancies, derived on first use
+    private WeeklyOccupancy weeklyOccupancy;
+
     /**
      * Every field must be present and not null.
      */
@@ -90,6 +94,16 @@ public class Person {
         return Collections.unmodifiableSet(lessons);
     }
 
+    /**
+     * Returns the minutes of the week taken up by this person's lessons.
+     */
+    public WeeklyOccupancy getWeeklyOccupancy() {
+        if (weeklyOccupancy == null) {
+            weeklyOccupancy = WeeklyOccupancy.of(lessons);
+        }
+        return weeklyOccupancy;
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
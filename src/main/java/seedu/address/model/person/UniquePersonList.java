@@ -3,8 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +22,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Persons are additionally indexed by their {@code IdentificationNumber}, mapping each ID to the position of the
+ * first person holding it, so that lookups by ID and the position lookups needed by updates and removals do not
+ * have to scan the whole list. The identity fields of every person are also kept in a hash map, so that
+ * {@link #contains(Person)} and the uniqueness check of {@link #setPersons(List)} do not compare persons pairwise.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#hasSameName(Person)
@@ -27,13 +36,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<IdentificationNumber, Integer> idIndex = new HashMap<>();
+    private final Map<PersonIdentity, Integer> identityCounts = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::hasSameIdentity);
+        return identityCounts.containsKey(new PersonIdentity(toCheck));
     }
 
     /**
@@ -46,6 +57,22 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        idIndex.putIfAbsent(toAdd.getId(), internalList.size() - 1);
+        addIdentity(toAdd);
+    }
+
+    /**
+     * Inserts a person into the list at {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        reindexFrom(index);
+        addIdentity(toAdd);
     }
 
     /**
@@ -56,7 +83,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -66,6 +93,11 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        if (!target.getId().equals(editedPerson.getId())) {
+            reindexFrom(index);
+        }
+        removeIdentity(target);
+        addIdentity(editedPerson);
     }
 
     /**
@@ -74,14 +106,22 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        internalList.remove(index);
+        reindexFrom(index);
+        removeIdentity(toRemove);
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        idIndex.clear();
+        idIndex.putAll(replacement.idIndex);
+        identityCounts.clear();
+        identityCounts.putAll(replacement.identityCounts);
     }
 
     /**
@@ -90,11 +130,26 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        Map<PersonIdentity, Integer> replacementIdentities = new HashMap<>();
+        for (Person person : persons) {
+            if (replacementIdentities.put(new PersonIdentity(person), 1) != null) {
+                throw new DuplicatePersonException();
+            }
         }
 
         internalList.setAll(persons);
+        reindexFrom(0);
+        identityCounts.clear();
+        identityCounts.putAll(replacementIdentities);
+    }
+
+    /**
+     * Returns the first person in the list with the given {@code id}, or {@code Optional.empty()} if there is none.
+     */
+    public Optional<Person> findById(IdentificationNumber id) {
+        requireNonNull(id);
+        Integer position = idIndex.get(id);
+        return position == null ? Optional.empty() : Optional.of(internalList.get(position));
     }
 
     /**
@@ -135,17 +190,74 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person equal to {@code person}, or -1 if there is none.
+     * The ID index is consulted first; the list is only scanned when another person shares the same ID.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).hasSameIdentity(persons.get(j))) {
-                    return false;
-                }
+    private int indexOf(Person person) {
+        Integer position = idIndex.get(person.getId());
+        if (position == null) {
+            return -1;
+        }
+        if (internalList.get(position).equals(person)) {
+            return position;
+        }
+        return internalList.indexOf(person);
+    }
+
+    /**
+     * Recomputes the ID index for all positions from {@code start} onwards, leaving earlier positions untouched.
+     */
+    private void reindexFrom(int start) {
+        idIndex.values().removeIf(position -> position >= start);
+        for (int i = start; i < internalList.size(); i++) {
+            idIndex.putIfAbsent(internalList.get(i).getId(), i);
+        }
+    }
+
+    private void addIdentity(Person person) {
+        identityCounts.merge(new PersonIdentity(person), 1, Integer::sum);
+    }
+
+    private void removeIdentity(Person person) {
+        identityCounts.computeIfPresent(new PersonIdentity(person), (identity, count) -> count == 1 ? null : count - 1);
+    }
+
+    /**
+     * Hashable form of the identity fields compared by {@code Person#hasSameIdentity(Person)}.
+     * Counts are kept per identity because {@link #setPerson(Person, Person)} only rejects a clashing identity when
+     * the name changes.
+     */
+    private static class PersonIdentity {
+        private final Name name;
+        private final Phone phone;
+        private final Email email;
+
+        PersonIdentity(Person person) {
+            this.name = person.getName();
+            this.phone = person.getPhone();
+            this.email = person.getEmail();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
             }
+
+            if (!(other instanceof PersonIdentity)) {
+                return false;
+            }
+
+            PersonIdentity otherIdentity = (PersonIdentity) other;
+            return name.equals(otherIdentity.name)
+                    && phone.equals(otherIdentity.phone)
+                    && email.equals(otherIdentity.email);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, phone, email);
         }
-        return true;
     }
 
 }
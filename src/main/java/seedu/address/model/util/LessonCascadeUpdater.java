@@ -11,6 +11,7 @@ import javafx.collections.ObservableList;
 import seedu.address.model.Model;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Handles synchronization between lessons and students enrolled in them.
@@ -54,19 +55,8 @@ public class LessonCascadeUpdater {
 
         // apply updates back to the model
         for (Person updated : personsToUpdate) {
-            model.setPerson(findPersonById(model, updated.getId()), updated);
+            model.setPerson(model.findPersonById(updated.getId()).orElseThrow(PersonNotFoundException::new),
+                    updated);
         }
     }
-
-    /**
-     * Finds a person in the model by ID.
-     */
-    private static Person findPersonById(Model model, seedu.address.model.person.IdentificationNumber id) {
-        for (Person p : model.getAddressBook().getPersonList()) {
-            if (p.getId().equals(id)) {
-                return p;
-            }
-        }
-        return null;
-    }
 }
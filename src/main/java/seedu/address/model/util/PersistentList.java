@@ -0,0 +1,260 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * An immutable, indexed list whose updates return a new list.
+ * Elements are kept in a size-annotated AVL tree, so {@code get}, {@code set}, {@code add} and {@code remove}
+ * take O(log n) time and an updated list shares all untouched nodes with the list it was derived from.
+ *
+ * @param <E> the type of elements in this list
+ */
+public class PersistentList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list containing the elements of {@code elements}, in order.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        return elements.isEmpty() ? empty() : new PersistentList<>(build(elements, 0, elements.size()));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     */
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> set(int index, E element) {
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}.
+     */
+    public PersistentList<E> add(int index, E element) {
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(add(root, index, element));
+    }
+
+    /**
+     * Returns a list without the element at {@code index}.
+     */
+    public PersistentList<E> remove(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(remove(root, index));
+    }
+
+    /**
+     * Returns the elements of this list, in order, as a new mutable list.
+     */
+    public List<E> toList() {
+        List<E> elements = new ArrayList<>(size());
+        collect(root, elements);
+        return elements;
+    }
+
+    /**
+     * Returns, in ascending order, the indices at which this list holds a different element from {@code other}.
+     * Elements are compared by reference, and subtrees shared by both lists are skipped, so comparing a list with
+     * one derived from it by a few {@code set} calls takes O(k log n) time.
+     * Both lists must have the same size.
+     */
+    public List<Integer> differingIndices(PersistentList<E> other) {
+        requireNonNull(other);
+        if (size() != other.size()) {
+            throw new IllegalArgumentException("Lists of different sizes cannot be compared by index.");
+        }
+        List<Integer> indices = new ArrayList<>();
+        collectDifferences(root, other.root, 0, indices);
+        return indices;
+    }
+
+    private static <E> void collectDifferences(Node<E> node, Node<E> otherNode, int offset, List<Integer> indices) {
+        if (node == otherNode) {
+            return;
+        }
+
+        int leftSize = sizeOf(node.left);
+        if (leftSize == sizeOf(otherNode.left)) {
+            collectDifferences(node.left, otherNode.left, offset, indices);
+            if (node.value != otherNode.value) {
+                indices.add(offset + leftSize);
+            }
+            collectDifferences(node.right, otherNode.right, offset + leftSize + 1, indices);
+            return;
+        }
+
+        // The trees were shaped differently by insertions or removals, so compare the elements one by one
+        List<E> elements = new ArrayList<>();
+        List<E> otherElements = new ArrayList<>();
+        collect(node, elements);
+        collect(otherNode, otherElements);
+        for (int i = 0; i < elements.size(); i++) {
+            if (elements.get(i) != otherElements.get(i)) {
+                indices.add(offset + i);
+            }
+        }
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bound);
+        }
+    }
+
+    private static <E> Node<E> build(List<? extends E> elements, int from, int to) {
+        if (from >= to) {
+            return null;
+        }
+        int mid = (from + to) >>> 1;
+        return new Node<>(elements.get(mid), build(elements, from, mid), build(elements, mid + 1, to));
+    }
+
+    private static <E> void collect(Node<E> node, List<E> elements) {
+        if (node == null) {
+            return;
+        }
+        collect(node.left, elements);
+        elements.add(node.value);
+        collect(node.right, elements);
+    }
+
+    private static <E> Node<E> set(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return new Node<>(node.value, set(node.left, index, element), node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.value, node.left, set(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(element, node.left, node.right);
+        }
+    }
+
+    private static <E> Node<E> add(Node<E> node, int index, E element) {
+        if (node == null) {
+            return new Node<>(element, null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (index <= leftSize) {
+            return balance(node.value, add(node.left, index, element), node.right);
+        } else {
+            return balance(node.value, node.left, add(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <E> Node<E> remove(Node<E> node, int index) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return balance(node.value, remove(node.left, index), node.right);
+        } else if (index > leftSize) {
+            return balance(node.value, node.left, remove(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        } else {
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(successor.value, node.left, remove(node.right, 0));
+        }
+    }
+
+    /**
+     * Returns a node holding {@code value} over {@code left} and {@code right}, rotating if their heights differ
+     * by more than one.
+     */
+    private static <E> Node<E> balance(E value, Node<E> left, Node<E> right) {
+        if (heightOf(left) > heightOf(right) + 1) {
+            if (heightOf(left.left) >= heightOf(left.right)) {
+                return new Node<>(left.value, left.left, new Node<>(value, left.right, right));
+            }
+            Node<E> pivot = left.right;
+            return new Node<>(pivot.value, new Node<>(left.value, left.left, pivot.left),
+                    new Node<>(value, pivot.right, right));
+        }
+        if (heightOf(right) > heightOf(left) + 1) {
+            if (heightOf(right.right) >= heightOf(right.left)) {
+                return new Node<>(right.value, new Node<>(value, left, right.left), right.right);
+            }
+            Node<E> pivot = right.left;
+            return new Node<>(pivot.value, new Node<>(value, left, pivot.left),
+                    new Node<>(right.value, pivot.right, right.right));
+        }
+        return new Node<>(value, left, right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int heightOf(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    /**
+     * An immutable tree node. Nodes are never modified once built, so they can be shared between lists.
+     */
+    private static class Node<E> {
+        private final E value;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        Node(E value, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+            this.height = Math.max(heightOf(left), heightOf(right)) + 1;
+        }
+    }
+
+}
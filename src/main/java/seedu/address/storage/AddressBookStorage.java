@@ -6,6 +6,7 @@ import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.AttendanceArchive;
 
 /**
  * Represents a storage for {@link seedu.address.model.AddressBook}.
@@ -42,4 +43,9 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Returns the archive holding the attendance moved out of the data file.
+     */
+    AttendanceArchive getAttendanceArchive();
+
 }
@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBookFormat;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Creates the {@code AddressBookStorage} for each {@code AddressBookFormat}, and converts the data saved in one
+ * format to another.
+ */
+public class AddressBookStorageFactory {
+
+    /** Appended to the names of the data files of a format once their data has been converted to another. */
+    public static final String CONVERTED_SUFFIX = ".converted";
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookStorageFactory.class);
+
+    private AddressBookStorageFactory() {}
+
+    /**
+     * Returns the storage of the address book in {@code format}, with data file location {@code filePath}.
+     * Binary data, and the directory of sharded data, are kept next to {@code filePath} with its extension replaced,
+     * so that every format may share the same preference.
+     */
+    public static AddressBookStorage create(AddressBookFormat format, Path filePath) {
+        return create(format, filePath, false);
+    }
+
+    /**
+     * Returns the storage of the address book as by {@link #create(AddressBookFormat, Path)}, which saves json data
+     * without line breaks or indentation if {@code isCompact} is true.
+     */
+    public static AddressBookStorage create(AddressBookFormat format, Path filePath, boolean isCompact) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+        switch (format) {
+        case BINARY:
+            return new BinaryAddressBookStorage(
+                    JsonAddressBookStorage.resolveSiblingOf(filePath, BinaryAddressBookStorage.FILE_EXTENSION));
+        case SHARDED:
+            return new ShardedAddressBookStorage(
+                    JsonAddressBookStorage.resolveSiblingOf(filePath, ShardedAddressBookStorage.DIRECTORY_EXTENSION));
+        case JSON:
+        default:
+            return new JournalAddressBookStorage(filePath, isCompact);
+        }
+    }
+
+    /**
+     * Converts the data saved in any other format with data file location {@code filePath} to {@code format},
+     * if there is no data saved in {@code format} yet.
+     * The data files of the other format are then renamed with {@link #CONVERTED_SUFFIX}, so that they are kept
+     * but are not converted again when switching back to that format.
+     *
+     * @return true if data was converted.
+     * @throws DataLoadingException if the data of the other format could not be read.
+     * @throws IOException if the data could not be saved in {@code format}, or the data files could not be renamed.
+     */
+    public static boolean convertToFormat(AddressBookFormat format, Path filePath)
+            throws DataLoadingException, IOException {
+        return convertToFormat(format, filePath, false);
+    }
+
+    /**
+     * Converts the data as by {@link #convertToFormat(AddressBookFormat, Path)}, saving json data without line breaks
+     * or indentation if {@code isCompact} is true.
+     */
+    public static boolean convertToFormat(AddressBookFormat format, Path filePath, boolean isCompact)
+            throws DataLoadingException, IOException {
+        AddressBookStorage target = create(format, filePath, isCompact);
+        if (!getDataFiles(target).isEmpty()) {
+            return false;
+        }
+
+        for (AddressBookFormat otherFormat : AddressBookFormat.values()) {
+            AddressBookStorage source = create(otherFormat, filePath);
+            List<Path> sourceFiles = getDataFiles(source);
+            if (otherFormat == format || sourceFiles.isEmpty()) {
+                continue;
+            }
+
+            Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+            if (addressBook.isEmpty()) {
+                continue;
+            }
+            target.saveAddressBook(addressBook.get());
+            for (Path sourceFile : sourceFiles) {
+                Files.move(sourceFile, sourceFile.resolveSibling(sourceFile.getFileName() + CONVERTED_SUFFIX),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+            logger.info("Converted " + source.getAddressBookFilePath() + " from " + otherFormat + " to " + format
+                    + " in " + target.getAddressBookFilePath());
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the files holding the data of {@code storage} that exist.
+     * Sharded data is held by its whole directory, which only holds data once it has a manifest.
+     */
+    private static List<Path> getDataFiles(AddressBookStorage storage) {
+        if (storage instanceof ShardedAddressBookStorage) {
+            return Files.exists(((ShardedAddressBookStorage) storage).getManifestFilePath())
+                    ? List.of(storage.getAddressBookFilePath())
+                    : List.of();
+        }
+        List<Path> files = storage instanceof JournalAddressBookStorage
+                ? List.of(storage.getAddressBookFilePath(),
+                        ((JournalAddressBookStorage) storage).getJournalFilePath())
+                : List.of(storage.getAddressBookFilePath());
+        return files.stream().filter(Files::exists).collect(Collectors.toList());
+    }
+
+}
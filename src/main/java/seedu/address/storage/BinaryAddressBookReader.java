@@ -0,0 +1,271 @@
+package seedu.address.storage;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.lesson.Day;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Time;
+import seedu.address.model.lesson.Tutor;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Reads an AddressBook written by a {@link BinaryAddressBookWriter}, in the format described in
+ * {@link BinaryAddressBookStorage}.
+ */
+class BinaryAddressBookReader {
+
+    public static final String MESSAGE_NOT_BINARY = "Data file is not in the binary data format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Data file is in version %1$d of the binary data format, which is newer than supported.";
+    public static final String MESSAGE_CORRUPTED = "Data file is truncated or corrupted.";
+    public static final String MESSAGE_MISSING_SECTION = "Data file has no %1$s section.";
+    public static final String MESSAGE_LESSON_NOT_FOUND = "Lesson with className '%1$s' not found in lessons list.";
+
+    private final ByteBuffer buffer;
+    private final AddressBook addressBook = new AddressBook();
+    private final Map<String, Lesson> lessonsByClassName = new HashMap<>();
+    // Identification numbers are shared between the lessons and persons holding them
+    private final Map<Integer, IdentificationNumber> ids = new HashMap<>();
+    private List<String> strings;
+    private boolean hasLessons;
+    private boolean hasPersons;
+
+    private BinaryAddressBookReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    /**
+     * Returns the AddressBook held in the remaining bytes of {@code buffer}.
+     *
+     * @throws IllegalValueException if the bytes are not a valid AddressBook, or violate any data constraints.
+     */
+    static AddressBook read(ByteBuffer buffer) throws IllegalValueException {
+        try {
+            return new BinaryAddressBookReader(buffer.slice()).read();
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | DateTimeException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED, e);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalValueException(iae.getMessage(), iae);
+        }
+    }
+
+    private AddressBook read() throws IllegalValueException {
+        byte[] magic = new byte[BinaryAddressBookStorage.MAGIC.length];
+        if (buffer.remaining() < magic.length + Integer.BYTES) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+        buffer.get(magic);
+        if (!Arrays.equals(magic, BinaryAddressBookStorage.MAGIC)) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+
+        int checksumPosition = buffer.limit() - Integer.BYTES;
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate().position(0).limit(checksumPosition));
+        if ((int) crc.getValue() != buffer.getInt(checksumPosition)) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        buffer.limit(checksumPosition);
+
+        int version = readInt(buffer);
+        if (version > BinaryAddressBookStorage.FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        int kind;
+        while ((kind = readInt(buffer)) != BinaryAddressBookStorage.SECTION_END) {
+            int length = readCount(buffer);
+            ByteBuffer section = buffer.slice(buffer.position(), length);
+            buffer.position(buffer.position() + length);
+            switch (kind) {
+            case BinaryAddressBookStorage.SECTION_STRINGS:
+                readStrings(section);
+                break;
+            case BinaryAddressBookStorage.SECTION_LESSONS:
+                requireSection(strings != null, "string");
+                readLessons(section);
+                break;
+            case BinaryAddressBookStorage.SECTION_PERSONS:
+                requireSection(hasLessons, "lesson");
+                readPersons(section);
+                break;
+            default:
+                // Sections added by later versions that this version can do without are skipped
+                break;
+            }
+        }
+        if (buffer.hasRemaining()) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED);
+        }
+        requireSection(hasPersons, "person");
+        return addressBook;
+    }
+
+    private void readStrings(ByteBuffer section) {
+        int count = readCount(section);
+        strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = readCount(section);
+            // Decoded from the buffer itself, which need not be backed by an array
+            strings.add(BinaryAddressBookStorage.CHARSET.decode(section.slice(section.position(), length)).toString());
+            section.position(section.position() + length);
+        }
+    }
+
+    private void readLessons(ByteBuffer section) throws IllegalValueException {
+        int count = readCount(section);
+        for (int i = 0; i < count; i++) {
+            ClassName className = new ClassName(readString(section));
+            Day day = new Day(readString(section));
+            Time time = new Time(readString(section));
+            Tutor tutor = new Tutor(readString(section));
+            Set<Tag> tags = readTags(section);
+
+            IdentificationNumber[] roster = new IdentificationNumber[readCount(section)];
+            int key = 0;
+            for (int student = 0; student < roster.length; student++) {
+                key += readInt(section);
+                roster[student] = idOf(key);
+            }
+            Set<IdentificationNumber> students = readBitset(section, roster);
+            int sessionCount = readCount(section);
+            Map<LocalDate, Set<IdentificationNumber>> attendance = new LinkedHashMap<>();
+            long epochDay = 0;
+            for (int session = 0; session < sessionCount; session++) {
+                long value = readVarint(section);
+                epochDay = session == 0 ? (value >>> 1) ^ -(value & 1) : epochDay + value;
+                attendance.put(LocalDate.ofEpochDay(epochDay), readBitset(section, roster));
+            }
+
+            Lesson lesson = new Lesson(className, day, time, tutor, students, AttendanceRecord.of(attendance), tags);
+            if (addressBook.hasLesson(lesson)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_LESSON);
+            }
+            addressBook.addLesson(lesson);
+            lessonsByClassName.put(className.fullClassName, lesson);
+        }
+        hasLessons = true;
+    }
+
+    private void readPersons(ByteBuffer section) throws IllegalValueException {
+        int count = readCount(section);
+        for (int i = 0; i < count; i++) {
+            IdentificationNumber id = idOf(readInt(section));
+            Name name = new Name(readString(section));
+            Role role = new Role(readString(section));
+            Phone phone = new Phone(readString(section));
+            Email email = new Email(readString(section));
+            Address address = new Address(readString(section));
+            Set<Tag> tags = readTags(section);
+            int lessonCount = readCount(section);
+            Set<Lesson> lessons = new HashSet<>();
+            for (int lesson = 0; lesson < lessonCount; lesson++) {
+                String className = readString(section);
+                if (!lessonsByClassName.containsKey(className)) {
+                    throw new IllegalValueException(String.format(MESSAGE_LESSON_NOT_FOUND, className));
+                }
+                lessons.add(lessonsByClassName.get(className));
+            }
+
+            Person person = new Person(id, name, role, lessons, phone, email, address, tags);
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        hasPersons = true;
+    }
+
+    private Set<Tag> readTags(ByteBuffer section) {
+        int count = readCount(section);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            tags.add(new Tag(readString(section)));
+        }
+        return tags;
+    }
+
+    private String readString(ByteBuffer section) {
+        return strings.get(readInt(section));
+    }
+
+    private IdentificationNumber idOf(int key) {
+        return ids.computeIfAbsent(key, unused -> new IdentificationNumber((key & 1) == 1 ? "T" : "S", key >>> 1));
+    }
+
+    private static Set<IdentificationNumber> readBitset(ByteBuffer section, IdentificationNumber[] roster) {
+        Set<IdentificationNumber> students = new HashSet<>();
+        for (int i = 0; i < (roster.length + 7) / 8; i++) {
+            int bits = section.get() & 0xFF;
+            for (int bit = 0; bits != 0; bit++, bits >>>= 1) {
+                if ((bits & 1) != 0) {
+                    students.add(roster[i * 8 + bit]);
+                }
+            }
+        }
+        return students;
+    }
+
+    private static void requireSection(boolean hasSection, String name) throws IllegalValueException {
+        if (!hasSection) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SECTION, name));
+        }
+    }
+
+    /**
+     * Reads an unsigned variable-length integer, 7 bits per byte, lowest bits first.
+     */
+    private static long readVarint(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < Long.SIZE; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IndexOutOfBoundsException("Variable-length integer is too long");
+    }
+
+    private static int readInt(ByteBuffer buffer) {
+        long value = readVarint(buffer);
+        if (value > Integer.MAX_VALUE) {
+            throw new IndexOutOfBoundsException("Variable-length integer is out of range");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Reads a number of items or bytes, each of which takes at least a byte of the rest of {@code buffer}.
+     */
+    private static int readCount(ByteBuffer buffer) {
+        int count = readInt(buffer);
+        if (count > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return count;
+    }
+}
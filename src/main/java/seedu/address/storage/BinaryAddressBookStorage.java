@@ -0,0 +1,131 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.AttendanceArchive;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ * <p>
+ * The file starts with the bytes {@code RCAB} and the format version, followed by sections, each of which is its
+ * kind, its length in bytes and its contents. Numbers are variable-length, 7 bits per byte, so that small numbers
+ * take a single byte. The sections are
+ * <ul>
+ *     <li>the table of every distinct string in the address book, which the other sections refer to by index,</li>
+ *     <li>the lessons, each with its students and attendance stored as bitsets over the lesson's roster of
+ *     identification numbers, and its session dates stored as the days since the previous session,</li>
+ *     <li>the persons, each referring to its lessons by class name.</li>
+ * </ul>
+ * The file ends with an end marker and the CRC-32 checksum of every byte before it, so that a truncated or
+ * corrupted file is detected rather than read. Sections of kinds unknown to this version are skipped, so a later
+ * version may add sections without breaking older ones.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".rcab";
+
+    static final byte[] MAGIC = {'R', 'C', 'A', 'B'};
+    static final int FORMAT_VERSION = 1;
+    static final int SECTION_END = 0;
+    static final int SECTION_STRINGS = 1;
+    static final int SECTION_LESSONS = 2;
+    static final int SECTION_PERSONS = 3;
+    static final Charset CHARSET = StandardCharsets.UTF_8;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+    private final long mappingThreshold;
+    private JsonAttendanceArchive attendanceArchive;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, FileUtil.DEFAULT_MAPPING_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage saving to {@code filePath}, which decodes files of at least {@code mappingThreshold} bytes
+     * straight from a mapping of the file into memory, as by {@link FileUtil#readToBuffer(Path, long)}.
+     */
+    public BinaryAddressBookStorage(Path filePath, long mappingThreshold) {
+        this.filePath = filePath;
+        this.mappingThreshold = mappingThreshold;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(BinaryAddressBookReader.read(FileUtil.readToBuffer(filePath, mappingThreshold)));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        FileUtil.writeToFileAtomically(filePath, out -> BinaryAddressBookWriter.write(addressBook, out));
+    }
+
+    /**
+     * Returns the attendance archive kept in the directory next to the data file, named after it.
+     * For example, the archive of {@code data/addressbook.rcab} is kept in {@code data/addressbook-archive}.
+     */
+    @Override
+    public AttendanceArchive getAttendanceArchive() {
+        if (attendanceArchive == null) {
+            attendanceArchive = new JsonAttendanceArchive(
+                    JsonAddressBookStorage.resolveSiblingOf(filePath, "-archive"));
+        }
+        return attendanceArchive;
+    }
+
+}
@@ -0,0 +1,202 @@
+package seedu.address.storage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an AddressBook in the format read by {@link BinaryAddressBookReader}, described in
+ * {@link BinaryAddressBookStorage}.
+ */
+class BinaryAddressBookWriter {
+
+    private final Map<String, Integer> stringIndices = new HashMap<>();
+    private final List<String> strings = new ArrayList<>();
+
+    private BinaryAddressBookWriter() {}
+
+    /**
+     * Writes {@code addressBook} to {@code out}, without closing it.
+     */
+    static void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        new BinaryAddressBookWriter().writeAddressBook(addressBook, out);
+    }
+
+    private void writeAddressBook(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        // The string table is written first but filled while encoding the other sections, so they are encoded first
+        Section lessons = new Section();
+        lessons.writeVarint(addressBook.getLessonList().size());
+        for (Lesson lesson : addressBook.getLessonList()) {
+            writeLesson(lesson, lessons);
+        }
+        Section persons = new Section();
+        persons.writeVarint(addressBook.getPersonList().size());
+        for (Person person : addressBook.getPersonList()) {
+            writePerson(person, persons);
+        }
+        Section stringTable = new Section();
+        stringTable.writeVarint(strings.size());
+        for (String string : strings) {
+            byte[] bytes = string.getBytes(BinaryAddressBookStorage.CHARSET);
+            stringTable.writeVarint(bytes.length);
+            stringTable.write(bytes, 0, bytes.length);
+        }
+
+        CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+        Section header = new Section();
+        header.write(BinaryAddressBookStorage.MAGIC, 0, BinaryAddressBookStorage.MAGIC.length);
+        header.writeVarint(BinaryAddressBookStorage.FORMAT_VERSION);
+        header.writeTo(checkedOut);
+        writeSection(BinaryAddressBookStorage.SECTION_STRINGS, stringTable, checkedOut);
+        writeSection(BinaryAddressBookStorage.SECTION_LESSONS, lessons, checkedOut);
+        writeSection(BinaryAddressBookStorage.SECTION_PERSONS, persons, checkedOut);
+        Section end = new Section();
+        end.writeVarint(BinaryAddressBookStorage.SECTION_END);
+        end.writeTo(checkedOut);
+
+        Section checksum = new Section();
+        checksum.writeInt((int) checkedOut.getChecksum().getValue());
+        checksum.writeTo(out);
+    }
+
+    private static void writeSection(int kind, Section section, OutputStream out) throws IOException {
+        Section prefix = new Section();
+        prefix.writeVarint(kind);
+        prefix.writeVarint(section.size());
+        prefix.writeTo(out);
+        section.writeTo(out);
+    }
+
+    private void writeLesson(Lesson lesson, Section out) {
+        writeString(lesson.getClassName().fullClassName, out);
+        writeString(lesson.getDay().fullDay, out);
+        writeString(lesson.getTime().fullTime, out);
+        writeString(lesson.getTutor().tutorName, out);
+        writeTags(lesson.getTags(), out);
+
+        // Students and attendance are stored as bitsets over the lesson's roster of every student they mention
+        Map<LocalDate, Set<IdentificationNumber>> attendance = lesson.getAttendanceRecord().toMap();
+        Set<Integer> rosterKeys = new TreeSet<>();
+        lesson.getStudents().forEach(id -> rosterKeys.add(keyOf(id)));
+        attendance.values().forEach(present -> present.forEach(id -> rosterKeys.add(keyOf(id))));
+        List<Integer> roster = new ArrayList<>(rosterKeys);
+        Map<Integer, Integer> rosterIndices = new HashMap<>();
+        for (int i = 0; i < roster.size(); i++) {
+            rosterIndices.put(roster.get(i), i);
+        }
+
+        out.writeVarint(roster.size());
+        int previousKey = 0;
+        for (int key : roster) {
+            out.writeVarint(key - previousKey);
+            previousKey = key;
+        }
+        out.writeBitset(lesson.getStudents(), rosterIndices, roster.size());
+
+        out.writeVarint(attendance.size());
+        long previousEpochDay = 0;
+        boolean isFirst = true;
+        for (Map.Entry<LocalDate, Set<IdentificationNumber>> session : attendance.entrySet()) {
+            long epochDay = session.getKey().toEpochDay();
+            // The first date may be before 1970, and later dates are in ascending order
+            out.writeVarint(isFirst ? zigzag(epochDay) : epochDay - previousEpochDay);
+            previousEpochDay = epochDay;
+            isFirst = false;
+            out.writeBitset(session.getValue(), rosterIndices, roster.size());
+        }
+    }
+
+    private void writePerson(Person person, Section out) {
+        out.writeVarint(keyOf(person.getId()));
+        writeString(person.getName().fullName, out);
+        writeString(person.getRole().role, out);
+        writeString(person.getPhone().value, out);
+        writeString(person.getEmail().value, out);
+        writeString(person.getAddress().value, out);
+        writeTags(person.getTags(), out);
+        out.writeVarint(person.getLessons().size());
+        for (Lesson lesson : person.getLessons()) {
+            writeString(lesson.getClassName().fullClassName, out);
+        }
+    }
+
+    private void writeTags(Set<Tag> tags, Section out) {
+        out.writeVarint(tags.size());
+        for (Tag tag : tags) {
+            writeString(tag.tagName, out);
+        }
+    }
+
+    private void writeString(String string, Section out) {
+        Integer index = stringIndices.get(string);
+        if (index == null) {
+            index = strings.size();
+            stringIndices.put(string, index);
+            strings.add(string);
+        }
+        out.writeVarint(index);
+    }
+
+    /**
+     * Returns {@code id} as a single non-negative number, with its prefix in the lowest bit.
+     */
+    static int keyOf(IdentificationNumber id) {
+        return id.getNumericValue() << 1 | (id.getPrefix().equals("T") ? 1 : 0);
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    /**
+     * A growable buffer of encoded bytes.
+     */
+    private static class Section extends ByteArrayOutputStream {
+
+        /**
+         * Writes {@code value} as an unsigned variable-length integer, 7 bits per byte, lowest bits first.
+         */
+        private void writeVarint(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        private void writeInt(int value) {
+            write(value >>> 24);
+            write(value >>> 16);
+            write(value >>> 8);
+            write(value);
+        }
+
+        /**
+         * Writes the set of {@code ids} as one bit for each of the {@code rosterSize} students in the roster.
+         */
+        private void writeBitset(Set<IdentificationNumber> ids, Map<Integer, Integer> rosterIndices,
+                                 int rosterSize) {
+            byte[] bits = new byte[(rosterSize + 7) / 8];
+            for (IdentificationNumber id : ids) {
+                int index = rosterIndices.get(keyOf(id));
+                bits[index / 8] |= (byte) (1 << (index % 8));
+            }
+            write(bits, 0, bits.length);
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.AttendanceArchive;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot followed by a journal of the changes made since.
+ * Saving only appends the persons and lessons that changed since the last save to the journal, so a change to one
+ * field costs a write of one person or lesson rather than of every person and lesson.
+ * The snapshot is rewritten, and the journal emptied, once the journal holds too many entries or bytes.
+ * <p>
+ * Each line of the journal is the CRC-32 checksum of an entry followed by the entry in json. A final line that is
+ * incomplete or does not match its checksum was torn by a crash while it was written, and is dropped when read.
+ * The snapshot is the data file read by {@link JsonAddressBookStorage}, so data saved by either can be read by both,
+ * apart from any journal.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_COMPACTION_ENTRIES = 1000;
+    public static final long DEFAULT_COMPACTION_BYTES = 1 << 20;
+    public static final String MESSAGE_CORRUPTED_ENTRY = "Journal entry %1$d in %2$s is corrupted.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final JsonAddressBookStorage snapshotStorage;
+    private final Path filePath;
+    private final Path journalPath;
+    private final int compactionEntries;
+    private final long compactionBytes;
+
+    // The data last read or saved, which the next save is compared with, or null if the journal cannot be trusted
+    private ReadOnlyAddressBook savedAddressBook;
+    private int journalEntries;
+    // Length of the intact entries of the journal, before any torn entry
+    private long journalBytes;
+
+    /**
+     * Creates a storage with its snapshot at {@code filePath}, compacted after the default number of entries or
+     * bytes.
+     */
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage with its snapshot at {@code filePath}, compacted after the default number of entries or
+     * bytes. The snapshot is written without line breaks or indentation if {@code isCompact} is true.
+     */
+    public JournalAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, DEFAULT_COMPACTION_ENTRIES, DEFAULT_COMPACTION_BYTES);
+    }
+
+    /**
+     * Creates a storage with its snapshot at {@code filePath}, compacted once its journal holds at least
+     * {@code compactionEntries} entries or {@code compactionBytes} bytes.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionEntries, long compactionBytes) {
+        this(filePath, false, compactionEntries, compactionBytes);
+    }
+
+    /**
+     * Creates a storage with its snapshot at {@code filePath}, written as by
+     * {@link #JournalAddressBookStorage(Path, boolean)} and compacted as by
+     * {@link #JournalAddressBookStorage(Path, int, long)}.
+     * The journal is kept next to the snapshot and named after it. For example, the journal of
+     * {@code data/addressbook.json} is {@code data/addressbook-journal.log}.
+     */
+    public JournalAddressBookStorage(Path filePath, boolean isCompact, int compactionEntries, long compactionBytes) {
+        requireNonNull(filePath);
+        checkArgument(compactionEntries > 0, "Number of entries must be positive.");
+        checkArgument(compactionBytes > 0, "Number of bytes must be positive.");
+        this.snapshotStorage = new JsonAddressBookStorage(filePath, isCompact);
+        this.filePath = filePath;
+        this.journalPath = JsonAddressBookStorage.resolveSiblingOf(filePath, "-journal.log");
+        this.compactionEntries = compactionEntries;
+        this.compactionBytes = compactionBytes;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal.
+     */
+    public Path getJournalFilePath() {
+        return journalPath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Only the data file of this storage has a journal, which is replayed over the snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        List<JsonAdaptedJournalEntry> entries = readJournal();
+        if (entries.isEmpty()) {
+            // Streamed straight into the model, as there is nothing to replay
+            Optional<ReadOnlyAddressBook> addressBook = snapshotStorage.readAddressBook(filePath);
+            savedAddressBook = addressBook.orElse(null);
+            return addressBook;
+        }
+
+        Optional<JsonSerializableAddressBook> snapshot = JsonUtil.readJsonFile(
+                filePath, JsonSerializableAddressBook.class);
+        JsonSerializableAddressBook snapshotData = snapshot.orElseGet(() ->
+                new JsonSerializableAddressBook(new ArrayList<>(), new ArrayList<>()));
+        Map<String, JsonAdaptedPerson> persons = new LinkedHashMap<>();
+        Map<String, JsonAdaptedLesson> lessons = new LinkedHashMap<>();
+        try {
+            for (JsonAdaptedPerson person : snapshotData.getPersons()) {
+                if (persons.put(person.getId(), person) != null) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+                }
+            }
+            for (JsonAdaptedLesson lesson : snapshotData.getLessons()) {
+                if (lessons.put(lesson.getClassName(), lesson) != null) {
+                    throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_LESSON);
+                }
+            }
+            for (JsonAdaptedJournalEntry entry : entries) {
+                entry.applyTo(persons, lessons);
+            }
+            ReadOnlyAddressBook addressBook = new JsonSerializableAddressBook(
+                    new ArrayList<>(persons.values()), new ArrayList<>(lessons.values())).toModelType();
+            savedAddressBook = addressBook;
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns the intact entries of the journal, and remembers their number and length.
+     */
+    private List<JsonAdaptedJournalEntry> readJournal() throws DataLoadingException {
+        journalEntries = 0;
+        journalBytes = 0;
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        if (!Files.exists(journalPath)) {
+            return entries;
+        }
+
+        byte[] journal;
+        try {
+            journal = Files.readAllBytes(journalPath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from journal " + journalPath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        int start = 0;
+        while (start < journal.length) {
+            int end = start;
+            while (end < journal.length && journal[end] != '\n') {
+                end++;
+            }
+            Optional<JsonAdaptedJournalEntry> entry = end < journal.length
+                    ? parseEntry(new String(journal, start, end - start, StandardCharsets.UTF_8))
+                    : Optional.empty();
+            if (entry.isEmpty()) {
+                if (end + 1 < journal.length) {
+                    throw new DataLoadingException(new IllegalValueException(
+                            String.format(MESSAGE_CORRUPTED_ENTRY, entries.size() + 1, journalPath)));
+                }
+                logger.warning("Dropping the torn final entry of " + journalPath);
+                break;
+            }
+            entries.add(entry.get());
+            start = end + 1;
+        }
+        journalEntries = entries.size();
+        journalBytes = start;
+        return entries;
+    }
+
+    /**
+     * Returns the entry on {@code line}, or an empty value if it does not match its checksum or is not an entry.
+     */
+    private static Optional<JsonAdaptedJournalEntry> parseEntry(String line) {
+        int separator = line.indexOf(' ');
+        if (separator < 0) {
+            return Optional.empty();
+        }
+        String json = line.substring(separator + 1);
+        if (!line.substring(0, separator).equals(checksumOf(json))) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(JsonUtil.fromJsonString(json, JsonAdaptedJournalEntry.class));
+        } catch (IOException ioe) {
+            return Optional.empty();
+        }
+    }
+
+    private static String checksumOf(String json) {
+        CRC32 crc = new CRC32();
+        crc.update(json.getBytes(StandardCharsets.UTF_8));
+        return String.format("%08x", crc.getValue());
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * The data is only journaled when saved to the data file of this storage, and only if it was read or saved by
+     * this storage before. Otherwise, it is saved as a snapshot.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        Optional<List<JsonAdaptedJournalEntry>> changes = savedAddressBook == null
+                ? Optional.empty()
+                : changesBetween(savedAddressBook, addressBook);
+        if (changes.isEmpty()) {
+            compact(addressBook);
+            return;
+        }
+        if (!changes.get().isEmpty()) {
+            appendToJournal(changes.get());
+        }
+        savedAddressBook = addressBook;
+        if (journalEntries >= compactionEntries || journalBytes >= compactionBytes) {
+            compact(addressBook);
+        }
+    }
+
+    /**
+     * Appends {@code entries} to the journal in a single write, forced to the disk before returning.
+     * Any torn entry at the end of the journal is overwritten.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalEntry entry : entries) {
+            String json = JsonUtil.toCompactJsonString(entry);
+            lines.append(checksumOf(json)).append(' ').append(json).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        long length = buffer.remaining();
+
+        FileUtil.createParentDirsOfFile(journalPath);
+        try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE)) {
+            journal.truncate(journalBytes);
+            journal.position(journalBytes);
+            while (buffer.hasRemaining()) {
+                journal.write(buffer);
+            }
+            journal.force(false);
+        }
+        journalEntries += entries.size();
+        journalBytes += length;
+    }
+
+    /**
+     * Rewrites the snapshot as {@code addressBook}, then empties the journal.
+     * The snapshot is replaced atomically, so a crash leaves either the old snapshot and its journal, or the new
+     * snapshot and a journal whose entries it already holds, which replay to the same data.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        // The journal is only emptied once the new snapshot, and its rename, are on the disk, as the old snapshot
+        // cannot be replayed into the data without the journal
+        snapshotStorage.saveAddressBook(addressBook);
+
+        if (Files.exists(journalPath)) {
+            try (FileChannel journal = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+                journal.truncate(0);
+                journal.force(false);
+            }
+        }
+        logger.fine("Compacted " + journalEntries + " journal entries into " + filePath);
+        journalEntries = 0;
+        journalBytes = 0;
+        savedAddressBook = addressBook;
+    }
+
+    /**
+     * Returns the entries that turn {@code saved} into {@code current}, or an empty value if they cannot, as when a
+     * person or lesson was inserted before the end of its list.
+     */
+    private static Optional<List<JsonAdaptedJournalEntry>> changesBetween(ReadOnlyAddressBook saved,
+                                                                          ReadOnlyAddressBook current) {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+        boolean isJournalable = addChanges(saved.getLessonList(), current.getLessonList(),
+                lesson -> lesson.getClassName().toString(), JsonAdaptedJournalEntry::setLesson,
+                JsonAdaptedJournalEntry::removeLesson, entries)
+                && addChanges(saved.getPersonList(), current.getPersonList(),
+                        person -> person.getId().toString(), JsonAdaptedJournalEntry::setPerson,
+                        JsonAdaptedJournalEntry::removePerson, entries);
+        return isJournalable ? Optional.of(entries) : Optional.empty();
+    }
+
+    /**
+     * Adds the entries that turn {@code saved} into {@code current} to {@code entries}, and returns true, if the
+     * items kept from {@code saved} are in the same order in {@code current} and are followed by the new items.
+     */
+    private static <T> boolean addChanges(List<T> saved, List<T> current, Function<T, String> keyOf,
+                                          Function<T, JsonAdaptedJournalEntry> toSetEntry,
+                                          Function<String, JsonAdaptedJournalEntry> toRemoveEntry,
+                                          List<JsonAdaptedJournalEntry> entries) {
+        Map<String, T> savedByKey = new HashMap<>();
+        saved.forEach(item -> savedByKey.put(keyOf.apply(item), item));
+        Set<String> currentKeys = new HashSet<>();
+        current.forEach(item -> currentKeys.add(keyOf.apply(item)));
+        if (savedByKey.size() != saved.size() || currentKeys.size() != current.size()) {
+            return false;
+        }
+
+        List<String> keptKeys = new ArrayList<>();
+        for (T item : saved) {
+            String key = keyOf.apply(item);
+            if (currentKeys.contains(key)) {
+                keptKeys.add(key);
+            } else {
+                entries.add(toRemoveEntry.apply(key));
+            }
+        }
+
+        int keptIndex = 0;
+        boolean hasNewItem = false;
+        for (T item : current) {
+            String key = keyOf.apply(item);
+            T savedItem = savedByKey.get(key);
+            if (savedItem == null) {
+                entries.add(toSetEntry.apply(item));
+                hasNewItem = true;
+                continue;
+            }
+            // Setting a kept item keeps its place, so kept items must come first, in their saved order
+            if (hasNewItem || !keptKeys.get(keptIndex).equals(key)) {
+                return false;
+            }
+            keptIndex++;
+            if (savedItem != item && !savedItem.equals(item)) {
+                entries.add(toSetEntry.apply(item));
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public AttendanceArchive getAttendanceArchive() {
+        return snapshotStorage.getAttendanceArchive();
+    }
+
+}
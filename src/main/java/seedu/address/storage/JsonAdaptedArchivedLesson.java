@@ -0,0 +1,119 @@
+package seedu.address.storage;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.person.IdentificationNumber;
+
+/**
+ * Jackson-friendly version of the archived attendance of one lesson.
+ * Each student present in the archive is listed once, and sessions refer to students by their position in that list.
+ */
+class JsonAdaptedArchivedLesson {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Archived lesson's %s field is missing!";
+    public static final String MESSAGE_INVALID_STUDENT_POSITION = "Archived session refers to a missing student.";
+
+    private final String className;
+    private final List<JsonAdaptedIdentificationNumber> students = new ArrayList<>();
+    private final List<JsonAdaptedArchivedSession> sessions = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedArchivedLesson} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedArchivedLesson(@JsonProperty("className") String className,
+                                     @JsonProperty("students") List<JsonAdaptedIdentificationNumber> students,
+                                     @JsonProperty("sessions") List<JsonAdaptedArchivedSession> sessions) {
+        this.className = className;
+        if (students != null) {
+            this.students.addAll(students);
+        }
+        if (sessions != null) {
+            this.sessions.addAll(sessions);
+        }
+    }
+
+    /**
+     * Converts the archived {@code attendance} of the class named {@code className} into this class for Jackson use.
+     */
+    public JsonAdaptedArchivedLesson(ClassName className, AttendanceRecord attendance) {
+        this.className = className.toString();
+        Map<LocalDate, Set<IdentificationNumber>> attendanceByDate = attendance.toMap();
+
+        Set<IdentificationNumber> presentStudents = new TreeSet<>(
+                Comparator.comparing(IdentificationNumber::getValue));
+        attendanceByDate.values().forEach(presentStudents::addAll);
+        Map<IdentificationNumber, Integer> positions = new HashMap<>();
+        for (IdentificationNumber student : presentStudents) {
+            positions.put(student, students.size());
+            students.add(new JsonAdaptedIdentificationNumber(student));
+        }
+
+        attendanceByDate.forEach((date, present) -> sessions.add(new JsonAdaptedArchivedSession(date.toString(),
+                present.stream().map(positions::get).sorted().collect(Collectors.toList()))));
+    }
+
+    /**
+     * Returns the name of the archived class.
+     *
+     * @throws IllegalValueException if the class name is missing or invalid.
+     */
+    public ClassName getClassName() throws IllegalValueException {
+        if (className == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    ClassName.class.getSimpleName()));
+        }
+        if (!ClassName.isValidClassName(className)) {
+            throw new IllegalValueException(ClassName.MESSAGE_CONSTRAINTS);
+        }
+        return new ClassName(className);
+    }
+
+    /**
+     * Converts this Jackson-friendly archived attendance into the model's {@code AttendanceRecord} object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the archived attendance.
+     */
+    public AttendanceRecord toModelType() throws IllegalValueException {
+        List<IdentificationNumber> modelStudents = new ArrayList<>();
+        for (JsonAdaptedIdentificationNumber student : students) {
+            modelStudents.add(student.toModelType());
+        }
+
+        Map<LocalDate, Set<IdentificationNumber>> attendance = new HashMap<>();
+        for (JsonAdaptedArchivedSession session : sessions) {
+            LocalDate date;
+            try {
+                date = LocalDate.parse(session.getDate());
+            } catch (DateTimeParseException | NullPointerException e) {
+                throw new IllegalValueException("Invalid date format in archived attendance: " + session.getDate());
+            }
+
+            Set<IdentificationNumber> present = new HashSet<>();
+            for (Integer position : session.getPresent()) {
+                if (position == null || position < 0 || position >= modelStudents.size()) {
+                    throw new IllegalValueException(MESSAGE_INVALID_STUDENT_POSITION);
+                }
+                present.add(modelStudents.get(position));
+            }
+            attendance.put(date, present);
+        }
+        return AttendanceRecord.of(attendance);
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly version of one archived session: its date, and the positions of the students present on it in
+ * the student list of the archived lesson.
+ */
+class JsonAdaptedArchivedSession {
+
+    private final String date;
+    private final List<Integer> present = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedArchivedSession} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedArchivedSession(@JsonProperty("date") String date,
+                                      @JsonProperty("present") List<Integer> present) {
+        this.date = date;
+        if (present != null) {
+            this.present.addAll(present);
+        }
+    }
+
+    public String getDate() {
+        return date;
+    }
+
+    public List<Integer> getPresent() {
+        return new ArrayList<>(present);
+    }
+}
@@ -0,0 +1,120 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of a change to a single person or lesson, as recorded in the journal of a
+ * {@link JournalAddressBookStorage}.
+ * Persons are identified by their identification number and lessons by their class name. Setting a person or lesson
+ * replaces the one with the same identity in place, or adds it at the end of its list if there is none.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+
+    /**
+     * The kinds of change recorded in the journal.
+     */
+    enum Type {
+        SET_PERSON, REMOVE_PERSON, SET_LESSON, REMOVE_LESSON
+    }
+
+    private final Type type;
+    private final String key;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedLesson lesson;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") Type type, @JsonProperty("key") String key,
+                                   @JsonProperty("person") JsonAdaptedPerson person,
+                                   @JsonProperty("lesson") JsonAdaptedLesson lesson) {
+        this.type = type;
+        this.key = key;
+        this.person = person;
+        this.lesson = lesson;
+    }
+
+    /**
+     * Returns an entry setting {@code person}.
+     */
+    static JsonAdaptedJournalEntry setPerson(Person person) {
+        return new JsonAdaptedJournalEntry(Type.SET_PERSON, null, new JsonAdaptedPerson(person), null);
+    }
+
+    /**
+     * Returns an entry removing the person with the identification number {@code id}.
+     */
+    static JsonAdaptedJournalEntry removePerson(String id) {
+        return new JsonAdaptedJournalEntry(Type.REMOVE_PERSON, requireNonNull(id), null, null);
+    }
+
+    /**
+     * Returns an entry setting {@code lesson}.
+     */
+    static JsonAdaptedJournalEntry setLesson(Lesson lesson) {
+        return new JsonAdaptedJournalEntry(Type.SET_LESSON, null, null, new JsonAdaptedLesson(lesson));
+    }
+
+    /**
+     * Returns an entry removing the lesson with the class name {@code className}.
+     */
+    static JsonAdaptedJournalEntry removeLesson(String className) {
+        return new JsonAdaptedJournalEntry(Type.REMOVE_LESSON, requireNonNull(className), null, null);
+    }
+
+    /**
+     * Applies this change to {@code persons} and {@code lessons}, keyed by identification number and class name.
+     * Removing a person or lesson that does not exist has no effect, so an entry can be applied again safely.
+     *
+     * @throws IllegalValueException if a field needed by this change is missing.
+     */
+    void applyTo(Map<String, JsonAdaptedPerson> persons, Map<String, JsonAdaptedLesson> lessons)
+            throws IllegalValueException {
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (type) {
+        case SET_PERSON:
+            if (person == null || person.getId() == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "person"));
+            }
+            persons.put(person.getId(), person);
+            break;
+        case SET_LESSON:
+            if (lesson == null || lesson.getClassName() == null) {
+                throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "lesson"));
+            }
+            lessons.put(lesson.getClassName(), lesson);
+            break;
+        case REMOVE_PERSON:
+            persons.remove(requireKey());
+            break;
+        case REMOVE_LESSON:
+            lessons.remove(requireKey());
+            break;
+        default:
+            throw new AssertionError("Unknown journal entry type: " + type);
+        }
+    }
+
+    private String requireKey() throws IllegalValueException {
+        if (key == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "key"));
+        }
+        return key;
+    }
+
+}
@@ -87,16 +87,25 @@ class JsonAdaptedLesson {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the class name of the lesson, or null if it is missing.
+     */
+    String getClassName() {
+        return className;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Lesson} object.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted lesson.
      */
     public Lesson toModelType() throws IllegalValueException {
+        // The same few students are present on every date, so each of them is converted only once
+        final Map<String, IdentificationNumber> convertedIds = new HashMap<>();
         final List<IdentificationNumber> lessonStudents = new ArrayList<>();
         final List<Tag> lessonTags = new ArrayList<>();
         for (JsonAdaptedIdentificationNumber student : students) {
-            lessonStudents.add(student.toModelType());
+            lessonStudents.add(convertId(student, convertedIds));
         }
         for (JsonAdaptedTag tag : tags) {
             lessonTags.add(tag.toModelType());
@@ -143,7 +152,7 @@ class JsonAdaptedLesson {
                 LocalDate date = LocalDate.parse(record.getDate());
                 Set<IdentificationNumber> presentStudents = new HashSet<>();
                 for (JsonAdaptedIdentificationNumber studentId : record.getPresentStudents()) {
-                    presentStudents.add(studentId.toModelType());
+                    presentStudents.add(convertId(studentId, convertedIds));
                 }
                 modelAttendance.put(date, presentStudents);
             } catch (DateTimeParseException e) {
@@ -156,4 +165,14 @@ class JsonAdaptedLesson {
         return new Lesson(modelClassName, modelDay, modelTime, modelTutor, modelStudents, modelAttendance, modelTags);
     }
 
+    private static IdentificationNumber convertId(JsonAdaptedIdentificationNumber id,
+            Map<String, IdentificationNumber> convertedIds) throws IllegalValueException {
+        IdentificationNumber converted = convertedIds.get(id.getStudentId());
+        if (converted == null) {
+            converted = id.toModelType();
+            convertedIds.put(id.getStudentId(), converted);
+        }
+        return converted;
+    }
+
 }
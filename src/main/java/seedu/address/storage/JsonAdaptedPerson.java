@@ -1,8 +1,10 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -88,6 +90,13 @@ class JsonAdaptedPerson {
                 .collect(Collectors.toList()));
     }
 
+    /**
+     * Returns the identification number of the person, or null if it is missing.
+     */
+    String getId() {
+        return id;
+    }
+
     /**
      * Converts this Jackson-friendly adapted person object into the model's {@code Person} object.
      *
@@ -107,18 +116,24 @@ class JsonAdaptedPerson {
      *                               if a referenced lesson class name does not exist in availableLessons.
      */
     public Person toModelType(List<Lesson> availableLessons) throws IllegalValueException {
+        Map<String, Lesson> lessonsByClassName = new HashMap<>();
+        for (Lesson lesson : availableLessons) {
+            lessonsByClassName.putIfAbsent(lesson.getClassName().toString(), lesson);
+        }
+        return toModelType(lessonsByClassName);
+    }
+
+    /**
+     * Similar to {@link #toModelType(List)}, but with the available lessons given by class name, so that each
+     * lesson is found without going through every available lesson.
+     */
+    public Person toModelType(Map<String, Lesson> lessonsByClassName) throws IllegalValueException {
         final List<Lesson> personLessons = new ArrayList<>();
         for (String classNameStr : lessons) {
             if (classNameStr == null) {
                 throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Lesson class name"));
             }
-            Lesson matched = null;
-            for (Lesson l : availableLessons) {
-                if (l.getClassName().toString().equals(classNameStr)) {
-                    matched = l;
-                    break;
-                }
-            }
+            Lesson matched = lessonsByClassName.get(classNameStr);
             if (matched == null) {
                 throw new IllegalValueException("Lesson with className '"
                         + classNameStr + "' not found in lessons list.");
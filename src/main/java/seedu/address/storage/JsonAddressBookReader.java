@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.JsonSerializableAddressBook.convertAll;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonSerializableAddressBook.Conversion;
+
+/**
+ * Reads an AddressBook saved as a {@link JsonSerializableAddressBook}, a batch of persons or lessons at a time.
+ * The file is streamed rather than read into memory, and each batch is converted to the model in parallel as soon
+ * as it is read, so that only the model and a single batch of persons or lessons in json form are held at once.
+ * Persons refer to their lessons by class name, so persons that appear before the lessons in the file are kept in
+ * json form until the lessons are read.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_MISSING_PERSONS = "Persons list is missing!";
+    public static final String MESSAGE_MISSING_ENTRY = "Persons or lessons list contains an empty entry.";
+
+    // Number of persons or lessons read before they are converted together
+    private static final int BATCH_SIZE = 1024;
+
+    private final JsonParser parser;
+    private final AddressBook addressBook = new AddressBook();
+    private final Map<String, Lesson> lessonsByClassName = new HashMap<>();
+    // Persons read before the lessons, or null once the lessons have been read
+    private List<JsonAdaptedPerson> pendingPersons = new ArrayList<>();
+    private boolean hasPersons;
+
+    private JsonAddressBookReader(JsonParser parser) {
+        this.parser = parser;
+    }
+
+    /**
+     * Returns the AddressBook saved in {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not valid json.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, FileUtil.DEFAULT_MAPPING_THRESHOLD);
+    }
+
+    /**
+     * Similar to {@link #read(Path)}, but parsed straight from a mapping of the file into memory if it is at least
+     * {@code mappingThreshold} bytes long, as by {@link FileUtil#newInputStream(Path, long)}.
+     */
+    static AddressBook read(Path filePath, long mappingThreshold) throws IOException, IllegalValueException {
+        try (InputStream in = FileUtil.newInputStream(filePath, mappingThreshold);
+             JsonParser parser = JsonUtil.createParser(in)) {
+            return new JsonAddressBookReader(parser).read();
+        }
+    }
+
+    private AddressBook read() throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected the address book to be a json object");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if (field.equals("lessons")) {
+                readLessons();
+            } else if (field.equals("persons")) {
+                readPersons();
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        if (!hasPersons) {
+            throw new IllegalValueException(MESSAGE_MISSING_PERSONS);
+        }
+        if (pendingPersons != null) {
+            addPersons(pendingPersons);
+        }
+        return addressBook;
+    }
+
+    private void readLessons() throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() != JsonToken.VALUE_NULL) {
+            requireArray();
+            List<JsonAdaptedLesson> batch = new ArrayList<>();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                batch.add(requireEntry(parser.readValueAs(JsonAdaptedLesson.class)));
+                if (batch.size() == BATCH_SIZE) {
+                    addLessons(batch);
+                    batch.clear();
+                }
+            }
+            addLessons(batch);
+        }
+
+        if (pendingPersons != null) {
+            List<JsonAdaptedPerson> persons = pendingPersons;
+            pendingPersons = null;
+            addPersons(persons);
+        }
+    }
+
+    private void readPersons() throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            throw new IllegalValueException(MESSAGE_MISSING_PERSONS);
+        }
+        requireArray();
+        hasPersons = true;
+        List<JsonAdaptedPerson> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            JsonAdaptedPerson person = requireEntry(parser.readValueAs(JsonAdaptedPerson.class));
+            if (pendingPersons != null) {
+                pendingPersons.add(person);
+                continue;
+            }
+            batch.add(person);
+            if (batch.size() == BATCH_SIZE) {
+                addPersons(batch);
+                batch.clear();
+            }
+        }
+        addPersons(batch);
+    }
+
+    /**
+     * Converts {@code lessons} in parallel, then adds them in order, so that the error reported is that of the first
+     * invalid or duplicated lesson, as if they were converted one by one.
+     */
+    private void addLessons(List<JsonAdaptedLesson> lessons) throws IllegalValueException {
+        for (Conversion<Lesson> conversion : convertAll(lessons, JsonAdaptedLesson::toModelType)) {
+            Lesson lesson = conversion.get();
+            if (addressBook.hasLesson(lesson)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_LESSON);
+            }
+            addressBook.addLesson(lesson);
+            lessonsByClassName.put(lesson.getClassName().toString(), lesson);
+        }
+    }
+
+    /**
+     * Converts {@code persons} in parallel, then adds them in order, as by {@link #addLessons(List)}.
+     */
+    private void addPersons(List<JsonAdaptedPerson> persons) throws IllegalValueException {
+        for (Conversion<Person> conversion : convertAll(persons, person -> person.toModelType(lessonsByClassName))) {
+            Person person = conversion.get();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+    }
+
+    private void requireArray() throws JsonParseException {
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, "Expected a json array");
+        }
+    }
+
+    private static <T> T requireEntry(T entry) throws IllegalValueException {
+        if (entry == null) {
+            throw new IllegalValueException(MESSAGE_MISSING_ENTRY);
+        }
+        return entry;
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -13,18 +14,42 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.AttendanceArchive;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read with a {@link JsonAddressBookReader} and written as it is converted, without holding it in
+ * memory, and is replaced atomically so that a failed save leaves the previous data intact. Large files are read
+ * from a mapping into memory rather than through a buffer.
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
+    private final long mappingThreshold;
+    private JsonAttendanceArchive attendanceArchive;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage saving to {@code filePath}, without line breaks or indentation if {@code isCompact} is true.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, FileUtil.DEFAULT_MAPPING_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage saving to {@code filePath} as by {@link #JsonAddressBookStorage(Path, boolean)}, which reads
+     * files of at least {@code mappingThreshold} bytes straight from a mapping of the file into memory.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact, long mappingThreshold) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.mappingThreshold = mappingThreshold;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +70,15 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            return Optional.of(JsonAddressBookReader.read(filePath, mappingThreshold));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +99,30 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath, isCompact);
+    }
+
+    /**
+     * Returns the attendance archive kept in the directory next to the data file, named after it.
+     * For example, the archive of {@code data/addressbook.json} is kept in {@code data/addressbook-archive}.
+     */
+    @Override
+    public AttendanceArchive getAttendanceArchive() {
+        if (attendanceArchive == null) {
+            attendanceArchive = new JsonAttendanceArchive(resolveSiblingOf(filePath, "-archive"));
+        }
+        return attendanceArchive;
+    }
+
+    /**
+     * Returns the path next to {@code filePath} named after it, without its extension, followed by {@code suffix}.
+     */
+    static Path resolveSiblingOf(Path filePath, String suffix) {
+        String fileName = filePath.getFileName().toString();
+        int extensionIndex = fileName.lastIndexOf('.');
+        String stem = extensionIndex > 0 ? fileName.substring(0, extensionIndex) : fileName;
+        return filePath.resolveSibling(stem + suffix);
     }
 
 }
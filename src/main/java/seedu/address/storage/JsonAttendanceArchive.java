@@ -0,0 +1,192 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.lesson.AttendanceArchive;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.person.IdentificationNumber;
+
+/**
+ * An attendance archive kept as JSON segment files in a directory on the hard disk.
+ * Each segment is written once and never changed. Its file name holds its sequence number and the first and last
+ * dates it covers, so that a segment is only read when dates in its range are asked for. Segments that were read
+ * are kept in memory for as long as memory allows.
+ */
+public class JsonAttendanceArchive implements AttendanceArchive {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAttendanceArchive.class);
+    private static final Pattern SEGMENT_FILE_NAME =
+            Pattern.compile("segment-(\\d+)-(\\d{4}-\\d{2}-\\d{2})-(\\d{4}-\\d{2}-\\d{2})\\.json");
+
+    private final Path directory;
+    // Segments in the order they were written, listed on first use
+    private List<Segment> segments;
+
+    public JsonAttendanceArchive(Path directory) {
+        this.directory = requireNonNull(directory);
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public Map<LocalDate, Set<IdentificationNumber>> readAttendance(ClassName className, LocalDate from,
+                                                                    LocalDate to) throws DataLoadingException {
+        requireNonNull(className);
+        requireNonNull(from);
+        requireNonNull(to);
+        Map<LocalDate, Set<IdentificationNumber>> attendance = new TreeMap<>();
+        try {
+            for (Segment segment : listSegments()) {
+                if (segment.first.isAfter(to) || segment.last.isBefore(from)) {
+                    continue;
+                }
+                AttendanceRecord record = segment.load().get(className);
+                if (record != null) {
+                    attendance.putAll(record.onDates(from, to).toMap());
+                }
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return attendance;
+    }
+
+    /**
+     * Every segment is read, as a segment's file name does not say which classes it holds.
+     */
+    @Override
+    public boolean hasAttendance(ClassName className) throws DataLoadingException {
+        requireNonNull(className);
+        try {
+            for (Segment segment : listSegments()) {
+                if (segment.load().containsKey(className)) {
+                    return true;
+                }
+            }
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+        return false;
+    }
+
+    @Override
+    public void writeSegment(Map<ClassName, AttendanceRecord> attendance) throws IOException {
+        requireNonNull(attendance);
+        LocalDate first = LocalDate.MAX;
+        LocalDate last = LocalDate.MIN;
+        for (AttendanceRecord record : attendance.values()) {
+            List<LocalDate> dates = record.getDates();
+            if (!dates.isEmpty()) {
+                first = dates.get(0).isBefore(first) ? dates.get(0) : first;
+                last = dates.get(dates.size() - 1).isAfter(last) ? dates.get(dates.size() - 1) : last;
+            }
+        }
+        if (first.isAfter(last)) {
+            return;
+        }
+
+        List<Segment> existingSegments = listSegments();
+        int sequence = existingSegments.isEmpty() ? 1 : existingSegments.get(existingSegments.size() - 1).sequence + 1;
+        Path segmentFile = directory.resolve(String.format("segment-%06d-%s-%s.json", sequence, first, last));
+        if (Files.exists(segmentFile)) {
+            throw new FileAlreadyExistsException(segmentFile.toString());
+        }
+
+        // Written in full before it appears under its own name, so a segment is never seen half written
+        Files.createDirectories(directory);
+        Path temporaryFile = Files.createTempFile(directory, "segment-", ".tmp");
+        try {
+            JsonUtil.saveJsonFile(new JsonSerializableAttendanceSegment(attendance), temporaryFile);
+            Files.move(temporaryFile, segmentFile, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporaryFile);
+        }
+        logger.info("Archived attendance from " + first + " to " + last + " in " + segmentFile);
+        existingSegments.add(new Segment(segmentFile, sequence, first, last));
+    }
+
+    private List<Segment> listSegments() throws IOException {
+        if (segments != null) {
+            return segments;
+        }
+
+        List<Segment> listedSegments = new ArrayList<>();
+        if (Files.isDirectory(directory)) {
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : (Iterable<Path>) files::iterator) {
+                    Matcher matcher = SEGMENT_FILE_NAME.matcher(file.getFileName().toString());
+                    if (matcher.matches()) {
+                        listedSegments.add(new Segment(file, Integer.parseInt(matcher.group(1)),
+                                LocalDate.parse(matcher.group(2)), LocalDate.parse(matcher.group(3))));
+                    }
+                }
+            }
+        }
+        listedSegments.sort(Comparator.comparingInt(segment -> segment.sequence));
+        segments = listedSegments;
+        return segments;
+    }
+
+    /**
+     * One segment file, and its attendance once read.
+     */
+    private static class Segment {
+        private final Path file;
+        private final int sequence;
+        private final LocalDate first;
+        private final LocalDate last;
+        private SoftReference<Map<ClassName, AttendanceRecord>> attendance = new SoftReference<>(null);
+
+        Segment(Path file, int sequence, LocalDate first, LocalDate last) {
+            this.file = file;
+            this.sequence = sequence;
+            this.first = first;
+            this.last = last;
+        }
+
+        Map<ClassName, AttendanceRecord> load() throws DataLoadingException {
+            Map<ClassName, AttendanceRecord> loaded = attendance.get();
+            if (loaded != null) {
+                return loaded;
+            }
+
+            JsonSerializableAttendanceSegment segment = JsonUtil.readJsonFile(file,
+                    JsonSerializableAttendanceSegment.class).orElseThrow(() ->
+                    new DataLoadingException(new FileNotFoundException(file.toString())));
+            try {
+                loaded = segment.toModelType();
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + file + ": " + ive.getMessage());
+                throw new DataLoadingException(ive);
+            }
+            attendance = new SoftReference<>(loaded);
+            return loaded;
+        }
+    }
+}
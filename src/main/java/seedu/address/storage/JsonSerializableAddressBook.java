@@ -1,11 +1,16 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -18,6 +23,8 @@ import seedu.address.model.person.Person;
  * An Immutable AddressBook that is serializable to JSON format.
  */
 @JsonRootName(value = "Rollcall")
+// Lessons are written first, so that persons can be converted as soon as they are read
+@JsonPropertyOrder({"lessons", "persons"})
 public class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
@@ -48,26 +55,37 @@ public class JsonSerializableAddressBook {
         lessons.addAll(source.getLessonList().stream().map(JsonAdaptedLesson::new).collect(Collectors.toList()));
     }
 
+    List<JsonAdaptedPerson> getPersons() {
+        return persons;
+    }
+
+    List<JsonAdaptedLesson> getLessons() {
+        return lessons;
+    }
+
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * Lessons, and then persons, are converted in parallel, and are added in the order they are listed. If any are
+     * invalid or duplicated, the error reported is that of the first in the list, as if they were converted one by one.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
         AddressBook addressBook = new AddressBook();
         // First add lessons so that persons can reference existing Lesson objects by className.
-        for (JsonAdaptedLesson jsonAdaptedLesson : lessons) {
-            Lesson lesson = jsonAdaptedLesson.toModelType();
+        Map<String, Lesson> lessonsByClassName = new HashMap<>();
+        for (Conversion<Lesson> conversion : convertAll(lessons, JsonAdaptedLesson::toModelType)) {
+            Lesson lesson = conversion.get();
             if (addressBook.hasLesson(lesson)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON);
             }
             addressBook.addLesson(lesson);
+            lessonsByClassName.put(lesson.getClassName().toString(), lesson);
         }
 
         // Now add persons, resolving their lesson references against the lessons present in the addressBook.
-        List<Lesson> addedLessons = addressBook.getLessonList();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType(addedLessons);
+        for (Conversion<Person> conversion : convertAll(persons, person -> person.toModelType(lessonsByClassName))) {
+            Person person = conversion.get();
             if (addressBook.hasPerson(person)) {
                 throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
             }
@@ -76,4 +94,51 @@ public class JsonSerializableAddressBook {
         return addressBook;
     }
 
+    /**
+     * Converts every one of {@code adapted} with {@code converter} in parallel on the common fork-join pool, and
+     * returns the conversions in the same order.
+     */
+    static <T, R> List<Conversion<R>> convertAll(List<T> adapted, Converter<T, R> converter) {
+        List<Conversion<R>> conversions = new ArrayList<>(Collections.nCopies(adapted.size(), null));
+        IntStream.range(0, adapted.size()).parallel().forEach(i -> {
+            Conversion<R> conversion;
+            try {
+                conversion = new Conversion<>(converter.convert(adapted.get(i)), null);
+            } catch (IllegalValueException ive) {
+                conversion = new Conversion<>(null, ive);
+            }
+            conversions.set(i, conversion);
+        });
+        return conversions;
+    }
+
+    /**
+     * Converts an adapted person or lesson into the model's object.
+     */
+    @FunctionalInterface
+    interface Converter<T, R> {
+        R convert(T adapted) throws IllegalValueException;
+    }
+
+    /**
+     * The result of converting an adapted person or lesson, which is either the model's object or the error that
+     * stopped it from being converted.
+     */
+    static class Conversion<R> {
+        private final R converted;
+        private final IllegalValueException error;
+
+        private Conversion(R converted, IllegalValueException error) {
+            this.converted = converted;
+            this.error = error;
+        }
+
+        R get() throws IllegalValueException {
+            if (error != null) {
+                throw error;
+            }
+            return converted;
+        }
+    }
+
 }
@@ -0,0 +1,57 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonRootName;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
+
+/**
+ * An immutable segment of archived attendance that is serializable to JSON format.
+ */
+@JsonRootName(value = "attendanceSegment")
+class JsonSerializableAttendanceSegment {
+
+    public static final String MESSAGE_DUPLICATE_LESSON = "Archived lessons list contains duplicate lesson(s).";
+
+    private final List<JsonAdaptedArchivedLesson> lessons = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableAttendanceSegment} with the given archived lessons.
+     */
+    @JsonCreator
+    public JsonSerializableAttendanceSegment(@JsonProperty("lessons") List<JsonAdaptedArchivedLesson> lessons) {
+        if (lessons != null) {
+            this.lessons.addAll(lessons);
+        }
+    }
+
+    /**
+     * Converts {@code attendance}, the archived attendance of each class, into this class for Jackson use.
+     */
+    public JsonSerializableAttendanceSegment(Map<ClassName, AttendanceRecord> attendance) {
+        attendance.forEach((className, record) -> lessons.add(new JsonAdaptedArchivedLesson(className, record)));
+    }
+
+    /**
+     * Converts this segment into the archived attendance of each class.
+     *
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public Map<ClassName, AttendanceRecord> toModelType() throws IllegalValueException {
+        Map<ClassName, AttendanceRecord> attendance = new HashMap<>();
+        for (JsonAdaptedArchivedLesson lesson : lessons) {
+            if (attendance.put(lesson.getClassName(), lesson.toModelType()) != null) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_LESSON);
+            }
+        }
+        return attendance;
+    }
+}
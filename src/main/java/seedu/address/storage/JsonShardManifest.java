@@ -0,0 +1,79 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Jackson-friendly version of the manifest of a {@link ShardedAddressBookStorage}, which lists the shard files that
+ * hold the address book.
+ */
+class JsonShardManifest {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Shard manifest's %s field is missing!";
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Shard manifest is in version %1$d of the sharded data format, which is newer than supported.";
+
+    private final int version;
+    private final String persons;
+    private final List<String> lessons = new ArrayList<>();
+    private final long nextShardNumber;
+
+    /**
+     * Constructs a {@code JsonShardManifest} with the given details.
+     */
+    @JsonCreator
+    public JsonShardManifest(@JsonProperty("version") int version, @JsonProperty("persons") String persons,
+                             @JsonProperty("lessons") List<String> lessons,
+                             @JsonProperty("nextShardNumber") long nextShardNumber) {
+        this.version = version;
+        this.persons = persons;
+        if (lessons != null) {
+            this.lessons.addAll(lessons);
+        }
+        this.nextShardNumber = nextShardNumber;
+    }
+
+    /**
+     * Returns the name of the file holding the persons.
+     */
+    String getPersons() {
+        return persons;
+    }
+
+    /**
+     * Returns the names of the files holding each lesson, in the order of the lesson list.
+     */
+    List<String> getLessons() {
+        return lessons;
+    }
+
+    /**
+     * Returns the number from which new shard files are numbered, which is above that of every listed file.
+     */
+    long getNextShardNumber() {
+        return nextShardNumber;
+    }
+
+    /**
+     * Checks that this manifest can be read by this version of the app.
+     *
+     * @throws IllegalValueException if the manifest is newer than supported or is missing a field.
+     */
+    void checkReadable() throws IllegalValueException {
+        if (version > ShardedAddressBookStorage.FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (persons == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "persons"));
+        }
+        if (lessons.contains(null)) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "lessons"));
+        }
+    }
+
+}
@@ -0,0 +1,302 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.lesson.AttendanceArchive;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a directory of json shards on the hard disk: one file holding every
+ * person, one file for each lesson, and a manifest listing the files that make up the address book.
+ * Saving only rewrites the shards whose data changed since the last save, so marking attendance in one lesson
+ * rewrites that lesson's file and the manifest rather than every person and lesson.
+ * <p>
+ * Shards are never overwritten. A changed shard is written to a new file, and the manifest is then replaced
+ * atomically to list it, so a crash leaves either the old manifest and every shard it lists, or the new ones.
+ * Files no longer listed in the manifest are deleted once its replacement is on the disk.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String DIRECTORY_EXTENSION = ".shards";
+    public static final String MANIFEST_FILE_NAME = "manifest.json";
+    public static final String MESSAGE_MISSING_SHARD = "Shard %1$s listed in the manifest of %2$s is missing.";
+    public static final String MESSAGE_INVALID_SHARD_NAME = "Shard manifest lists %1$s, which is not a shard file.";
+
+    static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+    private static final Pattern SHARD_FILE_NAME = Pattern.compile("(?:persons|lesson-[A-Za-z0-9]+)-(\\d+)\\.json");
+
+    private final Path directory;
+    private JsonAttendanceArchive attendanceArchive;
+
+    // The persons and lessons last read or saved, and the shards holding them, or null if they are not known
+    private List<Person> savedPersons;
+    private Map<String, Lesson> savedLessons;
+    private Map<String, String> savedLessonShards;
+    private JsonShardManifest savedManifest;
+
+    /**
+     * Creates a storage keeping its shards in {@code directory}.
+     */
+    public ShardedAddressBookStorage(Path directory) {
+        requireNonNull(directory);
+        this.directory = directory;
+    }
+
+    /**
+     * Returns the directory holding the shards.
+     */
+    @Override
+    public Path getAddressBookFilePath() {
+        return directory;
+    }
+
+    /**
+     * Returns the path of the manifest.
+     */
+    public Path getManifestFilePath() {
+        return directory.resolve(MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(directory);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * Returns {@code Optional.empty()} if the directory has no manifest.
+     *
+     * @param directory location of the shards. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path directory) throws DataLoadingException {
+        requireNonNull(directory);
+
+        Optional<JsonShardManifest> manifest = JsonUtil.readJsonFile(directory.resolve(MANIFEST_FILE_NAME),
+                JsonShardManifest.class);
+        if (manifest.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            manifest.get().checkReadable();
+            List<JsonAdaptedPerson> persons = readShard(directory, manifest.get().getPersons(),
+                    JsonSerializableAddressBook.class).getPersons();
+            List<JsonAdaptedLesson> lessons = new ArrayList<>();
+            for (String lessonShard : manifest.get().getLessons()) {
+                lessons.add(readShard(directory, lessonShard, JsonAdaptedLesson.class));
+            }
+            AddressBook addressBook = new JsonSerializableAddressBook(persons, lessons).toModelType();
+            if (directory.equals(this.directory)) {
+                remember(addressBook, manifest.get());
+            }
+            return Optional.of(addressBook);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + directory + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static <T> T readShard(Path directory, String shard, Class<T> shardClass)
+            throws DataLoadingException, IllegalValueException {
+        if (!SHARD_FILE_NAME.matcher(shard).matches()) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_SHARD_NAME, shard));
+        }
+        Optional<T> shardData = JsonUtil.readJsonFile(directory.resolve(shard), shardClass);
+        if (shardData.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_SHARD, shard, directory));
+        }
+        return shardData.get();
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, directory);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Only the shards of the directory of this storage are tracked, and only once they were read or saved by this
+     * storage. Otherwise, every shard is written.
+     *
+     * @param directory location of the shards. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path directory) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(directory);
+        boolean isTracked = directory.equals(this.directory) && savedManifest != null;
+
+        Files.createDirectories(directory);
+        long shardNumber = isTracked ? savedManifest.getNextShardNumber() : nextFreeShardNumber(directory);
+
+        String personsShard;
+        if (isTracked && isSavedAlike(savedPersons, addressBook.getPersonList())) {
+            personsShard = savedManifest.getPersons();
+        } else {
+            personsShard = "persons-" + shardNumber++ + ".json";
+            List<JsonAdaptedPerson> persons = addressBook.getPersonList().stream()
+                    .map(JsonAdaptedPerson::new).collect(Collectors.toList());
+            JsonUtil.saveJsonFile(new JsonSerializableAddressBook(persons, new ArrayList<>()),
+                    directory.resolve(personsShard), true);
+        }
+
+        List<String> lessonShards = new ArrayList<>();
+        for (Lesson lesson : addressBook.getLessonList()) {
+            String className = lesson.getClassName().toString();
+            Lesson savedLesson = isTracked ? savedLessons.get(className) : null;
+            if (savedLesson != null && (savedLesson == lesson || savedLesson.equals(lesson))) {
+                lessonShards.add(savedLessonShards.get(className));
+                continue;
+            }
+            String lessonShard = "lesson-" + className + "-" + shardNumber++ + ".json";
+            JsonUtil.saveJsonFile(new JsonAdaptedLesson(lesson), directory.resolve(lessonShard), true);
+            lessonShards.add(lessonShard);
+        }
+
+        JsonShardManifest manifest = new JsonShardManifest(FORMAT_VERSION, personsShard, lessonShards, shardNumber);
+        boolean isUnchanged = isTracked && personsShard.equals(savedManifest.getPersons())
+                && lessonShards.equals(savedManifest.getLessons());
+        if (!isUnchanged) {
+            // The new shards are on the disk before the manifest listing them replaces the old one, and the old
+            // shards are only deleted once that replacement is on the disk too, as the old manifest lists them
+            JsonUtil.saveJsonFile(manifest, directory.resolve(MANIFEST_FILE_NAME));
+            deleteUnlistedShards(directory, manifest);
+        }
+        if (directory.equals(this.directory)) {
+            remember(addressBook, manifest);
+        }
+    }
+
+    /**
+     * Remembers {@code addressBook} as the data held by the shards {@code manifest} lists, which lists the shards of
+     * the lessons in the order of the lesson list.
+     */
+    private void remember(ReadOnlyAddressBook addressBook, JsonShardManifest manifest) {
+        savedPersons = new ArrayList<>(addressBook.getPersonList());
+        savedLessons = new HashMap<>();
+        savedLessonShards = new HashMap<>();
+        List<Lesson> lessons = addressBook.getLessonList();
+        for (int i = 0; i < lessons.size(); i++) {
+            String className = lessons.get(i).getClassName().toString();
+            savedLessons.put(className, lessons.get(i));
+            savedLessonShards.put(className, manifest.getLessons().get(i));
+        }
+        savedManifest = manifest;
+    }
+
+    /**
+     * Returns true if {@code current} would be saved exactly as {@code saved} was.
+     */
+    private static boolean isSavedAlike(List<Person> saved, List<Person> current) {
+        if (saved.size() != current.size()) {
+            return false;
+        }
+        for (int i = 0; i < saved.size(); i++) {
+            if (!isSavedAlike(saved.get(i), current.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code current} would be saved exactly as {@code saved} was.
+     * Persons are saved with the class names of their lessons, so a person whose lessons were only replaced by
+     * updated versions of the same lessons, as when attendance is marked, is saved alike.
+     */
+    private static boolean isSavedAlike(Person saved, Person current) {
+        return saved == current
+                || saved.getId().equals(current.getId())
+                && saved.getName().equals(current.getName())
+                && saved.getRole().equals(current.getRole())
+                && saved.getPhone().equals(current.getPhone())
+                && saved.getEmail().equals(current.getEmail())
+                && saved.getAddress().equals(current.getAddress())
+                && saved.getTags().equals(current.getTags())
+                && classNamesOf(saved).equals(classNamesOf(current));
+    }
+
+    private static Set<String> classNamesOf(Person person) {
+        Set<String> classNames = new HashSet<>();
+        person.getLessons().forEach(lesson -> classNames.add(lesson.getClassName().toString()));
+        return classNames;
+    }
+
+    /**
+     * Returns a number above that of every shard file in {@code directory}, so that new shards never overwrite
+     * shards that an existing manifest may list.
+     */
+    private static long nextFreeShardNumber(Path directory) throws IOException {
+        long next = 0;
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Matcher matcher = SHARD_FILE_NAME.matcher(file.getFileName().toString());
+                if (matcher.matches()) {
+                    next = Math.max(next, Long.parseLong(matcher.group(1)) + 1);
+                }
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Deletes the shard files in {@code directory} that {@code manifest} does not list, such as the old versions of
+     * rewritten shards and any shards written by a save that did not finish.
+     */
+    private static void deleteUnlistedShards(Path directory, JsonShardManifest manifest) {
+        Set<String> listed = new HashSet<>(manifest.getLessons());
+        listed.add(manifest.getPersons());
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                String name = file.getFileName().toString();
+                if (SHARD_FILE_NAME.matcher(name).matches() && !listed.contains(name)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        } catch (IOException ioe) {
+            // The data is already saved, and the files are deleted by the next save instead
+            logger.warning("Could not delete old shards in " + directory + ": " + ioe);
+        }
+    }
+
+    /**
+     * Returns the attendance archive kept in the directory next to the shards, named after them.
+     * For example, the archive of {@code data/addressbook.shards} is kept in {@code data/addressbook-archive}.
+     */
+    @Override
+    public AttendanceArchive getAttendanceArchive() {
+        if (attendanceArchive == null) {
+            attendanceArchive = new JsonAttendanceArchive(
+                    JsonAddressBookStorage.resolveSiblingOf(directory, "-archive"));
+        }
+        return attendanceArchive;
+    }
+
+}
@@ -10,6 +10,7 @@ import seedu.address.commons.exceptions.DataLoadingException;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.lesson.AttendanceArchive;
 
 /**
  * Manages storage of AddressBook data in local storage.
@@ -75,4 +76,9 @@ public class StorageManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public AttendanceArchive getAttendanceArchive() {
+        return addressBookStorage.getAttendanceArchive();
+    }
+
 }
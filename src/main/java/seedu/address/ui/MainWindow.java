@@ -3,6 +3,8 @@ package seedu.address.ui;
 import java.io.File;
 import java.util.logging.Logger;
 
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -12,6 +14,7 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.StackPane;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
+import javafx.util.Duration;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
@@ -28,6 +31,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 public class MainWindow extends UiPart<Stage> {
 
     private static final String FXML = "MainWindow.fxml";
+    private static final Duration SAVE_CHECK_INTERVAL = Duration.millis(250);
 
     private CommandResult.DisplayType currentDisplayType = CommandResult.DisplayType.DEFAULT;
 
@@ -119,7 +123,8 @@ public class MainWindow extends UiPart<Stage> {
      * Fills up all the placeholders of this window.
      */
     void fillInnerParts() {
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic.getAddressBook().getLessonList());
+        personListPanel = new PersonListPanel(logic.getFilteredPersonList(), logic.getAddressBook().getLessonList(),
+                logic::isPresentThisWeek);
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         LessonListPanel lessonListPanel = new LessonListPanel(logic.getFilteredLessonList());
@@ -133,6 +138,26 @@ public class MainWindow extends UiPart<Stage> {
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
+
+        startSaveCheckTimer();
+    }
+
+    /**
+     * Periodically saves marks that have waited too long in a roll call, even when no further ID is entered, and
+     * shows any background save that failed since the last command.
+     */
+    private void startSaveCheckTimer() {
+        Timeline saveCheckTimer = new Timeline(new KeyFrame(SAVE_CHECK_INTERVAL, event -> {
+            try {
+                logic.flushRollCallIfDue();
+                logic.checkSaveResult();
+            } catch (CommandException e) {
+                logger.info("An error occurred while saving: " + e.getMessage());
+                resultDisplay.setFeedbackToUser(e.getMessage());
+            }
+        }));
+        saveCheckTimer.setCycleCount(Timeline.INDEFINITE);
+        saveCheckTimer.play();
     }
 
     /**
@@ -1,18 +1,13 @@
 package seedu.address.ui;
 
-import java.time.LocalDate;
 import java.util.Comparator;
-import java.util.Map;
-import java.util.Set;
 
-import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.lesson.Lesson;
-import seedu.address.model.person.IdentificationNumber;
 import seedu.address.model.person.Person;
 
 /**
@@ -59,9 +54,10 @@ public class PersonCard extends UiPart<Region> {
     }
 
     /**
-     * Creates a {@code PersonCode} with the given {@code Person}, index, and lesson list for attendance checking.
+     * Creates a {@code PersonCode} with the given {@code Person}, index, and presence lookup for attendance
+     * colouring.
      */
-    public PersonCard(Person person, int displayedIndex, ObservableList<Lesson> allLessons) {
+    public PersonCard(Person person, int displayedIndex, PersonListPanel.PresenceChecker presenceChecker) {
         super(FXML);
         this.person = person;
         index.setText(displayedIndex + ". ");
@@ -77,7 +73,8 @@ public class PersonCard extends UiPart<Region> {
             Label lessonLabel = new Label(lesson.getClassName().fullClassName);
 
             // Check if student is present for this lesson this week (resets every Monday)
-            if (allLessons != null && isStudentPresentForLesson(lesson, person.getId(), allLessons)) {
+            if (presenceChecker != null
+                    && presenceChecker.isPresentThisWeek(lesson.getClassName(), person.getId())) {
                 lessonLabel.getStyleClass().add("lesson_label_present");
             } else {
                 lessonLabel.getStyleClass().add("lesson_label");
@@ -93,32 +90,4 @@ public class PersonCard extends UiPart<Region> {
                 .sorted(Comparator.comparing(tag -> tag.tagName))
                 .forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
     }
-
-    /**
-     * Checks if the student is present for the given lesson this week.
-     * Attendance resets every Monday at 00:00.
-     */
-    private boolean isStudentPresentForLesson(Lesson studentLesson, IdentificationNumber studentId,
-                                              ObservableList<Lesson> allLessons) {
-        // Find the corresponding lesson in the full lesson list to get attendance data
-        for (Lesson fullLesson : allLessons) {
-            if (fullLesson.getClassName().equals(studentLesson.getClassName())) {
-                Map<LocalDate, Set<IdentificationNumber>> attendance = fullLesson.getAttendance();
-
-                // Get the start of the current week (Monday)
-                LocalDate today = LocalDate.now();
-                LocalDate startOfWeek = today.with(java.time.DayOfWeek.MONDAY);
-
-                // Check if student was present on any day from Monday to today
-                for (LocalDate date = startOfWeek; !date.isAfter(today); date = date.plusDays(1)) {
-                    Set<IdentificationNumber> presentStudents = attendance.get(date);
-                    if (presentStudents != null && presentStudents.contains(studentId)) {
-                        return true; // Student was present at least once this week
-                    }
-                }
-                return false;
-            }
-        }
-        return false;
-    }
 }
@@ -8,7 +8,9 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.lesson.ClassName;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.IdentificationNumber;
 import seedu.address.model.person.Person;
 
 /**
@@ -21,21 +23,23 @@ public class PersonListPanel extends UiPart<Region> {
     @FXML
     private ListView<Person> personListView;
 
-    private ObservableList<Lesson> allLessons;
+    private PresenceChecker presenceChecker;
 
     /**
      * Creates a {@code PersonListPanel} with the given {@code ObservableList}.
      */
     public PersonListPanel(ObservableList<Person> personList) {
-        this(personList, null);
+        this(personList, null, null);
     }
 
     /**
-     * Creates a {@code PersonListPanel} with the given {@code ObservableList} and lesson list for attendance checking.
+     * Creates a {@code PersonListPanel} with the given {@code ObservableList}, the lesson list to watch for
+     * attendance changes and the {@code PresenceChecker} used for attendance checking.
      */
-    public PersonListPanel(ObservableList<Person> personList, ObservableList<Lesson> allLessons) {
+    public PersonListPanel(ObservableList<Person> personList, ObservableList<Lesson> allLessons,
+                           PresenceChecker presenceChecker) {
         super(FXML);
-        this.allLessons = allLessons;
+        this.presenceChecker = presenceChecker;
         personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
 
@@ -60,9 +64,23 @@ public class PersonListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new PersonCard(person, getIndex() + 1, allLessons).getRoot());
+                setGraphic(new PersonCard(person, getIndex() + 1, presenceChecker).getRoot());
             }
         }
     }
 
+    /**
+     * Represents a function that can tell whether a student attended a class this week.
+     */
+    @FunctionalInterface
+    public interface PresenceChecker {
+        /**
+         * Returns true if the student with {@code studentId} was present for the class named {@code className}
+         * this week.
+         *
+         * @see seedu.address.logic.Logic#isPresentThisWeek(ClassName, IdentificationNumber)
+         */
+        boolean isPresentThisWeek(ClassName className, IdentificationNumber studentId);
+    }
+
 }
@@ -1,13 +1,32 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +39,91 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeToFileAtomically_success() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFileAtomically(file, out -> out.write("first".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("first", FileUtil.readFromFile(file));
+
+        FileUtil.writeToFileAtomically(file, out -> out.write("second".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("second", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(file), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void writeToFileAtomically_success_folderSyncedAfterRename() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        List<String> contentsWhenSynced = new ArrayList<>();
+        FileUtil.FolderSyncer originalSyncer = FileUtil.folderSyncer;
+        FileUtil.folderSyncer = folder -> {
+            assertEquals(testFolder.toAbsolutePath(), folder);
+            contentsWhenSynced.add(FileUtil.readFromFile(file));
+            originalSyncer.sync(folder);
+        };
+        try {
+            FileUtil.writeToFileAtomically(file, out -> out.write("content".getBytes(StandardCharsets.UTF_8)));
+        } finally {
+            FileUtil.folderSyncer = originalSyncer;
+        }
+        assertEquals(List.of("content"), contentsWhenSynced);
+    }
+
+    @Test
+    public void writeToFileAtomically_writerFails_fileUnchanged() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "original");
+
+        assertThrows(IOException.class, "failed", () -> FileUtil.writeToFileAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("failed");
+        }));
+        assertEquals("original", FileUtil.readFromFile(file));
+        try (Stream<Path> files = Files.list(testFolder)) {
+            assertEquals(List.of(file), files.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void writeToFileAtomically_missingFolder_throwsNoSuchFileException() {
+        Path file = testFolder.resolve("missing").resolve("file.txt");
+        assertThrows(NoSuchFileException.class, file.toString(), () ->
+                FileUtil.writeToFileAtomically(file, out -> out.write(1)));
+    }
+
+    @Test
+    public void readToBuffer_belowThreshold_readOntoHeap() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+
+        ByteBuffer buffer = FileUtil.readToBuffer(file, Long.MAX_VALUE);
+        assertFalse(buffer.isDirect());
+        assertEquals("content", StandardCharsets.UTF_8.decode(buffer).toString());
+        try (InputStream in = FileUtil.newInputStream(file, Long.MAX_VALUE)) {
+            assertEquals("content", new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    // Windows does not allow the temporary folder to be deleted while the file is still mapped
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void readToBuffer_atThreshold_mapped() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "content");
+
+        ByteBuffer buffer = FileUtil.readToBuffer(file, "content".length());
+        assertTrue(buffer.isDirect());
+        assertEquals("content", StandardCharsets.UTF_8.decode(buffer).toString());
+        try (InputStream in = FileUtil.newInputStream(file, 0)) {
+            assertEquals('c', in.read());
+            byte[] rest = new byte[10];
+            assertEquals(6, in.read(rest, 0, rest.length));
+            assertEquals("ontent", new String(rest, 0, 6, StandardCharsets.UTF_8));
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(rest, 0, rest.length));
+        }
+    }
+
 }
@@ -27,6 +27,20 @@ public class JsonUtilTest {
         assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), SerializableTestClass.JSON_STRING_REPRESENTATION);
     }
 
+    @Test
+    public void serializeObjectToJsonFile_compact_singleLine() throws IOException {
+        SerializableTestClass serializableTestClass = new SerializableTestClass();
+        serializableTestClass.setTestValues();
+
+        JsonUtil.serializeObjectToJsonFile(SERIALIZATION_FILE, serializableTestClass, true);
+
+        assertEquals(FileUtil.readFromFile(SERIALIZATION_FILE), JsonUtil.toCompactJsonString(serializableTestClass));
+        SerializableTestClass readBack = JsonUtil.deserializeObjectFromJsonFile(SERIALIZATION_FILE,
+                SerializableTestClass.class);
+        assertEquals(serializableTestClass.getName(), readBack.getName());
+        assertEquals(serializableTestClass.getMapOfIntegerToString(), readBack.getMapOfIntegerToString());
+    }
+
     @Test
     public void deserializeObjectFromJsonFile_noExceptionThrown() throws IOException {
         FileUtil.writeToFile(SERIALIZATION_FILE, SerializableTestClass.JSON_STRING_REPRESENTATION);
@@ -0,0 +1,158 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class AddressBookSaverTest {
+
+    private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final List<ReadOnlyAddressBook> saved = new ArrayList<>();
+    private final List<Runnable> queuedSaves = new ArrayList<>();
+    private IOException nextFailure;
+    private StorageManager storage;
+    private Model model;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        if (nextFailure != null) {
+                            IOException failure = nextFailure;
+                            nextFailure = null;
+                            throw failure;
+                        }
+                        // copied so that the saved data can be compared as an address book
+                        saved.add(new AddressBook(addressBook));
+                    }
+                };
+        storage = new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        model = new ModelManager();
+    }
+
+    @Test
+    public void requestSave_unchangedModel_savesOnce() {
+        AddressBookSaver saver = new AddressBookSaver(storage, Runnable::run);
+        model.addPerson(ALICE);
+
+        saver.requestSave(model);
+        saver.requestSave(model);
+        assertEquals(1, saved.size());
+
+        model.addPerson(BENSON);
+        saver.requestSave(model);
+        assertEquals(2, saved.size());
+    }
+
+    @Test
+    public void requestSave_savedVersionGiven_savesOnlyChanges() {
+        model.addPerson(ALICE);
+        AddressBookSaver saver = new AddressBookSaver(storage, Runnable::run, model.getAddressBookVersion());
+
+        saver.requestSave(model);
+        assertTrue(saved.isEmpty());
+
+        model.addPerson(BENSON);
+        saver.requestSave(model);
+        assertEquals(List.of(new AddressBook(model.getAddressBook())), saved);
+    }
+
+    @Test
+    public void requestSave_burstWhileQueued_writesLatestOnce() {
+        AddressBookSaver saver = new AddressBookSaver(storage, queuedSaves::add);
+
+        model.addPerson(ALICE);
+        saver.requestSave(model);
+        model.addPerson(BENSON);
+        saver.requestSave(model);
+        model.addPerson(AMY);
+        saver.requestSave(model);
+        assertEquals(1, queuedSaves.size());
+
+        queuedSaves.forEach(Runnable::run);
+        assertEquals(List.of(new AddressBook(model.getAddressBook())), saved);
+    }
+
+    @Test
+    public void requestSave_snapshotNotChangedByLaterEdits() {
+        AddressBookSaver saver = new AddressBookSaver(storage, queuedSaves::add);
+        model.addPerson(ALICE);
+        saver.requestSave(model);
+        AddressBook expected = new AddressBook(model.getAddressBook());
+
+        model.addPerson(BENSON);
+        queuedSaves.forEach(Runnable::run);
+        assertEquals(List.of(expected), saved);
+    }
+
+    @Test
+    public void requestSave_saveFails_reportedOnceAndRetried() {
+        AddressBookSaver saver = new AddressBookSaver(storage, Runnable::run);
+        nextFailure = DUMMY_IO_EXCEPTION;
+        model.addPerson(ALICE);
+
+        saver.requestSave(model);
+        assertTrue(saved.isEmpty());
+        assertSame(DUMMY_IO_EXCEPTION, saver.takeUnreportedFailure());
+        assertNull(saver.takeUnreportedFailure());
+
+        // the unchanged data is saved again, as the last save failed
+        saver.requestSave(model);
+        assertEquals(1, saved.size());
+        assertNull(saver.takeUnreportedFailure());
+    }
+
+    @Test
+    public void flush_pendingSave_writesBeforeReturning() throws Exception {
+        AddressBookSaver saver = new AddressBookSaver(storage, queuedSaves::add);
+        model.addPerson(ALICE);
+        saver.requestSave(model);
+        model.addPerson(BENSON);
+
+        saver.flush(model);
+        assertEquals(List.of(new AddressBook(model.getAddressBook())), saved);
+
+        // the queued save has nothing left to write
+        queuedSaves.forEach(Runnable::run);
+        assertEquals(1, saved.size());
+    }
+
+    @Test
+    public void flush_saveFails_throwsIoException() {
+        AddressBookSaver saver = new AddressBookSaver(storage, queuedSaves::add);
+        nextFailure = DUMMY_IO_EXCEPTION;
+        model.addPerson(ALICE);
+
+        assertThrows(IOException.class, () -> saver.flush(model));
+        assertNull(saver.takeUnreportedFailure());
+    }
+}
@@ -1,20 +1,29 @@
 package seedu.address.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.CLASS_DESC_MATH;
 import static seedu.address.logic.commands.CommandTestUtil.EMAIL_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.ROLE_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_MATH;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.getTypicalModelManager;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -27,13 +36,19 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.ConfirmableCommand;
+import seedu.address.logic.commands.EnrolCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.RollCallCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.person.IdentificationNumber;
 import seedu.address.model.person.Person;
 import seedu.address.model.util.IdentificationNumberGenerator;
 import seedu.address.storage.JsonAddressBookStorage;
@@ -62,7 +77,7 @@ public class LogicManagerTest {
         for (Person person : people) {
             logger.info("Default: " + person);
         }
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Clock.systemDefaultZone(), Runnable::run);
         IdentificationNumberGenerator.init(new ArrayList<>());
     }
 
@@ -159,6 +174,80 @@ public class LogicManagerTest {
                         -> logic.execute("deletec"));
     }
 
+    @Test
+    public void execute_rollCall_savesOncePerBatch() throws Exception {
+        ClassName className = new ClassName(VALID_CLASS_MATH);
+        Model rollCallModel = getTypicalModelManager();
+        for (Person student : new Person[] {AMY, ALICE, BENSON}) {
+            new EnrolCommand(student.getId(), className).execute(rollCallModel);
+        }
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setRollCallBatchSize(2);
+        rollCallModel.setUserPrefs(userPrefs);
+
+        int[] saveCount = {0};
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("rollcall.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount[0]++;
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        logic = new LogicManager(rollCallModel, new StorageManager(addressBookStorage,
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))),
+                Clock.systemDefaultZone(), Runnable::run);
+
+        logic.execute(RollCallCommand.COMMAND_WORD + CLASS_DESC_MATH);
+        int savesBeforeScans = saveCount[0];
+        logic.execute(AMY.getId().getValue());
+        assertEquals(savesBeforeScans, saveCount[0]);
+        logic.execute(ALICE.getId().getValue());
+        assertEquals(savesBeforeScans + 1, saveCount[0]);
+        logic.execute(BENSON.getId().getValue());
+
+        CommandResult result = logic.execute(RollCallCommand.END_WORD);
+        assertEquals(savesBeforeScans + 2, saveCount[0]);
+        assertTrue(result.getFeedbackToUser().startsWith(
+                "Roll call for class A1a ended: 3 students marked present in 2 group commits"));
+        assertEquals(Set.of(AMY.getId(), ALICE.getId(), BENSON.getId()), rollCallModel.findLessonByClassName(
+                className).get().getAttendanceRecord().getPresentStudents(LocalDate.now()));
+
+        // inputs are commands again once the roll call has ended
+        assertEquals(ListCommand.MESSAGE_SUCCESS, logic.execute(ListCommand.COMMAND_WORD).getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_commandsDuringRollCall_hintOrExit() throws Exception {
+        ClassName className = new ClassName(VALID_CLASS_MATH);
+        Model rollCallModel = getTypicalModelManager();
+        new EnrolCommand(AMY.getId(), className).execute(rollCallModel);
+        logic = new LogicManager(rollCallModel, new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("rollcall.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"))),
+                Clock.systemDefaultZone(), Runnable::run);
+
+        logic.execute(RollCallCommand.COMMAND_WORD + CLASS_DESC_MATH);
+        logic.execute(AMY.getId().getValue());
+
+        // inputs other than student IDs explain how to leave the roll call
+        assertThrows(ParseException.class, String.format(RollCallSession.MESSAGE_NOT_AN_ID,
+                IdentificationNumber.MESSAGE_CONSTRAINTS), () -> logic.execute(HelpCommand.COMMAND_WORD));
+
+        // exiting ends the roll call, saving its pending marks
+        CommandResult result = logic.execute(ExitCommand.COMMAND_WORD);
+        assertTrue(result.isExit());
+        assertTrue(result.getFeedbackToUser().startsWith(
+                "Roll call for class A1a ended: 1 students marked present in 1 group commits"));
+        assertTrue(result.getFeedbackToUser().endsWith(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT));
+        assertEquals(Set.of(AMY.getId()), rollCallModel.findLessonByClassName(className).get()
+                .getAttendanceRecord().getPresentStudents(LocalDate.now()));
+        assertEquals(Set.of(AMY.getId()), new JsonAddressBookStorage(temporaryFolder.resolve("rollcall.json"))
+                .readAddressBook().get().getLessonList().stream()
+                .filter(lesson -> lesson.getClassName().equals(className)).findFirst().get()
+                .getAttendanceRecord().getPresentStudents(LocalDate.now()));
+    }
+
     /**
      * Test stub for ConfirmableCommand coverage
      */
@@ -268,7 +357,7 @@ public class LogicManagerTest {
                 new JsonUserPrefsStorage(temporaryFolder.resolve("ExceptionUserPrefs.json"));
         StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        logic = new LogicManager(model, storage);
+        logic = new LogicManager(model, storage, Clock.systemDefaultZone(), Runnable::run);
 
 
         ObservableList<Person> people = model.getAddressBook().getPersonList();
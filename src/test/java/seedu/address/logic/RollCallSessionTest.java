@@ -0,0 +1,132 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_MATH;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.getTypicalModelManager;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.EnrolCommand;
+import seedu.address.logic.commands.MarkCommand;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.Person;
+
+public class RollCallSessionTest {
+
+    private static final ClassName MATH = new ClassName(VALID_CLASS_MATH);
+
+    private final MutableClock clock = new MutableClock();
+    private Model model;
+
+    @BeforeEach
+    public void setUp() throws CommandException {
+        model = getTypicalModelManager();
+        for (Person student : new Person[] {AMY, ALICE, BENSON}) {
+            new EnrolCommand(student.getId(), MATH).execute(model);
+        }
+    }
+
+    @Test
+    public void scan_invalidInput_throwsException() {
+        RollCallSession session = new RollCallSession(MATH, 25, 1000, clock);
+
+        assertThrows(ParseException.class, () -> session.scan("not an id", model));
+        assertThrows(CommandException.class, String.format(MarkCommand.MESSAGE_PERSON_NOT_FOUND, "S9999999"), () ->
+                session.scan("S9999999", model));
+        assertThrows(CommandException.class, MarkCommand.MESSAGE_STUDENT_NOT_ENROLLED, () ->
+                session.scan(ELLE.getId().getValue(), model));
+        assertFalse(session.hasPendingMarks());
+    }
+
+    @Test
+    public void scan_fullBatch_groupCommitsOnce() throws Exception {
+        RollCallSession session = new RollCallSession(MATH, 2, 1000, clock);
+        int historySize = model.getUndoHistorySize();
+
+        session.scan(AMY.getId().getValue(), model);
+        assertFalse(session.isFlushDue());
+        assertThrows(CommandException.class, () -> session.scan(AMY.getId().getValue(), model));
+        session.scan(ALICE.getId().getValue().toLowerCase(), model);
+        assertTrue(session.isFlushDue());
+        assertFalse(getMath().getAttendanceRecord().hasDate(clock.today()));
+
+        session.flush(model);
+        assertFalse(session.hasPendingMarks());
+        assertEquals(Set.of(AMY.getId(), ALICE.getId()), getMath().getAttendanceRecord().getPresentStudents(
+                clock.today()));
+        assertEquals(historySize + 1, model.getUndoHistorySize());
+        // enrolled students see the updated lesson
+        assertTrue(model.findPersonById(AMY.getId()).get().getLessons().contains(getMath()));
+
+        // already marked in an earlier batch
+        assertThrows(CommandException.class, () -> session.scan(ALICE.getId().getValue(), model));
+    }
+
+    @Test
+    public void isFlushDue_intervalElapsed_returnsTrue() throws Exception {
+        RollCallSession session = new RollCallSession(MATH, 25, 1000, clock);
+        session.scan(BENSON.getId().getValue(), model);
+
+        clock.advance(999);
+        assertFalse(session.isFlushDue());
+        clock.advance(1);
+        assertTrue(session.isFlushDue());
+
+        session.flush(model);
+        assertTrue(getMath().getAttendanceRecord().isPresent(clock.today(), BENSON.getId()));
+        assertTrue(session.getSummary().contains("1 students marked present in 1 group commits"));
+    }
+
+    private Lesson getMath() {
+        return model.findLessonByClassName(MATH).get();
+    }
+
+    /**
+     * A clock that only moves when told to.
+     */
+    private static class MutableClock extends Clock {
+        private Instant instant = Instant.parse("2025-03-03T09:00:00Z");
+
+        void advance(long millis) {
+            instant = instant.plusMillis(millis);
+        }
+
+        LocalDate today() {
+            return LocalDate.ofInstant(instant, ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -8,9 +8,12 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 
 import java.nio.file.Path;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -23,7 +26,12 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.lesson.AttendanceAnalytics;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Tutor;
+import seedu.address.model.person.IdentificationNumber;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.PersonBuilder;
 
@@ -159,11 +167,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public ReadOnlyAddressBook getAddressBookSnapshot() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasPerson(Person person) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public Optional<Person> findPersonById(IdentificationNumber id) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deletePerson(Person target) {
             throw new AssertionError("This method should not be called.");
@@ -174,6 +192,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<Lesson> getLessonsByTutor(Tutor tutor) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new AssertionError("This method should not be called.");
@@ -260,11 +283,26 @@ public class AddCommandTest {
             return false;
         }
 
+        @Override
+        public int getUndoHistorySize() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public long getUndoHistoryMemoryEstimate() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasLesson(Lesson aLesson) {
             return false;
         }
 
+        @Override
+        public Optional<Lesson> findLessonByClassName(ClassName className) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteLesson(Lesson target) {
 
@@ -289,6 +327,36 @@ public class AddCommandTest {
         public void updateFilteredLessonList(Predicate<Lesson> predicate) {
 
         }
+
+        @Override
+        public long getAddressBookVersion() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AttendanceAnalytics getAttendanceAnalytics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean isPresentThisWeek(ClassName className, IdentificationNumber studentId) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public AttendanceRecord getAttendanceHistory(ClassName className, LocalDate from, LocalDate to) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public boolean hasArchivedAttendance(ClassName className) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void archiveAttendance(Map<ClassName, AttendanceRecord> attendance) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
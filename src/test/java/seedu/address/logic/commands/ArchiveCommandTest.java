@@ -0,0 +1,171 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_MATH;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.getTypicalModelManager;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.storage.JsonAttendanceArchive;
+import seedu.address.testutil.EditLessonDescriptorBuilder;
+import seedu.address.testutil.LessonBuilder;
+
+public class ArchiveCommandTest {
+
+    private static final LocalDate TERM_ONE = LocalDate.of(2025, 1, 6);
+    private static final LocalDate TERM_TWO = LocalDate.of(2025, 4, 7);
+
+    @TempDir
+    public Path testFolder;
+
+    private final ClassName className = new ClassName(VALID_CLASS_MATH);
+    private final AttendanceRecord attendance = AttendanceRecord.of(Map.of(
+            TERM_ONE, Set.of(AMY.getId(), ALICE.getId()),
+            TERM_ONE.plusDays(7), Set.of(AMY.getId()),
+            TERM_TWO, Set.of(ALICE.getId())));
+    private Model model;
+
+    @BeforeEach
+    public void setUp() throws CommandException {
+        model = new ModelManager(getTypicalModelManager().getAddressBook(), new UserPrefs(),
+                new JsonAttendanceArchive(testFolder.resolve("archive")));
+        new EnrolCommand(AMY.getId(), className).execute(model);
+        new EnrolCommand(ALICE.getId(), className).execute(model);
+        Lesson lesson = model.findLessonByClassName(className).get();
+        model.setLesson(lesson, new LessonBuilder(lesson).withAttendance(attendance.toMap()).build());
+        model.commitAddressBook("attendance", CommandResult.DisplayType.DEFAULT);
+    }
+
+    @Test
+    public void execute_attendanceBeforeDate_movedIntoArchive() throws Exception {
+        CommandResult result = new ArchiveCommand(TERM_TWO).execute(model);
+        assertEquals(String.format(ArchiveCommand.MESSAGE_SUCCESS, 2, 1, TERM_TWO), result.getFeedbackToUser());
+
+        assertEquals(attendance.onDates(TERM_TWO, LocalDate.MAX),
+                model.findLessonByClassName(className).get().getAttendanceRecord());
+        assertEquals(attendance, model.getAttendanceHistory(className, LocalDate.MIN, LocalDate.MAX));
+        assertEquals(attendance.onDates(TERM_ONE.plusDays(1), TERM_TWO),
+                model.getAttendanceHistory(className, TERM_ONE.plusDays(1), TERM_TWO));
+    }
+
+    @Test
+    public void execute_undone_historyUnchanged() throws Exception {
+        new ArchiveCommand(TERM_TWO).execute(model);
+        model.undoAddressBook();
+
+        assertEquals(attendance, model.findLessonByClassName(className).get().getAttendanceRecord());
+        assertEquals(attendance, model.getAttendanceHistory(className, LocalDate.MIN, LocalDate.MAX));
+
+        // attendance changed after the undo takes precedence over the archived attendance
+        Lesson lesson = model.findLessonByClassName(className).get();
+        AttendanceRecord changed = attendance.withAbsent(TERM_ONE, ALICE.getId());
+        model.setLesson(lesson, new LessonBuilder(lesson).withAttendance(changed.toMap()).build());
+        assertEquals(changed, model.getAttendanceHistory(className, LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void execute_attendanceSince_countsArchivedSessions() throws Exception {
+        new ArchiveCommand(TERM_TWO).execute(model);
+
+        CommandResult result = AttendanceCommand.ofClass(className, 1).since(TERM_ONE.plusDays(1)).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(AttendanceCommand.MESSAGE_SINCE,
+                TERM_ONE.plusDays(1))));
+        assertTrue(result.getFeedbackToUser().contains("50.0% attendance over 2 sessions"));
+    }
+
+    @Test
+    public void execute_archivedClassRenamed_throwsCommandException() throws Exception {
+        new ArchiveCommand(TERM_TWO).execute(model);
+        Index index = Index.fromZeroBased(model.getFilteredLessonList()
+                .indexOf(model.findLessonByClassName(className).get()));
+
+        assertCommandFailure(new EditLessonCommand(index, new EditLessonDescriptorBuilder().withClassName("Z9z")
+                .build()), model, String.format(EditLessonCommand.MESSAGE_ARCHIVED_LESSON, className));
+        assertEquals(attendance, model.getAttendanceHistory(className, LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void execute_archivedClassDeleted_throwsCommandException() throws Exception {
+        new ArchiveCommand(TERM_TWO).execute(model);
+        String expectedMessage = String.format(DeleteLessonCommand.MESSAGE_ARCHIVED_LESSON, className);
+
+        assertThrows(CommandException.class, expectedMessage, () -> new DeleteLessonCommand(className).validate(model));
+        assertCommandFailure(new DeleteLessonCommand(className, true), model, expectedMessage);
+
+        // classes without archived attendance can still be deleted
+        Lesson otherLesson = model.getAddressBook().getLessonList().stream()
+                .filter(lesson -> !lesson.getClassName().equals(className)).findFirst().get();
+        new DeleteLessonCommand(otherLesson.getClassName(), true).execute(model);
+        assertFalse(model.hasLesson(otherLesson));
+    }
+
+    @Test
+    public void execute_clearThenAddArchivedClass_historyNotInherited() throws Exception {
+        new ArchiveCommand(TERM_TWO).execute(model);
+        String expectedMessage = String.format(ClearCommand.MESSAGE_ARCHIVED_LESSON, className);
+
+        assertThrows(CommandException.class, expectedMessage, () -> new ClearCommand().validate(model));
+        assertCommandFailure(new ClearCommand(true), model, expectedMessage);
+
+        // the class is still there, so it cannot be added again with the archived history
+        Lesson lesson = model.findLessonByClassName(className).get();
+        assertCommandFailure(new AddLessonCommand(new LessonBuilder(lesson).withStudents().build()), model,
+                AddLessonCommand.MESSAGE_DUPLICATE_CLASS);
+        assertEquals(attendance, model.getAttendanceHistory(className, LocalDate.MIN, LocalDate.MAX));
+    }
+
+    @Test
+    public void execute_nothingBeforeDate_throwsCommandException() {
+        assertCommandFailure(new ArchiveCommand(TERM_ONE), model,
+                String.format(ArchiveCommand.MESSAGE_NOTHING_TO_ARCHIVE, TERM_ONE));
+    }
+
+    @Test
+    public void execute_futureDate_throwsCommandException() {
+        assertCommandFailure(new ArchiveCommand(LocalDate.now().plusDays(1)), model,
+                ArchiveCommand.MESSAGE_FUTURE_DATE);
+    }
+
+    @Test
+    public void execute_noArchive_lessonsUnchanged() throws CommandException {
+        Model modelWithoutArchive = new ModelManager(model.getAddressBook(), new UserPrefs());
+        Lesson lesson = modelWithoutArchive.findLessonByClassName(className).get();
+
+        assertCommandFailure(new ArchiveCommand(TERM_TWO), modelWithoutArchive,
+                String.format(ArchiveCommand.MESSAGE_ARCHIVE_ERROR, "There is no attendance archive."));
+        assertSame(lesson, modelWithoutArchive.findLessonByClassName(className).get());
+    }
+
+    @Test
+    public void equals() {
+        ArchiveCommand archiveCommand = new ArchiveCommand(TERM_TWO);
+
+        assertTrue(archiveCommand.equals(archiveCommand));
+        assertTrue(archiveCommand.equals(new ArchiveCommand(TERM_TWO)));
+        assertFalse(archiveCommand.equals(null));
+        assertFalse(archiveCommand.equals(1));
+        assertFalse(archiveCommand.equals(new ArchiveCommand(TERM_ONE)));
+    }
+}
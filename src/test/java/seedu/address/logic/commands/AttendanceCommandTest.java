@@ -0,0 +1,108 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_MATH;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalLessons.getTypicalModelManager;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.person.IdentificationNumber;
+
+public class AttendanceCommandTest {
+
+    private final ClassName className = new ClassName(VALID_CLASS_MATH);
+    private Model model;
+
+    @BeforeEach
+    public void setUp() throws CommandException {
+        model = getTypicalModelManager();
+        new EnrolCommand(AMY.getId(), className).execute(model);
+        new EnrolCommand(ALICE.getId(), className).execute(model);
+        new MarkCommand(AMY.getId(), className).execute(model);
+    }
+
+    @Test
+    public void execute_class_showsRateAndAbsentees() throws CommandException {
+        CommandResult result = AttendanceCommand.ofClass(className, 1).execute(model);
+        assertEquals(String.format(AttendanceCommand.MESSAGE_CLASS_ATTENDANCE, className, "50.0%", 1)
+                + String.format(AttendanceCommand.MESSAGE_ABSENTEES, 1, ALICE.getId() + " (1)"),
+                result.getFeedbackToUser());
+
+        result = AttendanceCommand.ofClass(className, 2).execute(model);
+        assertEquals(String.format(AttendanceCommand.MESSAGE_CLASS_ATTENDANCE, className, "50.0%", 1)
+                + String.format(AttendanceCommand.MESSAGE_NO_ABSENTEES, 2), result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_classAfterUndo_reflectsRestoredAttendance() throws CommandException {
+        model.undoAddressBook();
+
+        CommandResult result = AttendanceCommand.ofClass(className, 1).execute(model);
+        assertEquals(String.format(AttendanceCommand.MESSAGE_CLASS_ATTENDANCE, className,
+                AttendanceCommand.NO_RATE, 0) + String.format(AttendanceCommand.MESSAGE_NO_ABSENTEES, 1),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_since_countsSessionsFromDate() throws CommandException {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        CommandResult result = AttendanceCommand.ofClass(className, 1).since(tomorrow).execute(model);
+        assertEquals(String.format(AttendanceCommand.MESSAGE_SINCE, tomorrow)
+                + String.format(AttendanceCommand.MESSAGE_CLASS_ATTENDANCE, className, AttendanceCommand.NO_RATE, 0)
+                + String.format(AttendanceCommand.MESSAGE_NO_ABSENTEES, 1), result.getFeedbackToUser());
+
+        result = AttendanceCommand.ofStudent(AMY.getId()).since(LocalDate.now()).execute(model);
+        assertEquals(String.format(AttendanceCommand.MESSAGE_SINCE, LocalDate.now())
+                + String.format(AttendanceCommand.MESSAGE_STUDENT_ATTENDANCE, Messages.shortenedFormatPerson(AMY),
+                "100.0%") + String.format(AttendanceCommand.MESSAGE_STUDENT_CLASS_ATTENDANCE, className, "100.0%", 0),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_student_showsRatePerClass() throws CommandException {
+        CommandResult result = AttendanceCommand.ofStudent(ALICE.getId()).execute(model);
+        assertEquals(String.format(AttendanceCommand.MESSAGE_STUDENT_ATTENDANCE,
+                Messages.shortenedFormatPerson(ALICE), "0.0%")
+                + String.format(AttendanceCommand.MESSAGE_STUDENT_CLASS_ATTENDANCE, className, "0.0%", 1),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_missingClassOrStudent_throwsCommandException() {
+        ClassName missingClass = new ClassName("Z9z");
+        assertCommandFailure(AttendanceCommand.ofClass(missingClass, 1), model,
+                String.format(MarkCommand.MESSAGE_LESSON_NOT_FOUND, missingClass));
+
+        IdentificationNumber missingStudent = new IdentificationNumber("S9999999");
+        assertCommandFailure(AttendanceCommand.ofStudent(missingStudent), model,
+                String.format(MarkCommand.MESSAGE_PERSON_NOT_FOUND, missingStudent));
+    }
+
+    @Test
+    public void equals() {
+        AttendanceCommand classCommand = AttendanceCommand.ofClass(className, 3);
+        AttendanceCommand studentCommand = AttendanceCommand.ofStudent(AMY.getId());
+
+        assertTrue(classCommand.equals(classCommand));
+        assertTrue(classCommand.equals(AttendanceCommand.ofClass(className, 3)));
+        assertTrue(studentCommand.equals(AttendanceCommand.ofStudent(AMY.getId())));
+        assertFalse(classCommand.equals(null));
+        assertFalse(classCommand.equals(AttendanceCommand.ofClass(className, 2)));
+        assertFalse(classCommand.equals(studentCommand));
+        assertTrue(classCommand.since(LocalDate.MIN).equals(AttendanceCommand.ofClass(className, 3)
+                .since(LocalDate.MIN)));
+        assertFalse(classCommand.equals(classCommand.since(LocalDate.MIN)));
+    }
+}
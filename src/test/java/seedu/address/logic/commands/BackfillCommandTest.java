@@ -0,0 +1,211 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_MATH;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.TypicalLessons.getTypicalModelManager;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.io.BufferedWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.storage.JsonAttendanceArchive;
+import seedu.address.testutil.LessonBuilder;
+
+public class BackfillCommandTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 1, 6);
+
+    @TempDir
+    public Path testFolder;
+
+    private final ClassName className = new ClassName(VALID_CLASS_MATH);
+    private Model model;
+
+    @BeforeEach
+    public void setUp() throws CommandException {
+        model = getTypicalModelManager();
+        new EnrolCommand(AMY.getId(), className).execute(model);
+        new EnrolCommand(ALICE.getId(), className).execute(model);
+        new MarkCommand(AMY.getId(), className).execute(model);
+    }
+
+    @Test
+    public void execute_validAndInvalidRows_appliesValidRowsAndRejectsOthers() throws Exception {
+        AttendanceRecord before = model.findLessonByClassName(className).get().getAttendanceRecord();
+        Path csvFile = writeCsv("register.csv",
+                "Date,Class,Student ID",
+                MONDAY + ",A1a," + AMY.getId(),
+                MONDAY + ",\"A1a\", " + ALICE.getId(),
+                "",
+                MONDAY.plusDays(7) + ",A1a," + ALICE.getId(),
+                MONDAY.plusDays(7) + ",A1a," + ALICE.getId(),
+                LocalDate.now() + ",A1a," + AMY.getId(),
+                "06/01/2025,A1a," + AMY.getId(),
+                LocalDate.now().plusDays(1) + ",A1a," + AMY.getId(),
+                MONDAY + ",a1a," + AMY.getId(),
+                MONDAY + ",Z9z," + AMY.getId(),
+                MONDAY + ",A1a,X0000001",
+                MONDAY + ",A1a," + BENSON.getId(),
+                MONDAY + ",A1a");
+
+        CommandResult result = new BackfillCommand(csvFile).execute(model);
+        assertEquals(String.format(BackfillCommand.MESSAGE_SUCCESS, 3, 1, "register.csv")
+                + String.format(BackfillCommand.MESSAGE_ALREADY_MARKED, 2)
+                + String.format(BackfillCommand.MESSAGE_REJECTED, 7, "register-rejected.csv"),
+                result.getFeedbackToUser());
+
+        AttendanceRecord expected = before
+                .withPresent(MONDAY, AMY.getId())
+                .withPresent(MONDAY, ALICE.getId())
+                .withPresent(MONDAY.plusDays(7), ALICE.getId());
+        assertEquals(expected, model.findLessonByClassName(className).get().getAttendanceRecord());
+
+        assertEquals(List.of("line,reason,row",
+                "8,\"" + BackfillCommand.REASON_INVALID_DATE + "\",\"06/01/2025,A1a," + AMY.getId() + "\"",
+                "9,\"" + BackfillCommand.REASON_FUTURE_DATE + "\",\"" + LocalDate.now().plusDays(1) + ",A1a,"
+                        + AMY.getId() + "\"",
+                "10,\"" + BackfillCommand.REASON_INVALID_CLASS + "\",\"" + MONDAY + ",a1a," + AMY.getId() + "\"",
+                "11,\"" + BackfillCommand.REASON_LESSON_NOT_FOUND + "\",\"" + MONDAY + ",Z9z," + AMY.getId() + "\"",
+                "12,\"" + BackfillCommand.REASON_INVALID_ID + "\",\"" + MONDAY + ",A1a,X0000001\"",
+                "13,\"" + BackfillCommand.REASON_NOT_ENROLLED + "\",\"" + MONDAY + ",A1a," + BENSON.getId() + "\"",
+                "14,\"" + BackfillCommand.REASON_FIELD_COUNT + "\",\"" + MONDAY + ",A1a\""),
+                Files.readAllLines(testFolder.resolve("register-rejected.csv")));
+
+        // the whole file is undone at once
+        model.undoAddressBook();
+        assertEquals(before, model.findLessonByClassName(className).get().getAttendanceRecord());
+    }
+
+    @Test
+    public void execute_rejectedRowWithQuotes_quotesDoubledInRejectFile() throws Exception {
+        Path csvFile = writeCsv("register.csv",
+                MONDAY + ",A1a," + ALICE.getId(),
+                MONDAY + ",\"Z9z\"," + AMY.getId());
+        new BackfillCommand(csvFile).execute(model);
+
+        assertEquals(List.of("line,reason,row",
+                "2,\"" + BackfillCommand.REASON_LESSON_NOT_FOUND + "\",\"" + MONDAY + ",\"\"Z9z\"\","
+                        + AMY.getId() + "\""),
+                Files.readAllLines(testFolder.resolve("register-rejected.csv")));
+    }
+
+    @Test
+    public void execute_manyRows_appliedInOneCommit() throws Exception {
+        Path csvFile = testFolder.resolve("history.csv");
+        try (BufferedWriter writer = Files.newBufferedWriter(csvFile)) {
+            for (int day = 0; day < 50000; day++) {
+                writer.write(MONDAY.minusDays(day) + ",A1a," + (day % 2 == 0 ? AMY.getId() : ALICE.getId()));
+                writer.newLine();
+            }
+        }
+        int historySize = model.getUndoHistorySize();
+
+        new BackfillCommand(csvFile).execute(model);
+        AttendanceRecord record = model.findLessonByClassName(className).get().getAttendanceRecord();
+        assertEquals(50001, record.getSessionCount());
+        assertEquals(Map.of(AMY.getId(), 25001, ALICE.getId(), 25000),
+                record.getPresentCounts(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(historySize + 1, model.getUndoHistorySize());
+        assertFalse(Files.exists(BackfillCommand.getRejectFilePath(csvFile)));
+    }
+
+    @Test
+    public void execute_archivedDate_rejectedAndArchivedMarksKept() throws Exception {
+        Model modelWithArchive = new ModelManager(model.getAddressBook(), new UserPrefs(),
+                new JsonAttendanceArchive(testFolder.resolve("archive")));
+        new EnrolCommand(BENSON.getId(), className).execute(modelWithArchive);
+        Lesson lesson = modelWithArchive.findLessonByClassName(className).get();
+        modelWithArchive.setLesson(lesson, new LessonBuilder(lesson)
+                .withAttendance(Map.of(MONDAY, Set.of(AMY.getId(), ALICE.getId()))).build());
+        new ArchiveCommand(MONDAY.plusDays(1)).execute(modelWithArchive);
+
+        Path csvFile = writeCsv("register.csv",
+                MONDAY + ",A1a," + AMY.getId(),
+                MONDAY + ",A1a," + BENSON.getId(),
+                MONDAY.plusDays(7) + ",A1a," + BENSON.getId());
+        CommandResult result = new BackfillCommand(csvFile).execute(modelWithArchive);
+        assertEquals(String.format(BackfillCommand.MESSAGE_SUCCESS, 1, 1, "register.csv")
+                + String.format(BackfillCommand.MESSAGE_ALREADY_MARKED, 1)
+                + String.format(BackfillCommand.MESSAGE_REJECTED, 1, "register-rejected.csv"),
+                result.getFeedbackToUser());
+        assertEquals(List.of("line,reason,row",
+                "2,\"" + BackfillCommand.REASON_ARCHIVED_DATE + "\",\"" + MONDAY + ",A1a," + BENSON.getId() + "\""),
+                Files.readAllLines(testFolder.resolve("register-rejected.csv")));
+
+        // the archived marks still count in reports
+        String report = new ReportCommand(className, MONDAY, MONDAY.plusDays(7)).execute(modelWithArchive)
+                .getFeedbackToUser();
+        assertTrue(report.contains(AMY.getId() + " 1/2"));
+        assertTrue(report.contains(ALICE.getId() + " 1/2"));
+        assertTrue(report.contains(BENSON.getId() + " 1/2"));
+    }
+
+    @Test
+    public void execute_noNewAttendance_throwsCommandException() throws Exception {
+        Path csvFile = writeCsv("register.csv",
+                LocalDate.now() + ",A1a," + AMY.getId(),
+                MONDAY + ",Z9z," + AMY.getId());
+        assertCommandFailure(new BackfillCommand(csvFile), model,
+                String.format(BackfillCommand.MESSAGE_NOTHING_TO_BACKFILL, "register.csv")
+                + String.format(BackfillCommand.MESSAGE_ALREADY_MARKED, 1)
+                + String.format(BackfillCommand.MESSAGE_REJECTED, 1, "register-rejected.csv"));
+        assertTrue(Files.exists(testFolder.resolve("register-rejected.csv")));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        assertCommandFailure(new BackfillCommand(testFolder.resolve("missing.csv")), model,
+                String.format(BackfillCommand.MESSAGE_FILE_NOT_FOUND, "missing.csv"));
+    }
+
+    @Test
+    public void getRejectFilePath() {
+        assertEquals(Paths.get("data", "register-rejected.csv"),
+                BackfillCommand.getRejectFilePath(Paths.get("data", "register.csv")));
+    }
+
+    @Test
+    public void equals() {
+        BackfillCommand backfillCommand = new BackfillCommand(Paths.get("a.csv"));
+
+        assertTrue(backfillCommand.equals(backfillCommand));
+        assertTrue(backfillCommand.equals(new BackfillCommand(Paths.get("a.csv"))));
+        assertFalse(backfillCommand.equals(null));
+        assertFalse(backfillCommand.equals(new BackfillCommand(Paths.get("b.csv"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Paths.get("a.csv");
+        assertEquals(BackfillCommand.class.getCanonicalName() + "{filePath=" + filePath + "}",
+                new BackfillCommand(filePath).toString());
+    }
+
+    private Path writeCsv(String fileName, String... lines) throws Exception {
+        Path csvFile = testFolder.resolve(fileName);
+        Files.write(csvFile, List.of(lines));
+        return csvFile;
+    }
+}
@@ -30,9 +30,11 @@ import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.person.Person;
 import seedu.address.model.util.LessonCascadeUpdater;
 import seedu.address.testutil.EditLessonDescriptorBuilder;
 import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalLessons;
 
 /**
@@ -148,13 +150,36 @@ public class EditLessonCommandTest {
 
     @Test
     public void execute_studentClash_failure() {
-        Lesson firstLesson = model.getFilteredLessonList().get(INDEX_FIRST_LESSON.getZeroBased());
-        Lesson secondLesson = model.getFilteredLessonList().get(INDEX_THIRD_LESSON.getZeroBased());
+        IdentificationNumber sharedStudent = new IdentificationNumber("S6767676");
+        Lesson updatedFirstLesson = enrolInFirstAndThirdLessons(sharedStudent);
+
+        // The shared student is enrolled in both lessons
+        Person student = new PersonBuilder().withId(sharedStudent.getValue()).withEmail("shared@example.com").build();
+        model.addPerson(new Person(student.getId(), student.getName(), student.getRole(),
+                Set.of(updatedFirstLesson, model.getFilteredLessonList().get(INDEX_THIRD_LESSON.getZeroBased())),
+                student.getPhone(), student.getEmail(), student.getAddress(), student.getTags()));
+
+        assertCommandFailure(editThirdLessonToOverlapWith(updatedFirstLesson), model,
+                "Student clash detected for: " + sharedStudent.getValue());
+    }
 
-        // Create a shared student between the two lessons
+    @Test
+    public void execute_studentClashWithoutPersonRecord_failure() {
+        // The lessons enrol an ID that has no person, so its clash is found through the lessons instead
         IdentificationNumber sharedStudent = new IdentificationNumber("S6767676");
+        Lesson updatedFirstLesson = enrolInFirstAndThirdLessons(sharedStudent);
+
+        assertCommandFailure(editThirdLessonToOverlapWith(updatedFirstLesson), model,
+                "Student clash detected for: " + sharedStudent.getValue());
+    }
+
+    /**
+     * Enrols {@code sharedStudent} in the first and third lessons, and returns the updated first lesson.
+     */
+    private Lesson enrolInFirstAndThirdLessons(IdentificationNumber sharedStudent) {
+        Lesson firstLesson = model.getFilteredLessonList().get(INDEX_FIRST_LESSON.getZeroBased());
+        Lesson secondLesson = model.getFilteredLessonList().get(INDEX_THIRD_LESSON.getZeroBased());
 
-        // Update first and second lessons to include the shared student
         Lesson updatedFirstLesson = new LessonBuilder(firstLesson)
                 .withStudents(new HashSet<>(firstLesson.getStudents()) {{ add(sharedStudent); }}).build();
         model.setLesson(firstLesson, updatedFirstLesson);
@@ -162,24 +187,21 @@ public class EditLessonCommandTest {
         Lesson updatedSecondLesson = new LessonBuilder(secondLesson)
                 .withStudents(new HashSet<>(secondLesson.getStudents()) {{ add(sharedStudent); }}).build();
         model.setLesson(secondLesson, updatedSecondLesson);
+        return updatedFirstLesson;
+    }
 
-        // Edit second lesson to overlap with first lesson
-        EditLessonDescriptor descriptor = new EditLessonDescriptorBuilder(updatedSecondLesson)
-                .withDay(updatedFirstLesson.getDay().toString())
-                .withTime(updatedFirstLesson.getTime().toString())
+    /**
+     * Returns a command that moves the third lesson to the day and time of {@code lesson}.
+     */
+    private EditLessonCommand editThirdLessonToOverlapWith(Lesson lesson) {
+        Lesson thirdLesson = model.getFilteredLessonList().get(INDEX_THIRD_LESSON.getZeroBased());
+        EditLessonDescriptor descriptor = new EditLessonDescriptorBuilder(thirdLesson)
+                .withDay(lesson.getDay().toString())
+                .withTime(lesson.getTime().toString())
                 .build();
-
-        EditLessonCommand editLessonCommand = new EditLessonCommand(INDEX_THIRD_LESSON, descriptor);
-
-        // Expected message
-        String expectedMessage = "Student clash detected for: " + sharedStudent.getValue();
-
-        // Verify failure
-        assertCommandFailure(editLessonCommand, model, expectedMessage);
+        return new EditLessonCommand(INDEX_THIRD_LESSON, descriptor);
     }
 
-
-
     @Test
     public void execute_preservesStudentIdsAndAttendance() {
         Lesson lessonToEdit = model.getFilteredLessonList().get(INDEX_THIRD_LESSON.getZeroBased());
@@ -10,6 +10,9 @@ import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -22,9 +25,12 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.lesson.AttendanceRecord;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.IdentificationNumber;
 import seedu.address.model.person.Person;
 import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonAttendanceArchive;
 
 public class ExportCommandTest {
 
@@ -71,6 +77,28 @@ public class ExportCommandTest {
         assertEquals(expectedModel.getAddressBook(), exportedData);
     }
 
+    @Test
+    public void execute_archivedAttendance_exportedWithHistory() throws Exception {
+        LocalDate date = LocalDate.of(2025, 1, 6);
+        Lesson lesson = model.getAddressBook().getLessonList().stream()
+                .filter(enrolled -> !enrolled.getStudents().isEmpty())
+                .findFirst().get();
+        IdentificationNumber studentId = lesson.getStudents().iterator().next();
+        AttendanceRecord attendance = AttendanceRecord.of(Map.of(date, Set.of(studentId)));
+        Model modelWithArchive = new ModelManager(model.getAddressBook(), new UserPrefs(),
+                new JsonAttendanceArchive(tempFolder.resolve("archive")));
+        modelWithArchive.archiveAttendance(Map.of(lesson.getClassName(), attendance));
+
+        Path filePath = tempFolder.resolve("testExport.json");
+        new ExportCommand(filePath).execute(modelWithArchive);
+
+        ReadOnlyAddressBook exportedData = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        Lesson exportedLesson = exportedData.getLessonList().stream()
+                .filter(exported -> exported.getClassName().equals(lesson.getClassName()))
+                .findFirst().get();
+        assertEquals(attendance, exportedLesson.getAttendanceRecord());
+    }
+
     @Test
     public void execute_fileExists_throwsCommandException() throws Exception {
         // Create an existing file
@@ -0,0 +1,42 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class HistoryCommandTest {
+
+    @Test
+    public void execute_showsHistorySizeAndLimits() {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setMaxUndoHistorySize(1);
+        userPrefs.setMaxUndoHistoryBytes(2048);
+        Model model = new ModelManager(new AddressBook(), userPrefs);
+
+        model.addPerson(ALICE);
+        model.commitAddressBook(ALICE.toString());
+        model.addPerson(BENSON);
+        model.commitAddressBook(BENSON.toString());
+
+        // only the latest command is kept
+        assertEquals(1, model.getUndoHistorySize());
+        String expectedMessage = String.format(HistoryCommand.MESSAGE_SUCCESS, 1, 1,
+                HistoryCommand.formatBytes(model.getUndoHistoryMemoryEstimate()), "2.0 KB");
+        assertEquals(expectedMessage, new HistoryCommand().execute(model).getFeedbackToUser());
+    }
+
+    @Test
+    public void formatBytes() {
+        assertEquals("0 B", HistoryCommand.formatBytes(0));
+        assertEquals("1023 B", HistoryCommand.formatBytes(1023));
+        assertEquals("1.5 KB", HistoryCommand.formatBytes(1536));
+        assertEquals("64.0 MB", HistoryCommand.formatBytes(64L * 1024 * 1024));
+    }
+}
@@ -1,17 +1,21 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_MATH;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalLessons.getTypicalModelManager;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
 import java.time.LocalDate;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -25,6 +29,7 @@ import seedu.address.model.lesson.ClassName;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.IdentificationNumber;
 import seedu.address.model.person.Person;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.LessonBuilder;
 
 public class MarkCommandTest {
@@ -91,6 +96,52 @@ public class MarkCommandTest {
         assertCommandSuccess(markAttendanceCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_allEnrolled_marksEveryStudentInOneCommit() throws CommandException {
+        ClassName className = new ClassName(VALID_CLASS_MATH);
+        new EnrolCommand(ALICE.getId(), className).execute(model);
+        new EnrolCommand(BENSON.getId(), className).execute(model);
+        new MarkCommand(ALICE.getId(), className).execute(model);
+        int historySize = model.getUndoHistorySize();
+
+        CommandResult result = new MarkCommand(StudentSelector.allEnrolled(), className).execute(model);
+
+        Lesson markedLesson = model.findLessonByClassName(className).get();
+        assertEquals(String.format(MarkCommand.MESSAGE_SUCCESS_MULTIPLE, 2, Messages.shortenedFormatLesson(
+                markedLesson)) + String.format(MarkCommand.MESSAGE_SKIPPED, 1, ALICE.getId()),
+                result.getFeedbackToUser());
+        assertEquals(Set.of(AMY.getId(), ALICE.getId(), BENSON.getId()),
+                markedLesson.getAttendanceRecord().getPresentStudents(LocalDate.now()));
+        assertEquals(historySize + 1, model.getUndoHistorySize());
+
+        assertCommandFailure(new MarkCommand(StudentSelector.allEnrolled(), className), model,
+                String.format(MarkCommand.MESSAGE_ALL_ALREADY_MARKED, Messages.shortenedFormatLesson(markedLesson)));
+    }
+
+    @Test
+    public void execute_byTag_marksTaggedStudentsOnly() throws CommandException {
+        ClassName className = new ClassName(VALID_CLASS_MATH);
+        new EnrolCommand(ALICE.getId(), className).execute(model);
+        new EnrolCommand(BENSON.getId(), className).execute(model);
+
+        new MarkCommand(StudentSelector.of(List.of(), List.of(new Tag("owesMoney"))), className).execute(model);
+        assertEquals(Set.of(BENSON.getId()), model.findLessonByClassName(className).get().getAttendanceRecord()
+                .getPresentStudents(LocalDate.now()));
+
+        assertCommandFailure(new MarkCommand(StudentSelector.of(List.of(), List.of(new Tag("nobody"))), className),
+                model, StudentSelector.MESSAGE_NO_STUDENTS_SELECTED);
+    }
+
+    @Test
+    public void execute_severalIdsOneNotEnrolled_marksNobody() {
+        ClassName className = new ClassName(VALID_CLASS_MATH);
+        MarkCommand command = new MarkCommand(StudentSelector.of(List.of(AMY.getId(), BOB.getId()), List.of()),
+                className);
+
+        assertCommandFailure(command, model, MarkCommand.MESSAGE_STUDENT_NOT_ENROLLED);
+        assertFalse(model.findLessonByClassName(className).get().getAttendanceRecord().hasDate(LocalDate.now()));
+    }
+
     @Test
     public void execute_duplicateAttendance_throwsCommandException() throws CommandException {
         ClassName className = new ClassName(VALID_CLASS_MATH);
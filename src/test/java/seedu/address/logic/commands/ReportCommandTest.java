@@ -0,0 +1,116 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_MATH;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.getTypicalModelManager;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.storage.JsonAttendanceArchive;
+import seedu.address.testutil.LessonBuilder;
+
+public class ReportCommandTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2026, 1, 5);
+
+    @TempDir
+    public Path testFolder;
+
+    private final ClassName className = new ClassName(VALID_CLASS_MATH);
+    private Model model;
+
+    @BeforeEach
+    public void setUp() throws CommandException {
+        model = new ModelManager(getTypicalModelManager().getAddressBook(), new UserPrefs(),
+                new JsonAttendanceArchive(testFolder.resolve("archive")));
+        new EnrolCommand(AMY.getId(), className).execute(model);
+        new EnrolCommand(ALICE.getId(), className).execute(model);
+        Lesson lesson = model.findLessonByClassName(className).get();
+        model.setLesson(lesson, new LessonBuilder(lesson).withAttendance(Map.of(
+                MONDAY, Set.of(AMY.getId(), ALICE.getId()),
+                MONDAY.plusDays(7), Set.of(AMY.getId()),
+                MONDAY.plusDays(14), Set.of(AMY.getId()),
+                MONDAY.plusDays(21), Set.of(ALICE.getId()))).build());
+    }
+
+    @Test
+    public void execute_dateRange_showsCountsAndAbsentees() throws CommandException {
+        Lesson lesson = model.findLessonByClassName(className).get();
+        LocalDate to = MONDAY.plusDays(14);
+        CommandResult result = new ReportCommand(className, MONDAY.plusDays(1), to).execute(model);
+        assertEquals(String.format(ReportCommand.MESSAGE_REPORT, Messages.shortenedFormatLesson(lesson),
+                MONDAY.plusDays(1), to, 2)
+                + String.format(ReportCommand.MESSAGE_ABSENTEES, ALICE.getId() + " (2 missed)")
+                + String.format(ReportCommand.MESSAGE_PRESENT_COUNTS, AMY.getId() + " 2/2, " + ALICE.getId() + " 0/2"),
+                result.getFeedbackToUser());
+
+        result = new ReportCommand(className, MONDAY, MONDAY).execute(model);
+        assertEquals(String.format(ReportCommand.MESSAGE_REPORT, Messages.shortenedFormatLesson(lesson),
+                MONDAY, MONDAY, 1)
+                + ReportCommand.MESSAGE_NO_ABSENTEES
+                + String.format(ReportCommand.MESSAGE_PRESENT_COUNTS, AMY.getId() + " 1/1, " + ALICE.getId() + " 1/1"),
+                result.getFeedbackToUser());
+    }
+
+    @Test
+    public void execute_archivedSessions_included() throws CommandException {
+        new ArchiveCommand(MONDAY.plusDays(14)).execute(model);
+
+        String output = new ReportCommand(className, MONDAY).execute(model).getFeedbackToUser();
+        assertTrue(output.contains(String.format(ReportCommand.MESSAGE_PRESENT_COUNTS,
+                AMY.getId() + " 3/4, " + ALICE.getId() + " 2/4")));
+    }
+
+    @Test
+    public void execute_missingClass_throwsCommandException() {
+        ClassName missingClass = new ClassName("Z9z");
+        assertCommandFailure(new ReportCommand(missingClass, MONDAY), model,
+                String.format(MarkCommand.MESSAGE_LESSON_NOT_FOUND, missingClass));
+    }
+
+    @Test
+    public void execute_startAfterTodayWithoutEnd_throwsCommandException() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        assertCommandFailure(new ReportCommand(className, tomorrow), model,
+                String.format(ReportCommand.MESSAGE_FUTURE_START, tomorrow));
+    }
+
+    @Test
+    public void constructor_endBeforeStart_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new ReportCommand(className, MONDAY,
+                MONDAY.minusDays(1)));
+    }
+
+    @Test
+    public void equals() {
+        ReportCommand reportCommand = new ReportCommand(className, MONDAY, MONDAY.plusDays(7));
+
+        assertTrue(reportCommand.equals(reportCommand));
+        assertTrue(reportCommand.equals(new ReportCommand(className, MONDAY, MONDAY.plusDays(7))));
+        assertFalse(reportCommand.equals(null));
+        assertFalse(reportCommand.equals(new ReportCommand(className, MONDAY)));
+        assertFalse(reportCommand.equals(new ReportCommand(className, MONDAY.plusDays(1), MONDAY.plusDays(7))));
+        assertFalse(reportCommand.equals(new ReportCommand(new ClassName("B1a"), MONDAY, MONDAY.plusDays(7))));
+    }
+}
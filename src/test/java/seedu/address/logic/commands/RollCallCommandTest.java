@@ -0,0 +1,45 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_MATH;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalLessons.getTypicalModelManager;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.lesson.ClassName;
+
+public class RollCallCommandTest {
+
+    private final Model model = getTypicalModelManager();
+
+    @Test
+    public void execute_existingClass_success() {
+        ClassName className = new ClassName(VALID_CLASS_MATH);
+        CommandResult expectedResult = new CommandResult(
+                String.format(RollCallCommand.MESSAGE_SUCCESS, className), CommandResult.DisplayType.DEFAULT);
+
+        // the roll call itself is run by LogicManager, so the model is left unchanged
+        assertCommandSuccess(new RollCallCommand(className), model, expectedResult, getTypicalModelManager());
+    }
+
+    @Test
+    public void execute_missingClass_throwsCommandException() {
+        ClassName className = new ClassName("Z9z");
+        assertCommandFailure(new RollCallCommand(className), model,
+                String.format(MarkCommand.MESSAGE_LESSON_NOT_FOUND, className));
+    }
+
+    @Test
+    public void equals() {
+        RollCallCommand rollCallCommand = new RollCallCommand(new ClassName(VALID_CLASS_MATH));
+
+        assertTrue(rollCallCommand.equals(rollCallCommand));
+        assertTrue(rollCallCommand.equals(new RollCallCommand(new ClassName(VALID_CLASS_MATH))));
+        assertFalse(rollCallCommand.equals(null));
+        assertFalse(rollCallCommand.equals(new RollCallCommand(new ClassName("Z9z"))));
+    }
+}
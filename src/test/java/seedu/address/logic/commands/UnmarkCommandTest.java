@@ -1,11 +1,13 @@
 package seedu.address.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_MATH;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.testutil.TypicalLessons.getTypicalModelManager;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
@@ -48,6 +50,26 @@ public class UnmarkCommandTest {
         }
     }
 
+    @Test
+    public void execute_allEnrolled_unmarksEveryMarkedStudent() throws CommandException {
+        ClassName className = new ClassName(VALID_CLASS_MATH);
+        LocalDate today = LocalDate.now();
+        new EnrolCommand(ALICE.getId(), className).execute(model);
+        new MarkCommand(AMY.getId(), className).execute(model);
+
+        CommandResult result = new UnmarkCommand(StudentSelector.allEnrolled(), className, Optional.empty())
+                .execute(model);
+
+        assertEquals(String.format(UnmarkCommand.MESSAGE_SUCCESS_MULTIPLE, 1, className.fullClassName, today)
+                + String.format(UnmarkCommand.MESSAGE_SKIPPED, 1, ALICE.getId()), result.getFeedbackToUser());
+        Lesson unmarkedLesson = model.findLessonByClassName(className).get();
+        assertTrue(unmarkedLesson.getAttendanceRecord().hasDate(today));
+        assertTrue(unmarkedLesson.getAttendanceRecord().getPresentStudents(today).isEmpty());
+
+        assertCommandFailure(new UnmarkCommand(StudentSelector.allEnrolled(), className, Optional.empty()), model,
+                String.format(UnmarkCommand.MESSAGE_NONE_MARKED, className.fullClassName, today));
+    }
+
     @Test
     public void execute_validStudentAndLesson_success() throws CommandException {
         ClassName className = new ClassName(VALID_CLASS_MATH);
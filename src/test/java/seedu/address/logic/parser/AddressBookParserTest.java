@@ -4,12 +4,23 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.commands.CommandTestUtil.CLASS_DESC_MATH;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_MATH;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SESSIONS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TO_DATE;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 
+import java.nio.file.Paths;
+import java.time.LocalDate;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.ArchiveCommand;
+import seedu.address.logic.commands.AttendanceCommand;
+import seedu.address.logic.commands.BackfillCommand;
 import seedu.address.logic.commands.ClearCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -18,8 +29,12 @@ import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.commands.FindLessonCommand;
 import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.logic.commands.RollCallCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.lesson.ClassName;
 import seedu.address.model.lesson.LessonMatchesPredicate;
 import seedu.address.model.person.ContactMatchesPredicate;
 import seedu.address.model.person.Person;
@@ -91,6 +106,43 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HelpCommand.COMMAND_WORD + " 3") instanceof HelpCommand);
     }
 
+    @Test
+    public void parseCommand_rollCall() throws Exception {
+        assertEquals(new RollCallCommand(new ClassName(VALID_CLASS_MATH)),
+                parser.parseCommand(RollCallCommand.COMMAND_WORD + CLASS_DESC_MATH));
+    }
+
+    @Test
+    public void parseCommand_attendance() throws Exception {
+        assertEquals(AttendanceCommand.ofClass(new ClassName(VALID_CLASS_MATH), 2),
+                parser.parseCommand(AttendanceCommand.COMMAND_WORD + CLASS_DESC_MATH + " " + PREFIX_SESSIONS + "2"));
+    }
+
+    @Test
+    public void parseCommand_archive() throws Exception {
+        assertEquals(new ArchiveCommand(LocalDate.of(2025, 1, 1)),
+                parser.parseCommand(ArchiveCommand.COMMAND_WORD + " " + PREFIX_DATE + "2025-01-01"));
+    }
+
+    @Test
+    public void parseCommand_report() throws Exception {
+        assertEquals(new ReportCommand(new ClassName(VALID_CLASS_MATH), LocalDate.of(2026, 1, 5),
+                LocalDate.of(2026, 3, 1)), parser.parseCommand(ReportCommand.COMMAND_WORD + CLASS_DESC_MATH + " "
+                + PREFIX_DATE + "2026-01-05 " + PREFIX_TO_DATE + "2026-03-01"));
+    }
+
+    @Test
+    public void parseCommand_backfill() throws Exception {
+        assertEquals(new BackfillCommand(Paths.get("register.csv")),
+                parser.parseCommand(BackfillCommand.COMMAND_WORD + " register.csv"));
+    }
+
+    @Test
+    public void parseCommand_history() throws Exception {
+        assertTrue(parser.parseCommand(HistoryCommand.COMMAND_WORD) instanceof HistoryCommand);
+        assertTrue(parser.parseCommand(HistoryCommand.COMMAND_WORD + " 3") instanceof HistoryCommand);
+    }
+
     @Test
     public void parseCommand_list() throws Exception {
         assertTrue(parser.parseCommand(ListCommand.COMMAND_WORD) instanceof ListCommand);
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ArchiveCommand;
+
+public class ArchiveCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ArchiveCommand.MESSAGE_USAGE);
+
+    private final ArchiveCommandParser parser = new ArchiveCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsArchiveCommand() {
+        assertParseSuccess(parser, " dt/2025-01-01", new ArchiveCommand(LocalDate.of(2025, 1, 1)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 2025-01-01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " preamble dt/2025-01-01", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " dt/01-01-2025", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, " dt/2025-01-01 dt/2025-02-01",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_DATE));
+    }
+}
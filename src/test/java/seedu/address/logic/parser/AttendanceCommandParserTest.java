@@ -0,0 +1,71 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.CLASS_DESC_MATH;
+import static seedu.address.logic.commands.CommandTestUtil.STUDENT_ID_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_MATH;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ID_AMY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SESSIONS;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.AttendanceCommand;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.person.IdentificationNumber;
+
+public class AttendanceCommandParserTest {
+
+    private final AttendanceCommandParser parser = new AttendanceCommandParser();
+
+    @Test
+    public void parse_class_success() {
+        ClassName className = new ClassName(VALID_CLASS_MATH);
+        assertParseSuccess(parser, CLASS_DESC_MATH,
+                AttendanceCommand.ofClass(className, AttendanceCommand.DEFAULT_ABSENT_SESSIONS));
+        assertParseSuccess(parser, CLASS_DESC_MATH + " " + PREFIX_SESSIONS + "5",
+                AttendanceCommand.ofClass(className, 5));
+    }
+
+    @Test
+    public void parse_student_success() {
+        assertParseSuccess(parser, STUDENT_ID_DESC_AMY,
+                AttendanceCommand.ofStudent(new IdentificationNumber(VALID_ID_AMY)));
+    }
+
+    @Test
+    public void parse_fromDate_success() {
+        LocalDate from = LocalDate.of(2025, 1, 6);
+        assertParseSuccess(parser, CLASS_DESC_MATH + " " + PREFIX_DATE + "2025-01-06",
+                AttendanceCommand.ofClass(new ClassName(VALID_CLASS_MATH), AttendanceCommand.DEFAULT_ABSENT_SESSIONS)
+                        .since(from));
+        assertParseSuccess(parser, STUDENT_ID_DESC_AMY + " " + PREFIX_DATE + "2025-01-06",
+                AttendanceCommand.ofStudent(new IdentificationNumber(VALID_ID_AMY)).since(from));
+        assertParseFailure(parser, CLASS_DESC_MATH + " " + PREFIX_DATE + "06-01-2025",
+                ParserUtil.MESSAGE_INVALID_DATE);
+    }
+
+    @Test
+    public void parse_invalidFormat_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, AttendanceCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, CLASS_DESC_MATH + STUDENT_ID_DESC_AMY, expectedMessage);
+        assertParseFailure(parser, STUDENT_ID_DESC_AMY + " " + PREFIX_SESSIONS + "2", expectedMessage);
+        assertParseFailure(parser, "3" + CLASS_DESC_MATH, expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidSessions_failure() {
+        assertParseFailure(parser, CLASS_DESC_MATH + " " + PREFIX_SESSIONS + "0",
+                AttendanceCommandParser.MESSAGE_INVALID_SESSIONS);
+        assertParseFailure(parser, CLASS_DESC_MATH + " " + PREFIX_SESSIONS + "two",
+                AttendanceCommandParser.MESSAGE_INVALID_SESSIONS);
+        assertParseFailure(parser, CLASS_DESC_MATH + CLASS_DESC_MATH,
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_CLASS));
+    }
+}
@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.BackfillCommand;
+
+public class BackfillCommandParserTest {
+
+    private final BackfillCommandParser parser = new BackfillCommandParser();
+
+    @Test
+    public void parse_csvFile_returnsBackfillCommand() {
+        assertParseSuccess(parser, " data/register.csv", new BackfillCommand(Paths.get("data/register.csv")));
+        assertParseSuccess(parser, " REGISTER.CSV", new BackfillCommand(Paths.get("REGISTER.CSV")));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, " ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, BackfillCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " register.json", BackfillCommandParser.MESSAGE_NOT_CSV);
+    }
+}
@@ -4,16 +4,23 @@ import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.logic.commands.CommandTestUtil.CLASS_DESC_MATH;
 import static seedu.address.logic.commands.CommandTestUtil.INVALID_CLASS_NAME_DESC;
 import static seedu.address.logic.commands.CommandTestUtil.STUDENT_ID_DESC_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.TAG_DESC_FRIEND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_MATH;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ID_AMY;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_FRIEND;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.MarkCommand;
+import seedu.address.logic.commands.StudentSelector;
 import seedu.address.model.lesson.ClassName;
 import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.tag.Tag;
 
 public class MarkCommandParserTest {
 
@@ -28,6 +35,27 @@ public class MarkCommandParserTest {
                 new MarkCommand(expectedStudentId, expectedClassName));
     }
 
+    @Test
+    public void parse_severalStudents_success() {
+        ClassName expectedClassName = new ClassName(VALID_CLASS_MATH);
+        StudentSelector expectedStudents = StudentSelector.of(List.of(new IdentificationNumber(VALID_ID_AMY),
+                new IdentificationNumber("S0000002")), List.of(new Tag(VALID_TAG_FRIEND)));
+
+        assertParseSuccess(parser, STUDENT_ID_DESC_AMY + " " + PREFIX_ID + "S0000002" + TAG_DESC_FRIEND
+                + CLASS_DESC_MATH, new MarkCommand(expectedStudents, expectedClassName));
+        assertParseSuccess(parser, " " + MarkCommand.ALL_ENROLLED_WORD + CLASS_DESC_MATH,
+                new MarkCommand(StudentSelector.allEnrolled(), expectedClassName));
+    }
+
+    @Test
+    public void parse_allEnrolledWithStudents_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, " " + MarkCommand.ALL_ENROLLED_WORD + STUDENT_ID_DESC_AMY + CLASS_DESC_MATH,
+                expectedMessage);
+        assertParseFailure(parser, " " + MarkCommand.ALL_ENROLLED_WORD + TAG_DESC_FRIEND + CLASS_DESC_MATH,
+                expectedMessage);
+    }
+
     @Test
     public void parse_compulsoryFieldMissing_failure() {
         String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, MarkCommand.MESSAGE_USAGE);
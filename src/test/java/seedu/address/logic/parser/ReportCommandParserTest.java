@@ -0,0 +1,45 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.CLASS_DESC_MATH;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_MATH;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ReportCommand;
+import seedu.address.model.lesson.ClassName;
+
+public class ReportCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ReportCommand.MESSAGE_USAGE);
+
+    private final ReportCommandParser parser = new ReportCommandParser();
+    private final ClassName className = new ClassName(VALID_CLASS_MATH);
+
+    @Test
+    public void parse_validArgs_returnsReportCommand() {
+        assertParseSuccess(parser, CLASS_DESC_MATH + " dt/2026-01-05",
+                new ReportCommand(className, LocalDate.of(2026, 1, 5)));
+        assertParseSuccess(parser, CLASS_DESC_MATH + " dt/2026-01-05 to/2026-03-01",
+                new ReportCommand(className, LocalDate.of(2026, 1, 5), LocalDate.of(2026, 3, 1)));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, CLASS_DESC_MATH, MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " dt/2026-01-05", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " preamble" + CLASS_DESC_MATH + " dt/2026-01-05", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, CLASS_DESC_MATH + " dt/2026-01-05 to/01-03-2026", ParserUtil.MESSAGE_INVALID_DATE);
+        assertParseFailure(parser, CLASS_DESC_MATH + " dt/2026-03-01 to/2026-01-05",
+                ReportCommandParser.MESSAGE_END_BEFORE_START);
+        assertParseFailure(parser, CLASS_DESC_MATH + " dt/2026-01-05 dt/2026-01-06",
+                Messages.getErrorMessageForDuplicatePrefixes(CliSyntax.PREFIX_DATE));
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.commands.CommandTestUtil.CLASS_DESC_MATH;
+import static seedu.address.logic.commands.CommandTestUtil.INVALID_CLASS_NAME_DESC;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_MATH;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.RollCallCommand;
+import seedu.address.model.lesson.ClassName;
+
+public class RollCallCommandParserTest {
+
+    private final RollCallCommandParser parser = new RollCallCommandParser();
+
+    @Test
+    public void parse_classPresent_success() {
+        assertParseSuccess(parser, CLASS_DESC_MATH, new RollCallCommand(new ClassName(VALID_CLASS_MATH)));
+    }
+
+    @Test
+    public void parse_classMissing_failure() {
+        String expectedMessage = String.format(MESSAGE_INVALID_COMMAND_FORMAT, RollCallCommand.MESSAGE_USAGE);
+        assertParseFailure(parser, "", expectedMessage);
+        assertParseFailure(parser, VALID_CLASS_MATH, expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidClassName_failure() {
+        assertParseFailure(parser, INVALID_CLASS_NAME_DESC, ClassName.MESSAGE_CONSTRAINTS);
+    }
+}
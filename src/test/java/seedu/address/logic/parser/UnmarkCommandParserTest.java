@@ -7,8 +7,8 @@ import static seedu.address.logic.commands.CommandTestUtil.INVALID_STUDENT_ID_DE
 import static seedu.address.logic.commands.CommandTestUtil.STUDENT_ID_DESC_AMY;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CLASS_MATH;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ID_AMY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CLASS;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
-import static seedu.address.logic.parser.CliSyntax.PREFIX_ID;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
 import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
 
@@ -17,6 +17,8 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.commands.MarkCommand;
+import seedu.address.logic.commands.StudentSelector;
 import seedu.address.logic.commands.UnmarkCommand;
 import seedu.address.model.lesson.ClassName;
 import seedu.address.model.person.IdentificationNumber;
@@ -81,12 +83,27 @@ public class UnmarkCommandParserTest {
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
+    @Test
+    public void parse_allEnrolled_success() {
+        String userInput = " " + MarkCommand.ALL_ENROLLED_WORD + CLASS_DESC_MATH + " " + PREFIX_DATE + "2023-10-28";
+        UnmarkCommand expectedCommand = new UnmarkCommand(StudentSelector.allEnrolled(),
+                new ClassName(VALID_CLASS_MATH), Optional.of(LocalDate.of(2023, 10, 28)));
+        assertParseSuccess(parser, userInput, expectedCommand);
+    }
+
     @Test
     public void parse_duplicatePrefixes_failure() {
-        String userInput = STUDENT_ID_DESC_AMY + STUDENT_ID_DESC_AMY + CLASS_DESC_MATH;
+        // student IDs may be repeated, but not the class or the date
+        String userInput = STUDENT_ID_DESC_AMY + CLASS_DESC_MATH + CLASS_DESC_MATH;
+        assertParseFailure(parser,
+                userInput,
+                "Multiple values specified for the following single-valued field(s): " + PREFIX_CLASS);
+
+        userInput = STUDENT_ID_DESC_AMY + CLASS_DESC_MATH + " " + PREFIX_DATE + "2023-10-28 " + PREFIX_DATE
+                + "2023-10-29";
         assertParseFailure(parser,
                 userInput,
-                "Multiple values specified for the following single-valued field(s): " + PREFIX_ID);
+                "Multiple values specified for the following single-valued field(s): " + PREFIX_DATE);
     }
 
 }
@@ -6,6 +6,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.ENGLISH_C3C;
+import static seedu.address.testutil.TypicalLessons.MATH_A1A;
+import static seedu.address.testutil.TypicalLessons.SCIENCE_B2B;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
@@ -19,8 +22,10 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.lesson.Lesson;
+import seedu.address.model.lesson.Tutor;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.LessonBuilder;
 import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -84,6 +89,26 @@ public class AddressBookTest {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
     }
 
+    @Test
+    public void getLessonsByTutor_afterLessonChanges_tracksTutorLessons() {
+        Tutor mathTutor = MATH_A1A.getTutor();
+        addressBook.addLesson(MATH_A1A);
+        addressBook.addLesson(SCIENCE_B2B);
+        addressBook.addLesson(ENGLISH_C3C);
+        assertEquals(List.of(MATH_A1A, SCIENCE_B2B), addressBook.getLessonsByTutor(mathTutor));
+
+        Lesson reassignedScience = new LessonBuilder(SCIENCE_B2B).withTutor("T0000001").build();
+        addressBook.setLesson(SCIENCE_B2B, reassignedScience);
+        assertEquals(List.of(MATH_A1A), addressBook.getLessonsByTutor(mathTutor));
+        assertEquals(List.of(ENGLISH_C3C, reassignedScience), addressBook.getLessonsByTutor(new Tutor("T0000001")));
+
+        addressBook.removeLesson(MATH_A1A);
+        assertEquals(List.of(), addressBook.getLessonsByTutor(mathTutor));
+
+        addressBook.resetData(new AddressBook());
+        assertEquals(List.of(), addressBook.getLessonsByTutor(new Tutor("T0000001")));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = AddressBook.class.getCanonicalName() + "{persons=" + addressBook.getPersonList()
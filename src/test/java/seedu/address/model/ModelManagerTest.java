@@ -5,6 +5,7 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.MATH_A1A;
 import static seedu.address.testutil.TypicalLessons.getTypicalModelManager;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
@@ -12,11 +13,13 @@ import static seedu.address.testutil.TypicalPersons.BENSON;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.lesson.ClassName;
 import seedu.address.model.lesson.Lesson;
 import seedu.address.model.person.ContactMatchesPredicate;
 import seedu.address.model.person.Person;
@@ -92,6 +95,29 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void findPersonById_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.findPersonById(null));
+    }
+
+    @Test
+    public void findPersonById_consistentAcrossUndoRedo() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.deletePerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.commitAddressBook();
+        assertEquals(Optional.empty(), modelManager.findPersonById(ALICE.getId()));
+        assertEquals(Optional.of(BENSON), modelManager.findPersonById(BENSON.getId()));
+
+        modelManager.undoAddressBook();
+        assertEquals(Optional.of(ALICE), modelManager.findPersonById(ALICE.getId()));
+        assertEquals(Optional.empty(), modelManager.findPersonById(BENSON.getId()));
+
+        modelManager.redoAddressBook();
+        assertEquals(Optional.of(BENSON), modelManager.findPersonById(BENSON.getId()));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredPersonList().remove(0));
@@ -134,6 +160,22 @@ public class ModelManagerTest {
         assertFalse(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
 
+    @Test
+    public void getAddressBookSnapshot_laterChanges_notReflected() {
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            UserPrefs userPrefs = new UserPrefs();
+            userPrefs.setUndoHistoryMode(mode);
+            ModelManager model = new ModelManager(new AddressBookBuilder().withPerson(ALICE).build(), userPrefs);
+            ReadOnlyAddressBook snapshot = model.getAddressBookSnapshot();
+            assertEquals(model.getAddressBook(), new AddressBook(snapshot));
+
+            model.addPerson(BENSON);
+            model.deletePerson(ALICE);
+            assertEquals(List.of(ALICE), snapshot.getPersonList());
+            assertEquals(List.of(BENSON), model.getAddressBookSnapshot().getPersonList());
+        }
+    }
+
     @Test
     public void commitAddressBook_success() {
         ModelManager modelManager = new ModelManager();
@@ -249,6 +291,14 @@ public class ModelManagerTest {
         assertTrue(lessons.isEmpty());
     }
 
+    @Test
+    public void findLessonByClassName_existingAndMissingClass() {
+        Model model = getTypicalModelManager();
+        assertEquals(Optional.of(MATH_A1A), model.findLessonByClassName(new ClassName("A1a")));
+        assertEquals(Optional.empty(), model.findLessonByClassName(new ClassName("Z9z")));
+        assertThrows(NullPointerException.class, () -> model.findLessonByClassName(null));
+    }
+
     @Test
     public void getLessonsAssignedToTutor_nullTutor_throwsNullPointerException() {
         Model model = getTypicalModelManager();
@@ -18,4 +18,30 @@ public class UserPrefsTest {
         assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFilePath(null));
     }
 
+    @Test
+    public void setAddressBookFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFormat(null));
+    }
+
+    @Test
+    public void setUndoHistoryMode_nullMode_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setUndoHistoryMode(null));
+    }
+
+    @Test
+    public void setUndoHistoryLimits_negativeLimit_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setMaxUndoHistorySize(-1));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setMaxUndoHistoryBytes(-1));
+    }
+
+    @Test
+    public void setRollCallSettings_invalidValue_throwsIllegalArgumentException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setRollCallBatchSize(0));
+        assertThrows(IllegalArgumentException.class, () -> userPrefs.setRollCallFlushIntervalMillis(-1));
+    }
+
 }
@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -69,6 +70,117 @@ public class VersionedAddressBookTest {
         assertEquals(second, new AddressBook(versionedAddressBook));
     }
 
+    @Test
+    public void undoRedo_afterIndividualChanges_restoresEachVersion() {
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.addPerson(BENSON);
+        versionedAddressBook.commit("add");
+        AddressBook afterAdd = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.setPerson(ALICE, CARL);
+        versionedAddressBook.removePerson(BENSON);
+        versionedAddressBook.commit("edit");
+        AddressBook afterEdit = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.undo();
+        assertEquals(afterAdd, new AddressBook(versionedAddressBook));
+        versionedAddressBook.undo();
+        assertEquals(new AddressBook(), new AddressBook(versionedAddressBook));
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(afterEdit, new AddressBook(versionedAddressBook));
+
+        // changes made after an undo build on the restored version
+        versionedAddressBook.undo();
+        versionedAddressBook.removePerson(ALICE);
+        versionedAddressBook.commit("remove");
+        assertEquals(new AddressBookBuilder().withPerson(BENSON).build(),
+                new AddressBook(versionedAddressBook.getAddressBookStateList().get(2)));
+    }
+
+    @Test
+    public void deltaMode_undoRedo_restoresEachVersion() {
+        VersionedAddressBook deltaBook = new VersionedAddressBook(
+                new AddressBookBuilder().withPerson(ALICE).build(), UndoHistoryMode.DELTA);
+        AddressBook initial = new AddressBook(deltaBook);
+
+        deltaBook.addPerson(BENSON);
+        deltaBook.addPerson(CARL);
+        deltaBook.commit("add");
+        AddressBook afterAdd = new AddressBook(deltaBook);
+
+        deltaBook.removePerson(ALICE);
+        deltaBook.setPerson(CARL, DANIEL);
+        deltaBook.commit("edit");
+        AddressBook afterEdit = new AddressBook(deltaBook);
+
+        deltaBook.resetData(new AddressBookBuilder().withPerson(CARL).build());
+        deltaBook.commit("reset");
+
+        deltaBook.undo();
+        assertEquals(afterEdit, new AddressBook(deltaBook));
+        deltaBook.undo();
+        assertEquals(afterAdd, new AddressBook(deltaBook));
+        deltaBook.undo();
+        assertEquals(initial, new AddressBook(deltaBook));
+        assertFalse(deltaBook.canUndo());
+
+        deltaBook.redo();
+        deltaBook.redo();
+        assertEquals(afterEdit, new AddressBook(deltaBook));
+
+        // uncommitted changes are discarded along with the undone command
+        deltaBook.addPerson(ALICE);
+        deltaBook.undo();
+        assertEquals(afterAdd, new AddressBook(deltaBook));
+    }
+
+    @Test
+    public void setHistoryLimits_sizeExceeded_dropsOldestCommands() {
+        for (UndoHistoryMode mode : UndoHistoryMode.values()) {
+            VersionedAddressBook book = new VersionedAddressBook(new AddressBook(), mode);
+            book.setHistoryLimits(2, Long.MAX_VALUE);
+            book.addPerson(ALICE);
+            book.commit("alice");
+            book.addPerson(BENSON);
+            book.commit("benson");
+            book.addPerson(CARL);
+            book.commit("carl");
+
+            assertEquals(2, book.getHistorySize());
+            book.undo();
+            book.undo();
+            assertFalse(book.canUndo());
+            assertEquals(new AddressBookBuilder().withPerson(ALICE).build(), new AddressBook(book));
+
+            book.redo();
+            book.redo();
+            assertEquals(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build(),
+                    new AddressBook(book));
+        }
+    }
+
+    @Test
+    public void setHistoryLimits_memoryExceeded_keepsCurrentState() {
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.commit("alice");
+        versionedAddressBook.addPerson(BENSON);
+        versionedAddressBook.commit("benson");
+        assertTrue(versionedAddressBook.getEstimatedHistoryBytes() > 0);
+
+        versionedAddressBook.undo();
+        versionedAddressBook.setHistoryLimits(10, 0);
+
+        // states older than the current one are dropped, but the undone one can still be redone
+        assertFalse(versionedAddressBook.canUndo());
+        assertTrue(versionedAddressBook.canRedo());
+        assertEquals(1, versionedAddressBook.getHistorySize());
+
+        versionedAddressBook.redo();
+        assertEquals(new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build(),
+                new AddressBook(versionedAddressBook));
+    }
+
     @Test
     public void undo_withoutHistory_throwsException() {
         assertThrows(IllegalStateException.class, () -> versionedAddressBook.undo());
@@ -0,0 +1,168 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalDouble;
+import java.util.OptionalInt;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.IdentificationNumber;
+import seedu.address.testutil.LessonBuilder;
+
+public class AttendanceAnalyticsTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 1, 6);
+    private static final IdentificationNumber ALICE_ID = new IdentificationNumber("S0000001");
+    private static final IdentificationNumber BOB_ID = new IdentificationNumber("S0000002");
+    private static final IdentificationNumber CARL_ID = new IdentificationNumber("S0000003");
+    private static final ClassName MATH = new ClassName("A1a");
+
+    @Test
+    public void constructor_existingLessons_computesAggregates() {
+        Lesson lesson = new LessonBuilder().withClassName("A1a").withStudents("S0000001", "S0000002", "S0000003")
+                .withAttendance(Map.of(MONDAY, Set.of(ALICE_ID, BOB_ID),
+                        MONDAY.plusDays(7), Set.of(ALICE_ID),
+                        MONDAY.plusDays(14), Set.of(ALICE_ID)))
+                .build();
+        AttendanceAnalytics analytics = new AttendanceAnalytics(FXCollections.observableArrayList(lesson));
+
+        assertEquals(3, analytics.getSessionCount(MATH));
+        assertEquals(OptionalDouble.of(4.0 / 9), analytics.getAttendanceRate(MATH));
+        assertEquals(OptionalDouble.of(1.0 / 3), analytics.getAttendanceRate(MATH, BOB_ID));
+        assertEquals(OptionalDouble.of(1.0), analytics.getAttendanceRate(ALICE_ID));
+        assertEquals(OptionalInt.of(2), analytics.getAbsenceStreak(MATH, BOB_ID));
+        assertEquals(List.of(CARL_ID, BOB_ID), analytics.getStudentsAbsentFor(MATH, 2));
+        assertEquals(List.of(CARL_ID), analytics.getStudentsAbsentFor(MATH, 3));
+    }
+
+    @Test
+    public void getters_unknownClassOrStudent_returnEmpty() {
+        AttendanceAnalytics analytics = new AttendanceAnalytics(FXCollections.observableArrayList(
+                new LessonBuilder().withStudents("S0000001").build()));
+
+        assertEquals(0, analytics.getSessionCount(new ClassName("B1a")));
+        assertEquals(OptionalDouble.empty(), analytics.getAttendanceRate(MATH));
+        assertEquals(OptionalDouble.empty(), analytics.getAttendanceRate(MATH, BOB_ID));
+        assertEquals(OptionalDouble.empty(), analytics.getAttendanceRate(BOB_ID));
+        assertEquals(OptionalInt.empty(), analytics.getAbsenceStreak(MATH, BOB_ID));
+        assertEquals(OptionalInt.of(0), analytics.getAbsenceStreak(MATH, ALICE_ID));
+        assertTrue(analytics.getStudentsAbsentFor(new ClassName("B1a"), 1).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> analytics.getStudentsAbsentFor(MATH, 0));
+    }
+
+    @Test
+    public void randomLessonChanges_matchRecomputedAggregates() {
+        Random random = new Random(11);
+        ObservableList<Lesson> lessons = FXCollections.observableArrayList();
+        AttendanceAnalytics analytics = new AttendanceAnalytics(lessons);
+        List<List<Lesson>> savedStates = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = random.nextInt(20);
+            if (lessons.isEmpty() || operation == 0) {
+                String name = "C" + random.nextInt(6) + "a";
+                if (lessons.stream().noneMatch(lesson -> lesson.getClassName().fullClassName.equals(name))) {
+                    lessons.add(new LessonBuilder().withClassName(name).withStudents(randomIds(random)).build());
+                }
+                continue;
+            }
+
+            int index = random.nextInt(lessons.size());
+            Lesson lesson = lessons.get(index);
+            AttendanceRecord record = lesson.getAttendanceRecord();
+            LocalDate date = MONDAY.plusDays(7 * random.nextInt(10));
+            IdentificationNumber id = new IdentificationNumber("S", random.nextInt(20));
+            if (operation == 1) {
+                lessons.remove(index);
+            } else if (operation == 2) {
+                lessons.set(index, new Lesson(lesson.getClassName(), lesson.getDay(), lesson.getTime(),
+                        lesson.getTutor(), randomIds(random), record, lesson.getTags()));
+            } else if (operation == 3) {
+                // rebuilding the record gives it a different roster layout, and drops a date
+                Map<LocalDate, Set<IdentificationNumber>> attendance = record.toMap();
+                attendance.remove(date);
+                lessons.set(index, withRecord(lesson, AttendanceRecord.of(attendance)));
+            } else if (operation == 4) {
+                savedStates.add(new ArrayList<>(lessons));
+            } else if (operation == 5 && !savedStates.isEmpty()) {
+                // restores a whole earlier state, as undo does
+                lessons.setAll(savedStates.get(random.nextInt(savedStates.size())));
+            } else if (operation < 9) {
+                lessons.set(index, withRecord(lesson, record.withAbsent(date, id)));
+            } else {
+                lessons.set(index, withRecord(lesson, record.withPresent(date, id)));
+            }
+            assertMatchesRecomputed(lessons, analytics);
+        }
+    }
+
+    private static Set<IdentificationNumber> randomIds(Random random) {
+        Set<IdentificationNumber> ids = new HashSet<>();
+        for (int i = random.nextInt(12); i > 0; i--) {
+            ids.add(new IdentificationNumber("S", random.nextInt(20)));
+        }
+        return ids;
+    }
+
+    private static Lesson withRecord(Lesson lesson, AttendanceRecord record) {
+        return new Lesson(lesson.getClassName(), lesson.getDay(), lesson.getTime(), lesson.getTutor(),
+                lesson.getStudents(), record, lesson.getTags());
+    }
+
+    private static void assertMatchesRecomputed(List<Lesson> lessons, AttendanceAnalytics analytics) {
+        Map<IdentificationNumber, int[]> studentTotals = new HashMap<>();
+        for (Lesson lesson : lessons) {
+            ClassName className = lesson.getClassName();
+            Map<LocalDate, Set<IdentificationNumber>> attendance = lesson.getAttendanceRecord().toMap();
+            int sessions = attendance.size();
+            assertEquals(sessions, analytics.getSessionCount(className));
+
+            int classPresent = 0;
+            List<IdentificationNumber> expectedAbsentees = new ArrayList<>();
+            for (IdentificationNumber id : lesson.getStudents()) {
+                int present = (int) attendance.values().stream().filter(students -> students.contains(id)).count();
+                classPresent += present;
+                int[] totals = studentTotals.computeIfAbsent(id, unused -> new int[2]);
+                totals[0] += present;
+                totals[1] += sessions;
+
+                int streak = lesson.getAttendanceRecord().getAbsenceStreak(id);
+                assertEquals(OptionalInt.of(streak), analytics.getAbsenceStreak(className, id));
+                assertEquals(sessions == 0 ? OptionalDouble.empty() : OptionalDouble.of((double) present / sessions),
+                        analytics.getAttendanceRate(className, id));
+                if (streak >= 2) {
+                    expectedAbsentees.add(id);
+                }
+            }
+
+            OptionalDouble expectedRate = sessions == 0 || lesson.getStudents().isEmpty() ? OptionalDouble.empty()
+                    : OptionalDouble.of((double) classPresent / ((long) sessions * lesson.getStudents().size()));
+            assertEquals(expectedRate, analytics.getAttendanceRate(className));
+            expectedAbsentees.sort(Comparator.comparing((IdentificationNumber id) ->
+                    -lesson.getAttendanceRecord().getAbsenceStreak(id)).thenComparing(IdentificationNumber::getValue));
+            assertEquals(expectedAbsentees, analytics.getStudentsAbsentFor(className, 2));
+        }
+
+        for (int i = 0; i < 20; i++) {
+            IdentificationNumber id = new IdentificationNumber("S", i);
+            int[] totals = studentTotals.get(id);
+            OptionalDouble expectedRate = totals == null || totals[1] == 0 ? OptionalDouble.empty()
+                    : OptionalDouble.of((double) totals[0] / totals[1]);
+            assertEquals(expectedRate, analytics.getAttendanceRate(id));
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.IdentificationNumber;
+
+public class AttendanceRecordTest {
+
+    private static final LocalDate MONDAY = LocalDate.of(2025, 3, 3);
+    private static final LocalDate NEXT_MONDAY = LocalDate.of(2025, 3, 10);
+    private static final IdentificationNumber ALICE_ID = new IdentificationNumber("S0000001");
+    private static final IdentificationNumber BOB_ID = new IdentificationNumber("S0000002");
+
+    @Test
+    public void of_nullMap_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> AttendanceRecord.of(null));
+    }
+
+    @Test
+    public void of_emptyMap_returnsEmpty() {
+        assertTrue(AttendanceRecord.of(Map.of()).isEmpty());
+        assertEquals(AttendanceRecord.EMPTY, AttendanceRecord.of(new HashMap<>()));
+    }
+
+    @Test
+    public void queries_matchSourceMap() {
+        Map<LocalDate, Set<IdentificationNumber>> source = new HashMap<>();
+        source.put(NEXT_MONDAY, Set.of(BOB_ID));
+        source.put(MONDAY, Set.of(ALICE_ID, BOB_ID));
+        source.put(LocalDate.of(2025, 3, 17), Set.of());
+        AttendanceRecord record = AttendanceRecord.of(source);
+
+        assertEquals(source, record.toMap());
+        assertEquals(List.of(MONDAY, NEXT_MONDAY, LocalDate.of(2025, 3, 17)), record.getDates());
+        assertTrue(record.isPresent(MONDAY, new IdentificationNumber("s0000001")));
+        assertFalse(record.isPresent(NEXT_MONDAY, ALICE_ID));
+        assertFalse(record.isPresent(MONDAY, new IdentificationNumber("S0000003")));
+        assertTrue(record.hasDate(LocalDate.of(2025, 3, 17)));
+        assertFalse(record.hasDate(LocalDate.of(2025, 3, 24)));
+        assertEquals(Set.of(BOB_ID), record.getPresentStudents(NEXT_MONDAY));
+        assertEquals(Set.of(), record.getPresentStudents(LocalDate.of(2025, 3, 24)));
+    }
+
+    @Test
+    public void of_manyStudents_usesSeveralWordsPerDate() {
+        Set<IdentificationNumber> present = new HashSet<>();
+        for (int i = 0; i < 150; i += 3) {
+            present.add(new IdentificationNumber("S", i));
+        }
+        AttendanceRecord record = AttendanceRecord.of(Map.of(MONDAY, present));
+
+        assertEquals(present, record.getPresentStudents(MONDAY));
+        assertTrue(record.isPresent(MONDAY, new IdentificationNumber("S", 147)));
+        assertFalse(record.isPresent(MONDAY, new IdentificationNumber("S", 148)));
+    }
+
+    @Test
+    public void withPresentAndAbsent_leaveOriginalUnchanged() {
+        AttendanceRecord record = AttendanceRecord.of(Map.of(MONDAY, Set.of(ALICE_ID)));
+
+        AttendanceRecord marked = record.withPresent(NEXT_MONDAY, BOB_ID);
+        assertEquals(Map.of(MONDAY, Set.of(ALICE_ID), NEXT_MONDAY, Set.of(BOB_ID)), marked.toMap());
+        assertEquals(Map.of(MONDAY, Set.of(ALICE_ID, BOB_ID)), record.withPresent(MONDAY, BOB_ID).toMap());
+        assertSame(record, record.withPresent(MONDAY, ALICE_ID));
+
+        // unmarking keeps the date recorded
+        assertEquals(Map.of(MONDAY, Set.of()), record.withAbsent(MONDAY, ALICE_ID).toMap());
+        assertSame(record, record.withAbsent(MONDAY, BOB_ID));
+        assertSame(record, record.withAbsent(NEXT_MONDAY, ALICE_ID));
+
+        assertEquals(Map.of(MONDAY, Set.of(ALICE_ID)), record.toMap());
+    }
+
+    @Test
+    public void randomUpdates_matchMap() {
+        Random random = new Random(42);
+        Map<LocalDate, Set<IdentificationNumber>> expected = new HashMap<>();
+        AttendanceRecord actual = AttendanceRecord.EMPTY;
+
+        for (int i = 0; i < 3000; i++) {
+            // dates both before and after those already recorded, and more students than fit in one word
+            LocalDate date = MONDAY.plusDays(random.nextInt(120));
+            IdentificationNumber id = new IdentificationNumber("S", random.nextInt(100));
+            if (random.nextInt(4) == 0) {
+                if (expected.containsKey(date)) {
+                    expected.get(date).remove(id);
+                }
+                actual = actual.withAbsent(date, id);
+            } else {
+                expected.computeIfAbsent(date, unused -> new HashSet<>()).add(id);
+                actual = actual.withPresent(date, id);
+            }
+            // the hash code carried forward by each update matches that of the map
+            assertEquals(expected.hashCode(), actual.hashCode());
+        }
+        assertEquals(expected, actual.toMap());
+        assertEquals(AttendanceRecord.of(expected), actual);
+        assertEquals(expected.hashCode(), actual.hashCode());
+    }
+
+    @Test
+    public void getPresentStudents_dateRange() {
+        AttendanceRecord record = AttendanceRecord.EMPTY
+                .withPresent(MONDAY, ALICE_ID)
+                .withPresent(NEXT_MONDAY, BOB_ID);
+        assertEquals(Set.of(ALICE_ID, BOB_ID), record.getPresentStudents(MONDAY, NEXT_MONDAY));
+        assertEquals(Set.of(ALICE_ID), record.getPresentStudents(MONDAY.minusDays(3), NEXT_MONDAY.minusDays(1)));
+        assertEquals(Set.of(BOB_ID), record.getPresentStudents(MONDAY.plusDays(1), LocalDate.MAX));
+        assertTrue(record.getPresentStudents(NEXT_MONDAY, MONDAY).isEmpty());
+    }
+
+    @Test
+    public void onDates() {
+        AttendanceRecord record = AttendanceRecord.EMPTY
+                .withPresent(MONDAY, ALICE_ID)
+                .withPresent(NEXT_MONDAY, BOB_ID);
+        assertSame(record, record.onDates(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(AttendanceRecord.of(Map.of(MONDAY, Set.of(ALICE_ID))), record.onDates(MONDAY, MONDAY));
+        assertEquals(AttendanceRecord.of(Map.of(NEXT_MONDAY, Set.of(BOB_ID))),
+                record.onDates(MONDAY.plusDays(1), LocalDate.MAX));
+        assertSame(AttendanceRecord.EMPTY, record.onDates(MONDAY.plusDays(1), NEXT_MONDAY.minusDays(1)));
+        assertSame(AttendanceRecord.EMPTY, record.onDates(NEXT_MONDAY, MONDAY));
+
+        // the sub-record can be changed like any other record
+        AttendanceRecord lastWeek = record.onDates(MONDAY, MONDAY).withPresent(MONDAY, BOB_ID);
+        assertEquals(Set.of(ALICE_ID, BOB_ID), lastWeek.getPresentStudents(MONDAY));
+        assertEquals(Set.of(ALICE_ID), record.getPresentStudents(MONDAY));
+    }
+
+    @Test
+    public void rangeQueries_randomRecords_matchScanOfMap() {
+        Random random = new Random(5);
+        for (int trial = 0; trial < 50; trial++) {
+            Map<LocalDate, Set<IdentificationNumber>> attendance = new HashMap<>();
+            for (int i = random.nextInt(80); i > 0; i--) {
+                Set<IdentificationNumber> present = new HashSet<>();
+                for (int j = random.nextInt(10); j > 0; j--) {
+                    present.add(new IdentificationNumber("S", random.nextInt(100)));
+                }
+                attendance.put(MONDAY.plusDays(random.nextInt(300)), present);
+            }
+            AttendanceRecord record = AttendanceRecord.of(attendance);
+
+            LocalDate from = MONDAY.plusDays(random.nextInt(320) - 10);
+            LocalDate to = from.plusDays(random.nextInt(200) - 20);
+            Map<IdentificationNumber, Integer> expectedCounts = new HashMap<>();
+            int expectedSessions = 0;
+            for (Map.Entry<LocalDate, Set<IdentificationNumber>> entry : attendance.entrySet()) {
+                if (!entry.getKey().isBefore(from) && !entry.getKey().isAfter(to)) {
+                    expectedSessions++;
+                    entry.getValue().forEach(id -> expectedCounts.merge(id, 1, Integer::sum));
+                }
+            }
+            assertEquals(expectedSessions, record.getSessionCount(from, to));
+            assertEquals(expectedCounts, record.getPresentCounts(from, to));
+        }
+    }
+
+    @Test
+    public void getPresentCounts_dateRange() {
+        AttendanceRecord record = AttendanceRecord.of(Map.of(MONDAY, Set.of(ALICE_ID, BOB_ID),
+                NEXT_MONDAY, Set.of(BOB_ID), NEXT_MONDAY.plusDays(7), Set.of()));
+        assertEquals(3, record.getSessionCount(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(Map.of(ALICE_ID, 1, BOB_ID, 2), record.getPresentCounts(LocalDate.MIN, LocalDate.MAX));
+        assertEquals(2, record.getSessionCount(MONDAY.plusDays(1), LocalDate.MAX));
+        assertEquals(Map.of(BOB_ID, 1), record.getPresentCounts(MONDAY.plusDays(1), LocalDate.MAX));
+        assertEquals(0, record.getSessionCount(NEXT_MONDAY, MONDAY));
+        assertTrue(record.getPresentCounts(NEXT_MONDAY, MONDAY).isEmpty());
+    }
+
+    @Test
+    public void getAbsenceStreak() {
+        AttendanceRecord record = AttendanceRecord.of(Map.of(MONDAY, Set.of(ALICE_ID, BOB_ID),
+                NEXT_MONDAY, Set.of(BOB_ID)));
+        assertEquals(0, record.getAbsenceStreak(BOB_ID));
+        assertEquals(1, record.getAbsenceStreak(ALICE_ID));
+        assertEquals(2, record.getAbsenceStreak(new IdentificationNumber("S", 9)));
+        assertEquals(0, AttendanceRecord.EMPTY.getAbsenceStreak(ALICE_ID));
+    }
+
+    @Test
+    public void forEachChangeSince_randomUpdates_reportsEveryDifference() {
+        Random random = new Random(7);
+        AttendanceRecord previous = AttendanceRecord.EMPTY;
+        for (int i = 0; i < 500; i++) {
+            AttendanceRecord current = previous;
+            for (int j = random.nextInt(4); j >= 0; j--) {
+                LocalDate date = MONDAY.plusDays(random.nextInt(40));
+                IdentificationNumber id = new IdentificationNumber("S", random.nextInt(80));
+                current = random.nextInt(3) == 0 ? current.withAbsent(date, id) : current.withPresent(date, id);
+            }
+            // records rebuilt from a map have their own roster layout, and may drop dates
+            if (random.nextInt(10) == 0) {
+                Map<LocalDate, Set<IdentificationNumber>> attendance = current.toMap();
+                attendance.keySet().removeIf(unused -> random.nextInt(4) == 0);
+                current = AttendanceRecord.of(attendance);
+            }
+            assertEquals(current.toMap(), replayChanges(previous, current));
+            previous = current;
+        }
+    }
+
+    /**
+     * Returns the attendance of {@code previous} with the changes reported by {@code current} applied.
+     */
+    private static Map<LocalDate, Set<IdentificationNumber>> replayChanges(AttendanceRecord previous,
+                                                                           AttendanceRecord current) {
+        Map<LocalDate, Set<IdentificationNumber>> attendance = previous.toMap();
+        current.forEachChangeSince(previous, new AttendanceRecord.ChangeListener() {
+            @Override
+            public void sessionAdded(LocalDate date, Set<IdentificationNumber> presentStudents) {
+                assertFalse(attendance.containsKey(date));
+                attendance.put(date, new HashSet<>(presentStudents));
+            }
+
+            @Override
+            public void sessionRemoved(LocalDate date, Set<IdentificationNumber> presentStudents) {
+                assertEquals(attendance.remove(date), presentStudents);
+            }
+
+            @Override
+            public void presenceChanged(LocalDate date, IdentificationNumber id, boolean isPresent) {
+                assertTrue(isPresent ? attendance.get(date).add(id) : attendance.get(date).remove(id));
+            }
+        });
+        return attendance;
+    }
+
+    @Test
+    public void equals() {
+        AttendanceRecord record = AttendanceRecord.of(Map.of(MONDAY, Set.of(ALICE_ID)));
+
+        // same attendance -> returns true
+        assertEquals(record, AttendanceRecord.of(Map.of(MONDAY, Set.of(ALICE_ID))));
+        AttendanceRecord widerRoster = AttendanceRecord.of(Map.of(MONDAY, Set.of(ALICE_ID),
+                NEXT_MONDAY, Set.of(BOB_ID)));
+        assertNotEquals(record, widerRoster);
+        assertEquals(record.hashCode(), AttendanceRecord.of(record.toMap()).hashCode());
+        assertEquals(Map.of(MONDAY, Set.of(ALICE_ID)).hashCode(), record.hashCode());
+
+        // date with nobody present differs from no date at all
+        assertNotEquals(AttendanceRecord.EMPTY, AttendanceRecord.of(Map.of(MONDAY, Set.of())));
+
+        // different students -> returns false
+        assertNotEquals(record, AttendanceRecord.of(Map.of(MONDAY, Set.of(BOB_ID))));
+    }
+
+}
@@ -6,6 +6,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -69,6 +70,40 @@ public class UniqueLessonListTest {
         assertThrows(DuplicateLessonException.class, () -> uniqueLessonList.setLessons(duplicates));
     }
 
+    @Test
+    public void findByClassName_afterAddSetAndRemove_returnsCurrentLesson() {
+        Lesson chemistryLesson = new LessonBuilder().withClassName("C3c").withDay("wednesday").build();
+        uniqueLessonList.add(mathLesson);
+        uniqueLessonList.add(physicsLesson);
+        uniqueLessonList.add(chemistryLesson);
+        assertEquals(Optional.of(physicsLesson), uniqueLessonList.findByClassName(physicsLesson.getClassName()));
+
+        Lesson renamedPhysics = new LessonBuilder(physicsLesson).withClassName("B2c").build();
+        uniqueLessonList.setLesson(physicsLesson, renamedPhysics);
+        assertEquals(Optional.empty(), uniqueLessonList.findByClassName(physicsLesson.getClassName()));
+        assertEquals(Optional.of(renamedPhysics), uniqueLessonList.findByClassName(renamedPhysics.getClassName()));
+
+        uniqueLessonList.remove(mathLesson);
+        assertFalse(uniqueLessonList.contains(mathLesson));
+        assertEquals(Optional.of(renamedPhysics), uniqueLessonList.findByClassName(renamedPhysics.getClassName()));
+        assertEquals(Optional.of(chemistryLesson), uniqueLessonList.findByClassName(chemistryLesson.getClassName()));
+    }
+
+    @Test
+    public void setLesson_targetNotInList_throwsLessonNotFoundException() {
+        uniqueLessonList.add(mathLesson);
+        Lesson editedMath = new LessonBuilder(mathLesson).withDay("friday").build();
+        assertThrows(LessonNotFoundException.class, () -> uniqueLessonList.setLesson(editedMath, physicsLesson));
+    }
+
+    @Test
+    public void setLessons_withValidList_rebuildsClassNameIndex() {
+        uniqueLessonList.add(mathLesson);
+        uniqueLessonList.setLessons(List.of(physicsLesson));
+        assertEquals(Optional.empty(), uniqueLessonList.findByClassName(mathLesson.getClassName()));
+        assertEquals(Optional.of(physicsLesson), uniqueLessonList.findByClassName(physicsLesson.getClassName()));
+    }
+
     @Test
     public void equals_sameContents_returnsTrue() {
         UniqueLessonList anotherList = new UniqueLessonList();
@@ -0,0 +1,97 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalLessons.ENGLISH_C3C;
+import static seedu.address.testutil.TypicalLessons.MATH_A1A;
+import static seedu.address.testutil.TypicalLessons.PHYSICS_D4D;
+import static seedu.address.testutil.TypicalLessons.SCIENCE_B2B;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.testutil.LessonBuilder;
+
+public class WeeklyOccupancyTest {
+
+    @Test
+    public void ofSlots_invalidRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> WeeklyOccupancy.ofSlots(-1, 10));
+        assertThrows(IllegalArgumentException.class, () -> WeeklyOccupancy.ofSlots(10, 5));
+        assertThrows(IllegalArgumentException.class, () ->
+                WeeklyOccupancy.ofSlots(0, WeeklyOccupancy.SLOTS_PER_WEEK + 1));
+    }
+
+    @Test
+    public void ofSlots_emptyRange_isEmpty() {
+        assertTrue(WeeklyOccupancy.ofSlots(100, 100).isEmpty());
+        assertEquals(WeeklyOccupancy.EMPTY, WeeklyOccupancy.ofSlots(100, 100));
+    }
+
+    @Test
+    public void overlaps_slotRanges() {
+        // ranges are half-open, so touching ranges do not overlap
+        assertFalse(WeeklyOccupancy.ofSlots(0, 64).overlaps(WeeklyOccupancy.ofSlots(64, 128)));
+        assertFalse(WeeklyOccupancy.ofSlots(10, 70).overlaps(WeeklyOccupancy.ofSlots(70, 75)));
+        assertTrue(WeeklyOccupancy.ofSlots(10, 71).overlaps(WeeklyOccupancy.ofSlots(70, 75)));
+
+        // ranges spanning several words
+        assertTrue(WeeklyOccupancy.ofSlots(0, 500).overlaps(WeeklyOccupancy.ofSlots(499, 501)));
+        assertTrue(WeeklyOccupancy.ofSlots(200, 201).overlaps(WeeklyOccupancy.ofSlots(0, 1000)));
+
+        // last slot of the week
+        int last = WeeklyOccupancy.SLOTS_PER_WEEK;
+        assertTrue(WeeklyOccupancy.ofSlots(last - 1, last).overlaps(WeeklyOccupancy.ofSlots(last - 10, last)));
+
+        assertFalse(WeeklyOccupancy.EMPTY.overlaps(WeeklyOccupancy.ofSlots(0, last)));
+    }
+
+    @Test
+    public void union_combinesSlots() {
+        WeeklyOccupancy combined = WeeklyOccupancy.ofSlots(0, 10).union(WeeklyOccupancy.ofSlots(5000, 5010));
+        assertTrue(combined.overlaps(WeeklyOccupancy.ofSlots(9, 10)));
+        assertTrue(combined.overlaps(WeeklyOccupancy.ofSlots(5009, 6000)));
+        assertFalse(combined.overlaps(WeeklyOccupancy.ofSlots(10, 5000)));
+
+        assertEquals(WeeklyOccupancy.ofSlots(0, 20),
+                WeeklyOccupancy.ofSlots(0, 10).union(WeeklyOccupancy.ofSlots(10, 20)));
+        assertEquals(combined, combined.union(WeeklyOccupancy.EMPTY));
+    }
+
+    @Test
+    public void minus_removesSlots() {
+        WeeklyOccupancy combined = WeeklyOccupancy.ofSlots(0, 10).union(WeeklyOccupancy.ofSlots(5000, 5010));
+        assertEquals(WeeklyOccupancy.ofSlots(5000, 5010), combined.minus(WeeklyOccupancy.ofSlots(0, 10)));
+        assertEquals(WeeklyOccupancy.ofSlots(0, 5),
+                WeeklyOccupancy.ofSlots(0, 10).minus(WeeklyOccupancy.ofSlots(5, 70)));
+        assertTrue(combined.minus(combined).isEmpty());
+        assertEquals(combined, combined.minus(WeeklyOccupancy.ofSlots(100, 200)));
+        assertEquals(combined, combined.minus(WeeklyOccupancy.EMPTY));
+    }
+
+    @Test
+    public void of_lessons() {
+        // Monday 1200-1400 and Monday 1300-1500
+        assertTrue(MATH_A1A.getOccupancy().overlaps(SCIENCE_B2B.getOccupancy()));
+        // Monday and Wednesday
+        assertFalse(MATH_A1A.getOccupancy().overlaps(ENGLISH_C3C.getOccupancy()));
+
+        WeeklyOccupancy timetable = WeeklyOccupancy.of(List.of(MATH_A1A, ENGLISH_C3C));
+        assertTrue(timetable.overlaps(SCIENCE_B2B.getOccupancy()));
+        assertFalse(timetable.overlaps(PHYSICS_D4D.getOccupancy()));
+
+        // lessons without a day or time occupy nothing
+        assertTrue(WeeklyOccupancy.of(Lesson.makeLessonTest("Z9z")).isEmpty());
+    }
+
+    @Test
+    public void of_dayCapitalisation_ignored() {
+        Lesson upperCase = new LessonBuilder(MATH_A1A).withClassName("Z9z").withDay("MONDAY").build();
+        assertEquals(MATH_A1A.getOccupancy(), upperCase.getOccupancy());
+        assertTrue(upperCase.hasOverlapsWith(MATH_A1A));
+    }
+
+}
@@ -0,0 +1,98 @@
+package seedu.address.model.lesson;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.IdentificationNumber;
+import seedu.address.testutil.LessonBuilder;
+
+public class WeeklyPresenceTest {
+
+    // A Wednesday
+    private static final LocalDate TODAY = LocalDate.of(2025, 3, 5);
+    private static final IdentificationNumber ALICE_ID = new IdentificationNumber("S0000001");
+    private static final IdentificationNumber BOB_ID = new IdentificationNumber("S0000002");
+    private static final ClassName MATH = new ClassName("A1a");
+
+    private final MutableClock clock = new MutableClock();
+    private final Lesson math = new LessonBuilder().withClassName("A1a").withStudents("S0000001", "S0000002").build();
+
+    @Test
+    public void isPresentThisWeek_marksFromMondayToToday() {
+        Lesson marked = withRecord(math, AttendanceRecord.EMPTY
+                .withPresent(TODAY.minusDays(2), ALICE_ID) // Monday
+                .withPresent(TODAY.minusDays(3), BOB_ID) // last Sunday
+                .withPresent(TODAY.plusDays(1), BOB_ID)); // tomorrow
+        WeeklyPresence presence = new WeeklyPresence(FXCollections.observableArrayList(marked), clock);
+
+        assertTrue(presence.isPresentThisWeek(MATH, ALICE_ID));
+        assertFalse(presence.isPresentThisWeek(MATH, BOB_ID));
+        assertFalse(presence.isPresentThisWeek(new ClassName("B1a"), ALICE_ID));
+
+        // the next day includes tomorrow's mark, and the next week starts afresh
+        clock.setDate(TODAY.plusDays(1));
+        assertTrue(presence.isPresentThisWeek(MATH, BOB_ID));
+        clock.setDate(TODAY.plusDays(5));
+        assertFalse(presence.isPresentThisWeek(MATH, ALICE_ID));
+        assertFalse(presence.isPresentThisWeek(MATH, BOB_ID));
+    }
+
+    @Test
+    public void isPresentThisWeek_lessonChanges_followed() {
+        ObservableList<Lesson> lessons = FXCollections.observableArrayList(math);
+        WeeklyPresence presence = new WeeklyPresence(lessons, clock);
+        assertFalse(presence.isPresentThisWeek(MATH, ALICE_ID));
+
+        Lesson marked = withRecord(math, math.getAttendanceRecord().withPresent(TODAY, ALICE_ID));
+        lessons.set(0, marked);
+        assertTrue(presence.isPresentThisWeek(MATH, ALICE_ID));
+
+        // restoring an earlier state, as undo does
+        lessons.setAll(List.of(math));
+        assertFalse(presence.isPresentThisWeek(MATH, ALICE_ID));
+
+        lessons.setAll(List.of(marked));
+        assertTrue(presence.isPresentThisWeek(MATH, ALICE_ID));
+        lessons.clear();
+        assertFalse(presence.isPresentThisWeek(MATH, ALICE_ID));
+    }
+
+    private static Lesson withRecord(Lesson lesson, AttendanceRecord record) {
+        return new Lesson(lesson.getClassName(), lesson.getDay(), lesson.getTime(), lesson.getTutor(),
+                lesson.getStudents(), record, lesson.getTags());
+    }
+
+    private static class MutableClock extends Clock {
+        private Instant instant = TODAY.atTime(9, 0).toInstant(ZoneOffset.UTC);
+
+        void setDate(LocalDate date) {
+            instant = date.atTime(9, 0).toInstant(ZoneOffset.UTC);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -2,16 +2,21 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 
@@ -162,6 +167,106 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void findById_nullId_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniquePersonList.findById(null));
+    }
+
+    @Test
+    public void findById_personNotInList_returnsEmpty() {
+        assertEquals(Optional.empty(), uniquePersonList.findById(ALICE.getId()));
+    }
+
+    @Test
+    public void findById_afterAddAndSet_returnsCurrentPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        assertEquals(Optional.of(BENSON), uniquePersonList.findById(BENSON.getId()));
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        uniquePersonList.setPerson(ALICE, editedAlice);
+        assertEquals(Optional.of(editedAlice), uniquePersonList.findById(ALICE.getId()));
+
+        uniquePersonList.setPerson(editedAlice, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.findById(ALICE.getId()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findById(BOB.getId()));
+    }
+
+    @Test
+    public void findById_afterRemove_shiftsRemainingPositions() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Optional.empty(), uniquePersonList.findById(ALICE.getId()));
+        assertEquals(Optional.of(BENSON), uniquePersonList.findById(BENSON.getId()));
+        assertEquals(Optional.of(BOB), uniquePersonList.findById(BOB.getId()));
+
+        uniquePersonList.remove(BOB);
+        assertEquals(Optional.of(BENSON), uniquePersonList.findById(BENSON.getId()));
+    }
+
+    @Test
+    public void findById_afterSetPersons_reflectsReplacement() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Arrays.asList(BOB, BENSON));
+        assertEquals(Optional.empty(), uniquePersonList.findById(ALICE.getId()));
+        assertEquals(Optional.of(BENSON), uniquePersonList.findById(BENSON.getId()));
+
+        UniquePersonList replacement = new UniquePersonList();
+        replacement.add(ALICE);
+        uniquePersonList.setPersons(replacement);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findById(ALICE.getId()));
+        assertEquals(Optional.empty(), uniquePersonList.findById(BOB.getId()));
+    }
+
+    @Test
+    public void remove_personSharingIdWithAnother_removesExactPerson() {
+        Person aliceTwin = new PersonBuilder(BOB).withId(ALICE.getId().getValue()).build();
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(aliceTwin);
+        uniquePersonList.remove(aliceTwin);
+        assertEquals(Optional.of(ALICE), uniquePersonList.findById(ALICE.getId()));
+        uniquePersonList.add(aliceTwin);
+        uniquePersonList.remove(ALICE);
+        assertEquals(Optional.of(aliceTwin), uniquePersonList.findById(ALICE.getId()));
+    }
+
+    @Test
+    public void contains_afterRemove_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterSetPersonWithNewIdentity_tracksEditedIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void setPersons_largeList_scalesLinearly() {
+        // A pairwise uniqueness check takes over a billion comparisons for this many persons.
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 50_000; i++) {
+            persons.add(new PersonBuilder().withPhone(String.format("9%07d", i)).withId(String.format("S%07d", i))
+                    .build());
+        }
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            uniquePersonList.setPersons(persons);
+            uniquePersonList.setPersons(persons);
+        });
+        assertTrue(uniquePersonList.contains(persons.get(49_999)));
+
+        persons.add(persons.get(0));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(persons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
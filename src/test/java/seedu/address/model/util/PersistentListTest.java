@@ -0,0 +1,88 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_hasNoElements() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertEquals(List.of(), list.toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(0));
+    }
+
+    @Test
+    public void of_keepsOrder() {
+        List<Integer> elements = List.of(5, 3, 9, 1, 7);
+        PersistentList<Integer> list = PersistentList.of(elements);
+        assertEquals(elements, list.toList());
+        assertEquals(9, list.get(2));
+    }
+
+    @Test
+    public void updates_leaveOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.of(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "x", "c"), original.set(1, "x").toList());
+        assertEquals(List.of("x", "a", "b", "c"), original.add(0, "x").toList());
+        assertEquals(List.of("a", "b", "c", "x"), original.add(3, "x").toList());
+        assertEquals(List.of("a", "c"), original.remove(1).toList());
+
+        assertEquals(List.of("a", "b", "c"), original.toList());
+        assertThrows(IndexOutOfBoundsException.class, () -> original.add(4, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> original.set(3, "x"));
+    }
+
+    @Test
+    public void differingIndices() {
+        List<String> elements = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            elements.add("e" + i);
+        }
+        PersistentList<String> original = PersistentList.of(elements);
+
+        assertEquals(List.of(), original.differingIndices(original));
+        assertEquals(List.of(3, 70), original.set(70, "x").set(3, "y").differingIndices(original));
+        // reshaped by an insertion and a removal
+        assertEquals(List.of(10, 11, 12), original.add(10, "x").remove(13).differingIndices(original));
+        assertThrows(IllegalArgumentException.class, () -> original.remove(0).differingIndices(original));
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+            assertEquals(expected.size(), actual.size());
+        }
+        assertEquals(expected, actual.toList());
+    }
+
+}
@@ -0,0 +1,100 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalLessons.getTypicalModelManager;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookFormat;
+
+public class AddressBookStorageFactoryTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void create_eachFormat_storageOfFormat() {
+        Path filePath = testFolder.resolve("rollcall.json");
+        assertTrue(AddressBookStorageFactory.create(AddressBookFormat.JSON, filePath)
+                instanceof JournalAddressBookStorage);
+        AddressBookStorage binaryStorage = AddressBookStorageFactory.create(AddressBookFormat.BINARY, filePath);
+        assertTrue(binaryStorage instanceof BinaryAddressBookStorage);
+        assertEquals(testFolder.resolve("rollcall.rcab"), binaryStorage.getAddressBookFilePath());
+        AddressBookStorage shardedStorage = AddressBookStorageFactory.create(AddressBookFormat.SHARDED, filePath);
+        assertTrue(shardedStorage instanceof ShardedAddressBookStorage);
+        assertEquals(testFolder.resolve("rollcall.shards"), shardedStorage.getAddressBookFilePath());
+    }
+
+    @Test
+    public void create_compactJson_savesWithoutLineBreaksAndReadsBack() throws Exception {
+        Path filePath = testFolder.resolve("rollcall.json");
+        AddressBook addressBook = new AddressBook(getTypicalModelManager().getAddressBook());
+        AddressBookStorageFactory.create(AddressBookFormat.JSON, filePath, true).saveAddressBook(addressBook);
+
+        assertFalse(Files.readString(filePath).contains("\n"));
+        assertEquals(addressBook, AddressBookStorageFactory.create(AddressBookFormat.JSON, filePath, true)
+                .readAddressBook().get());
+        assertEquals(addressBook, AddressBookStorageFactory.create(AddressBookFormat.JSON, filePath)
+                .readAddressBook().get());
+    }
+
+    @Test
+    public void convertToFormat_bothWays_lossless() throws Exception {
+        Path filePath = testFolder.resolve("rollcall.json");
+        AddressBook addressBook = new AddressBook(getTypicalModelManager().getAddressBook());
+        JournalAddressBookStorage jsonStorage = new JournalAddressBookStorage(filePath);
+        jsonStorage.saveAddressBook(new AddressBook(addressBook));
+        // a change kept only in the journal is converted too
+        addressBook.removePerson(ALICE);
+        jsonStorage.saveAddressBook(new AddressBook(addressBook));
+
+        assertTrue(AddressBookStorageFactory.convertToFormat(AddressBookFormat.BINARY, filePath));
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(jsonStorage.getJournalFilePath()));
+        assertTrue(Files.exists(testFolder.resolve("rollcall.json" + AddressBookStorageFactory.CONVERTED_SUFFIX)));
+        AddressBookStorage binaryStorage = AddressBookStorageFactory.create(AddressBookFormat.BINARY, filePath);
+        assertEquals(addressBook, binaryStorage.readAddressBook().get());
+
+        // data already in the chosen format is not converted again
+        assertFalse(AddressBookStorageFactory.convertToFormat(AddressBookFormat.BINARY, filePath));
+
+        addressBook.addPerson(HOON);
+        binaryStorage.saveAddressBook(addressBook);
+        assertTrue(AddressBookStorageFactory.convertToFormat(AddressBookFormat.JSON, filePath));
+        assertFalse(Files.exists(binaryStorage.getAddressBookFilePath()));
+        assertEquals(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void convertToFormat_shardedBothWays_lossless() throws Exception {
+        Path filePath = testFolder.resolve("rollcall.json");
+        AddressBook addressBook = new AddressBook(getTypicalModelManager().getAddressBook());
+        AddressBookStorageFactory.create(AddressBookFormat.BINARY, filePath).saveAddressBook(addressBook);
+
+        assertTrue(AddressBookStorageFactory.convertToFormat(AddressBookFormat.SHARDED, filePath));
+        assertTrue(Files.exists(testFolder.resolve("rollcall.rcab" + AddressBookStorageFactory.CONVERTED_SUFFIX)));
+        AddressBookStorage shardedStorage = AddressBookStorageFactory.create(AddressBookFormat.SHARDED, filePath);
+        assertEquals(addressBook, shardedStorage.readAddressBook().get());
+        assertFalse(AddressBookStorageFactory.convertToFormat(AddressBookFormat.SHARDED, filePath));
+
+        assertTrue(AddressBookStorageFactory.convertToFormat(AddressBookFormat.JSON, filePath));
+        assertFalse(Files.exists(shardedStorage.getAddressBookFilePath()));
+        assertTrue(Files.exists(testFolder.resolve("rollcall.shards" + AddressBookStorageFactory.CONVERTED_SUFFIX)));
+        assertEquals(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void convertToFormat_noData_nothingConverted() throws Exception {
+        assertFalse(AddressBookStorageFactory.convertToFormat(AddressBookFormat.BINARY,
+                testFolder.resolve("rollcall.json")));
+    }
+}
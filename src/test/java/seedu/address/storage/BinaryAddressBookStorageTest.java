@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.MATH_A1A;
+import static seedu.address.testutil.TypicalLessons.getTypicalModelManager;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private AddressBook addressBook;
+    private Person aliceAbroad;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressBook.rcab");
+        addressBook = new AddressBook(getTypicalModelManager().getAddressBook());
+        // attendance before 1970, and of a student no longer in the lesson
+        addressBook.setLesson(MATH_A1A, new LessonBuilder(MATH_A1A)
+                .withAttendance(Map.of(
+                        LocalDate.of(1969, 12, 1), Set.of(new IdentificationNumber("S0000001")),
+                        LocalDate.of(2025, 1, 6), Set.of(new IdentificationNumber("T9999999")),
+                        LocalDate.of(2025, 1, 13), Set.of()))
+                .build());
+        aliceAbroad = new PersonBuilder(ALICE).withAddress("Straße 1, 東京").build();
+        addressBook.setPerson(ALICE, aliceAbroad);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, storage.readAddressBook().get());
+
+        addressBook.removePerson(aliceAbroad);
+        storage.saveAddressBook(addressBook);
+        assertEquals(addressBook, storage.readAddressBook().get());
+
+        storage.saveAddressBook(new AddressBook());
+        assertEquals(new AddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void readAddressBook_mapped_sameAsRead() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(addressBook);
+        assertEquals(addressBook, new BinaryAddressBookStorage(filePath, 0).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_convertedFromJson_sameAsJson() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(addressBook);
+        AddressBook fromJson = new AddressBook(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get());
+
+        new BinaryAddressBookStorage(filePath).saveAddressBook(fromJson);
+        AddressBook fromBinary = new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(fromJson, fromBinary);
+
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(fromBinary);
+        assertEquals(addressBook, new JsonAddressBookStorage(jsonFilePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_damagedFile_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(addressBook);
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        byte[] corrupted = bytes.clone();
+        corrupted[bytes.length / 2] ^= 1;
+        assertReadFails(storage, corrupted, BinaryAddressBookReader.MESSAGE_CORRUPTED);
+
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+        assertReadFails(storage, truncated, BinaryAddressBookReader.MESSAGE_CORRUPTED);
+
+        assertReadFails(storage, "{\"persons\": []}".getBytes(), BinaryAddressBookReader.MESSAGE_NOT_BINARY);
+    }
+
+    @Test
+    public void readAddressBook_newerVersion_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[BinaryAddressBookStorage.MAGIC.length] = BinaryAddressBookStorage.FORMAT_VERSION + 1;
+        // the checksum of the changed file is recomputed, so that only the version is wrong
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, bytes.length - Integer.BYTES);
+        ByteBuffer.wrap(bytes).putInt(bytes.length - Integer.BYTES, (int) crc.getValue());
+
+        assertReadFails(storage, bytes,
+                String.format(BinaryAddressBookReader.MESSAGE_UNSUPPORTED_VERSION,
+                        BinaryAddressBookStorage.FORMAT_VERSION + 1));
+    }
+
+    private void assertReadFails(BinaryAddressBookStorage storage, byte[] bytes, String message) throws Exception {
+        assertThrows(IllegalValueException.class, message, () -> BinaryAddressBookReader.read(ByteBuffer.wrap(bytes)));
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+}
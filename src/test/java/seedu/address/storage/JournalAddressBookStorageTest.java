@@ -0,0 +1,181 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.MATH_A1A;
+import static seedu.address.testutil.TypicalLessons.SCIENCE_B2B;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.LessonBuilder;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private AddressBook addressBook;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        addressBook = getTypicalAddressBook();
+        addressBook.addLesson(MATH_A1A);
+        addressBook.addLesson(SCIENCE_B2B);
+    }
+
+    @Test
+    public void read_missingFiles_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotOnly() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBook(addressBook));
+
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(addressBook, new JournalAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(0, journalLines(storage).size());
+    }
+
+    @Test
+    public void saveAddressBook_changesAfterRead_appendedToJournal() throws Exception {
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook current = new AddressBook(storage.readAddressBook().get());
+
+        current.setPerson(ALICE, new PersonBuilder(ALICE).withPhone("99999999").build());
+        current.removePerson(BENSON);
+        current.addPerson(HOON);
+        current.setLesson(MATH_A1A, new LessonBuilder(MATH_A1A)
+                .withAttendance(Map.of(LocalDate.of(2025, 1, 6), Set.of(new IdentificationNumber("S0000001"))))
+                .build());
+        storage.saveAddressBook(new AddressBook(current));
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertEquals(4, journalLines(storage).size());
+        assertEquals(current, new JournalAddressBookStorage(filePath).readAddressBook().get());
+
+        // saving unchanged data appends nothing
+        storage.saveAddressBook(new AddressBook(current));
+        assertEquals(4, journalLines(storage).size());
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_compacted() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 3, Long.MAX_VALUE);
+        AddressBook current = new AddressBook(addressBook);
+        storage.saveAddressBook(new AddressBook(current));
+
+        current.addPerson(HOON);
+        current.addPerson(IDA);
+        storage.saveAddressBook(new AddressBook(current));
+        assertEquals(2, journalLines(storage).size());
+
+        current.removePerson(ALICE);
+        storage.saveAddressBook(new AddressBook(current));
+        assertEquals(0, journalLines(storage).size());
+        assertEquals(current, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(current, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_insertedBeforeEnd_compacted() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(new AddressBook(addressBook));
+
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        persons.add(0, HOON);
+        AddressBook current = new AddressBook(addressBook);
+        current.setPersons(persons);
+        storage.saveAddressBook(new AddressBook(current));
+
+        assertEquals(0, journalLines(storage).size());
+        assertEquals(current, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_tornFinalEntry_dropped() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook current = new AddressBook(addressBook);
+        storage.saveAddressBook(new AddressBook(current));
+        current.addPerson(HOON);
+        storage.saveAddressBook(new AddressBook(current));
+        String tornEntry = journalLines(storage).get(0).substring(0, 20);
+        Files.writeString(storage.getJournalFilePath(), tornEntry, StandardOpenOption.APPEND);
+
+        JournalAddressBookStorage reopened = new JournalAddressBookStorage(filePath);
+        assertEquals(current, reopened.readAddressBook().get());
+
+        // the torn entry is overwritten by the next save
+        current.addPerson(IDA);
+        reopened.saveAddressBook(new AddressBook(current));
+        assertEquals(2, journalLines(reopened).size());
+        assertEquals(current, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_corruptedEntryBeforeEnd_throwsDataLoadingException() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook current = new AddressBook(addressBook);
+        storage.saveAddressBook(new AddressBook(current));
+        current.addPerson(HOON);
+        current.addPerson(IDA);
+        storage.saveAddressBook(new AddressBook(current));
+
+        List<String> lines = journalLines(storage);
+        Files.writeString(storage.getJournalFilePath(),
+                lines.get(0).replace("Hoon", "Hxon") + "\n" + lines.get(1) + "\n");
+        assertThrows(DataLoadingException.class, () -> new JournalAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_snapshotAlreadyHoldsJournal_sameData() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        AddressBook current = new AddressBook(addressBook);
+        storage.saveAddressBook(new AddressBook(current));
+        current.removePerson(ALICE);
+        current.addPerson(HOON);
+        storage.saveAddressBook(new AddressBook(current));
+
+        // as left by a crash after a compaction rewrote the snapshot, but before it emptied the journal
+        new JsonAddressBookStorage(filePath).saveAddressBook(current);
+        assertEquals(2, journalLines(storage).size());
+        assertEquals(current, new JournalAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    private static List<String> journalLines(JournalAddressBookStorage storage) throws Exception {
+        Path journalPath = storage.getJournalFilePath();
+        if (!Files.exists(journalPath)) {
+            return List.of();
+        }
+        return Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,141 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.getTypicalModelManager;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.person.Name;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), JsonAddressBookReader.read(TYPICAL_PERSONS_FILE));
+    }
+
+    @Test
+    @DisabledOnOs(OS.WINDOWS)
+    public void read_mapped_sameAsBuffered() throws Exception {
+        Path file = testFolder.resolve("addressBook.json");
+        Files.copy(TYPICAL_PERSONS_FILE, file);
+        assertEquals(JsonAddressBookReader.read(file, Long.MAX_VALUE), JsonAddressBookReader.read(file, 0));
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_lessonsBeforeOrAfterPersons_sameAsDataBinding() throws Exception {
+        AddressBook expected = new AddressBook(getTypicalModelManager().getAddressBook());
+        JsonSerializableAddressBook serializable = new JsonSerializableAddressBook(expected);
+
+        Path lessonsFirst = testFolder.resolve("lessonsFirst.json");
+        JsonUtil.saveJsonFile(serializable, lessonsFirst);
+        assertEquals(expected, JsonAddressBookReader.read(lessonsFirst));
+
+        Map<String, Object> personsFirst = new LinkedHashMap<>();
+        personsFirst.put("persons", serializable.getPersons());
+        personsFirst.put("ignored", Map.of("nested", new int[] {1, 2}));
+        personsFirst.put("lessons", serializable.getLessons());
+        Path personsFirstFile = testFolder.resolve("personsFirst.json");
+        JsonUtil.saveJsonFile(personsFirst, personsFirstFile);
+        assertEquals(expected, JsonAddressBookReader.read(personsFirstFile));
+        assertEquals(serializable.toModelType(), JsonAddressBookReader.read(personsFirstFile));
+    }
+
+    @Test
+    public void read_missingOrEmptyLists() throws Exception {
+        assertEquals(new AddressBook(), readString("{\"persons\": [], \"lessons\": null}"));
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_MISSING_PERSONS, () ->
+                readString("{\"lessons\": []}"));
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_MISSING_ENTRY, () ->
+                readString("{\"persons\": [null]}"));
+    }
+
+    @Test
+    public void read_errorsAcrossBatches_firstErrorInListReported() throws Exception {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            persons.add(createPerson(i, "Student " + toLetters(i)));
+        }
+        assertEquals(3000, readPersons(persons).getPersonList().size());
+
+        List<JsonAdaptedPerson> duplicateFirst = new ArrayList<>(persons);
+        duplicateFirst.set(1500, persons.get(0));
+        duplicateFirst.set(2500, createPerson(2500, "Student 2500"));
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                readPersons(duplicateFirst));
+
+        List<JsonAdaptedPerson> invalidFirst = new ArrayList<>(persons);
+        invalidFirst.set(1500, createPerson(1500, "Student 1500"));
+        invalidFirst.set(2500, persons.get(0));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> readPersons(invalidFirst));
+    }
+
+    @Test
+    public void read_notAnAddressBook_throwsIoException() {
+        assertThrows(IOException.class, () -> readString(""));
+        assertThrows(IOException.class, () -> readString("[]"));
+        assertThrows(IOException.class, () -> readString("{\"persons\": {}}"));
+        assertThrows(IOException.class, () -> readString("{\"persons\": [{\"id\": "));
+    }
+
+    private AddressBook readPersons(List<JsonAdaptedPerson> persons) throws Exception {
+        return readString(JsonUtil.toJsonString(new JsonSerializableAddressBook(persons, new ArrayList<>())));
+    }
+
+    private static JsonAdaptedPerson createPerson(int number, String name) {
+        return new JsonAdaptedPerson(new IdentificationNumber("S", number).getValue(), name, "student",
+                String.valueOf(80000000 + number), "s" + number + "@example.com", "Blk " + number, new ArrayList<>());
+    }
+
+    private static String toLetters(int number) {
+        StringBuilder letters = new StringBuilder();
+        do {
+            letters.append((char) ('a' + number % 26));
+            number /= 26;
+        } while (number > 0);
+        return letters.toString();
+    }
+
+    private AddressBook readString(String json) throws Exception {
+        Path file = testFolder.resolve("addressBook.json");
+        Files.writeString(file, json);
+        return JsonAddressBookReader.read(file);
+    }
+}
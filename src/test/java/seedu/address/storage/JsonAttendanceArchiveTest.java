@@ -0,0 +1,104 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.lesson.AttendanceRecord;
+import seedu.address.model.lesson.ClassName;
+import seedu.address.model.person.IdentificationNumber;
+
+public class JsonAttendanceArchiveTest {
+
+    private static final LocalDate TERM_ONE = LocalDate.of(2025, 1, 6);
+    private static final LocalDate TERM_TWO = LocalDate.of(2025, 4, 7);
+    private static final IdentificationNumber ALICE_ID = new IdentificationNumber("S0000001");
+    private static final IdentificationNumber BOB_ID = new IdentificationNumber("S0000002");
+    private static final ClassName MATH = new ClassName("A1a");
+    private static final ClassName SCIENCE = new ClassName("B1a");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAttendance_missingDirectory_returnsEmpty() throws Exception {
+        JsonAttendanceArchive archive = new JsonAttendanceArchive(testFolder.resolve("missing"));
+        assertTrue(archive.readAttendance(MATH, LocalDate.MIN, LocalDate.MAX).isEmpty());
+    }
+
+    @Test
+    public void writeSegment_thenRead_returnsArchivedAttendance() throws Exception {
+        Path directory = testFolder.resolve("archive");
+        Map<LocalDate, Set<IdentificationNumber>> math = Map.of(TERM_ONE, Set.of(ALICE_ID, BOB_ID),
+                TERM_ONE.plusDays(7), Set.of(BOB_ID), TERM_ONE.plusDays(14), Set.of());
+        new JsonAttendanceArchive(directory).writeSegment(Map.of(MATH, AttendanceRecord.of(math),
+                SCIENCE, AttendanceRecord.of(Map.of(TERM_ONE, Set.of(ALICE_ID))), new ClassName("C1a"),
+                AttendanceRecord.EMPTY));
+
+        // read from a new archive, as on the next launch
+        JsonAttendanceArchive archive = new JsonAttendanceArchive(directory);
+        assertEquals(math, archive.readAttendance(MATH, LocalDate.MIN, LocalDate.MAX));
+        assertEquals(Map.of(TERM_ONE.plusDays(7), Set.of(BOB_ID)),
+                archive.readAttendance(MATH, TERM_ONE.plusDays(1), TERM_ONE.plusDays(13)));
+        assertEquals(Map.of(TERM_ONE, Set.of(ALICE_ID)), archive.readAttendance(SCIENCE, TERM_ONE, TERM_ONE));
+        assertTrue(archive.readAttendance(new ClassName("C1a"), LocalDate.MIN, LocalDate.MAX).isEmpty());
+        assertTrue(archive.readAttendance(MATH, TERM_TWO, LocalDate.MAX).isEmpty());
+    }
+
+    @Test
+    public void writeSegment_emptyAttendance_writesNothing() throws Exception {
+        Path directory = testFolder.resolve("archive");
+        new JsonAttendanceArchive(directory).writeSegment(Map.of(MATH, AttendanceRecord.EMPTY));
+        assertFalse(Files.exists(directory));
+    }
+
+    @Test
+    public void readAttendance_dateArchivedTwice_takesLatestSegment() throws Exception {
+        Path directory = testFolder.resolve("archive");
+        JsonAttendanceArchive archive = new JsonAttendanceArchive(directory);
+        archive.writeSegment(Map.of(MATH, AttendanceRecord.of(Map.of(TERM_ONE, Set.of(ALICE_ID)))));
+        archive.writeSegment(Map.of(MATH, AttendanceRecord.of(Map.of(TERM_ONE, Set.of(BOB_ID),
+                TERM_TWO, Set.of(ALICE_ID)))));
+
+        Map<LocalDate, Set<IdentificationNumber>> expected = Map.of(TERM_ONE, Set.of(BOB_ID),
+                TERM_TWO, Set.of(ALICE_ID));
+        assertEquals(expected, archive.readAttendance(MATH, LocalDate.MIN, LocalDate.MAX));
+        assertEquals(expected, new JsonAttendanceArchive(directory).readAttendance(MATH, LocalDate.MIN,
+                LocalDate.MAX));
+    }
+
+    @Test
+    public void readAttendance_corruptSegment_onlyReadWhenInRange() throws Exception {
+        Path directory = testFolder.resolve("archive");
+        JsonAttendanceArchive archive = new JsonAttendanceArchive(directory);
+        archive.writeSegment(Map.of(MATH, AttendanceRecord.of(Map.of(TERM_ONE, Set.of(ALICE_ID)))));
+        archive.writeSegment(Map.of(MATH, AttendanceRecord.of(Map.of(TERM_TWO, Set.of(BOB_ID)))));
+
+        List<Path> segments;
+        try (Stream<Path> files = Files.list(directory)) {
+            segments = files.sorted().collect(Collectors.toList());
+        }
+        assertEquals(2, segments.size());
+        Files.writeString(segments.get(0), "{ \"lessons\": [ { \"className\": \"A1a\", \"students\": [], "
+                + "\"sessions\": [ { \"date\": \"2025-01-06\", \"present\": [ 3 ] } ] } ] }");
+
+        JsonAttendanceArchive reopened = new JsonAttendanceArchive(directory);
+        assertEquals(Map.of(TERM_TWO, Set.of(BOB_ID)), reopened.readAttendance(MATH, TERM_ONE.plusDays(1),
+                LocalDate.MAX));
+        assertThrows(DataLoadingException.class, () -> reopened.readAttendance(MATH, LocalDate.MIN, TERM_ONE));
+    }
+}
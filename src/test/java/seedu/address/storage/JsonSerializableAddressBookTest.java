@@ -2,15 +2,20 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.getTypicalModelManager;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.TypicalPersons;
 
 public class JsonSerializableAddressBookTest {
@@ -44,4 +49,39 @@ public class JsonSerializableAddressBookTest {
                 dataFromFile::toModelType);
     }
 
+    @Test
+    public void toModelType_manyEntries_sameAsTypical() throws Exception {
+        AddressBook expected = new AddressBook(getTypicalModelManager().getAddressBook());
+        for (int i = 0; i < 1000; i++) {
+            expected.addPerson(new PersonBuilder().withId(String.format("S%07d", 5000000 + i))
+                    .withEmail("student" + i + "@example.com").build());
+        }
+        assertEquals(expected, new JsonSerializableAddressBook(expected).toModelType());
+    }
+
+    @Test
+    public void toModelType_severalErrors_firstReported() {
+        List<JsonAdaptedPerson> persons = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            persons.add(new JsonAdaptedPerson(new PersonBuilder().withId(String.format("S%07d", i))
+                    .withEmail("student" + i + "@example.com").build()));
+        }
+        JsonAdaptedPerson invalidPerson = new JsonAdaptedPerson("S9999999", "R@chel", "Student", "91234567",
+                "rachel@example.com", "Block 1", List.of());
+
+        // a duplicate listed before an invalid person
+        List<JsonAdaptedPerson> duplicateFirst = new ArrayList<>(persons);
+        duplicateFirst.add(500, persons.get(0));
+        duplicateFirst.add(invalidPerson);
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonSerializableAddressBook(duplicateFirst, List.of()).toModelType());
+
+        // an invalid person listed before a duplicate
+        List<JsonAdaptedPerson> invalidFirst = new ArrayList<>(persons);
+        invalidFirst.add(500, invalidPerson);
+        invalidFirst.add(persons.get(0));
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                new JsonSerializableAddressBook(invalidFirst, List.of()).toModelType());
+    }
+
 }
@@ -0,0 +1,159 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalLessons.MATH_A1A;
+import static seedu.address.testutil.TypicalLessons.getTypicalModelManager;
+import static seedu.address.testutil.TypicalPersons.HOON;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.lesson.Lesson;
+import seedu.address.model.person.IdentificationNumber;
+import seedu.address.model.util.LessonCascadeUpdater;
+import seedu.address.testutil.LessonBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path directory;
+    private ModelManager model;
+
+    @BeforeEach
+    public void setUp() {
+        directory = testFolder.resolve("addressBook.shards");
+        model = getTypicalModelManager();
+    }
+
+    @Test
+    public void readAddressBook_missingManifest_emptyResult() throws Exception {
+        assertFalse(new ShardedAddressBookStorage(directory).readAddressBook().isPresent());
+        Files.createDirectories(directory);
+        assertFalse(new ShardedAddressBookStorage(directory).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        AddressBook original = new AddressBook(model.getAddressBook());
+        storage.saveAddressBook(original);
+        assertEquals(original, new ShardedAddressBookStorage(directory).readAddressBook().get());
+        // one file for every lesson, one for the persons and the manifest
+        assertEquals(original.getLessonList().size() + 2, shardFiles().size());
+
+        model.addPerson(HOON);
+        model.deleteLesson(model.getAddressBook().getLessonList().get(1));
+        AddressBook modified = new AddressBook(model.getAddressBook());
+        storage.saveAddressBook(modified);
+        assertEquals(modified, new ShardedAddressBookStorage(directory).readAddressBook().get());
+        assertEquals(modified.getLessonList().size() + 2, shardFiles().size());
+    }
+
+    @Test
+    public void saveAddressBook_attendanceMarked_onlyLessonRewritten() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(new AddressBook(model.getAddressBook()));
+        Set<String> before = shardFiles();
+
+        Lesson marked = new LessonBuilder(MATH_A1A)
+                .withAttendance(Map.of(LocalDate.of(2025, 1, 6), Set.of(new IdentificationNumber("S0000001"))))
+                .build();
+        model.setLesson(MATH_A1A, marked);
+        LessonCascadeUpdater.updateStudentsWithEditedLesson(model, MATH_A1A, marked);
+        AddressBook current = new AddressBook(model.getAddressBook());
+        storage.saveAddressBook(current);
+        Set<String> after = shardFiles();
+
+        Set<String> removed = before.stream().filter(file -> !after.contains(file)).collect(Collectors.toSet());
+        Set<String> added = after.stream().filter(file -> !before.contains(file)).collect(Collectors.toSet());
+        assertEquals(1, removed.size());
+        assertTrue(removed.iterator().next().startsWith("lesson-" + MATH_A1A.getClassName()));
+        assertEquals(1, added.size());
+        assertEquals(current, new ShardedAddressBookStorage(directory).readAddressBook().get());
+
+        // saving unchanged data rewrites nothing
+        byte[] manifest = Files.readAllBytes(storage.getManifestFilePath());
+        storage.saveAddressBook(new AddressBook(current));
+        assertEquals(after, shardFiles());
+        assertEquals(new String(manifest), new String(Files.readAllBytes(storage.getManifestFilePath())));
+    }
+
+    @Test
+    public void readAddressBook_saveInterruptedBeforeManifest_previousData() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        AddressBook original = new AddressBook(model.getAddressBook());
+        storage.saveAddressBook(original);
+
+        // shards written by a save that stopped before replacing the manifest are not read
+        Files.writeString(directory.resolve("persons-999.json"), "{\"persons\": ");
+        Files.writeString(directory.resolve("lesson-A1a-999.json"), "{\"className\": ");
+        ShardedAddressBookStorage restarted = new ShardedAddressBookStorage(directory);
+        assertEquals(original, restarted.readAddressBook().get());
+
+        // and are deleted by the next save
+        model.addPerson(HOON);
+        AddressBook current = new AddressBook(model.getAddressBook());
+        restarted.saveAddressBook(current);
+        assertFalse(shardFiles().contains("persons-999.json"));
+        assertFalse(shardFiles().contains("lesson-A1a-999.json"));
+        assertEquals(current, new ShardedAddressBookStorage(directory).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_damagedManifest_throwsDataLoadingException() throws Exception {
+        ShardedAddressBookStorage storage = new ShardedAddressBookStorage(directory);
+        storage.saveAddressBook(new AddressBook(model.getAddressBook()));
+        String lessonShard = shardFiles().stream().filter(file -> file.startsWith("lesson-")).findFirst().get();
+
+        Files.delete(directory.resolve(lessonShard));
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        JsonUtil.saveJsonFile(new JsonShardManifest(1, "../addressBook.json", List.of(), 0),
+                storage.getManifestFilePath());
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+
+        JsonUtil.saveJsonFile(new JsonShardManifest(ShardedAddressBookStorage.FORMAT_VERSION + 1, "persons-0.json",
+                List.of(), 1), storage.getManifestFilePath());
+        assertThrows(DataLoadingException.class, () -> storage.readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_untrackedDirectory_doesNotOverwriteListedShards() throws Exception {
+        AddressBook original = new AddressBook(model.getAddressBook());
+        new ShardedAddressBookStorage(directory).saveAddressBook(original);
+        Set<String> before = shardFiles();
+
+        model.addPerson(HOON);
+        AddressBook current = new AddressBook(model.getAddressBook());
+        new ShardedAddressBookStorage(directory).saveAddressBook(current);
+        Set<String> after = shardFiles();
+        before.remove(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        assertTrue(before.stream().noneMatch(after::contains));
+        assertEquals(current, new ShardedAddressBookStorage(directory).readAddressBook().get());
+    }
+
+    private Set<String> shardFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).collect(Collectors.toSet());
+        }
+    }
+}